@@ -0,0 +1,133 @@
+package com.java.oops.cache.benchmark;
+
+import com.java.oops.cache.types.AbstractCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shared state of the cache benchmarks.
+ *
+ * <pre>
+ * - The key trace and the read/write decisions are generated once per trial, keys are boxed
+ *   up front, so the measured loop only performs the cache operation.
+ * - Each benchmark thread walks the trace from its own random offset.
+ * - A read that misses populates the cache (cache-aside), a write overwrites the key.
+ * - Hits and misses are reported as JMH auxiliary counters next to the throughput.
+ * </pre>
+ *
+ * @author sathwick
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractCacheBenchmark {
+    static final int CAPACITY = 10_000;
+    private static final int KEY_SPACE = CAPACITY * 4;
+    private static final int SAMPLES = 1 << 20;
+    private static final int SAMPLE_MASK = SAMPLES - 1;
+
+    @Param({"LRU", "LFU", "FIFO", "W_TINY_LFU"})
+    public PolicyType policy;
+
+    @Param({"UNIFORM", "SKEWED", "ZIPF"})
+    public KeyDistribution distribution;
+
+    @Param({"50", "90", "100"})
+    public int readPercentage;
+
+    private AbstractCache<Integer, Integer> cache;
+    private Integer[] keys;
+    private boolean[] reads;
+
+    /**
+     * Returns the cache implementation under test.
+     *
+     * @return the cache type
+     */
+    protected abstract CacheType cacheType();
+
+    /**
+     * Builds the cache, the key trace and pre-fills the cache with the hottest part of the trace.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = cacheType().create(policy.create(CAPACITY), CAPACITY);
+        int[] trace = distribution.generate(SAMPLES, KEY_SPACE, 42L);
+        Integer[] boxed = new Integer[KEY_SPACE];
+        for (int i = 0; i < KEY_SPACE; i++) {
+            boxed[i] = i;
+        }
+        keys = new Integer[SAMPLES];
+        reads = new boolean[SAMPLES];
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < SAMPLES; i++) {
+            keys[i] = boxed[trace[i]];
+            reads[i] = random.nextInt(100) < readPercentage;
+        }
+        for (int i = 0; i < CAPACITY; i++) {
+            cache.put(keys[i], keys[i]);
+        }
+    }
+
+    /**
+     * Releases resources held by caches that own threads or direct memory.
+     *
+     * @throws Exception if closing the cache fails
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (cache instanceof AutoCloseable) {
+            ((AutoCloseable) cache).close();
+        }
+    }
+
+    /**
+     * Performs the next operation of the calling thread's trace.
+     *
+     * @param cursor per-thread position in the trace and hit / miss counters
+     * @return the value read or written, to defeat dead-code elimination
+     */
+    protected Object operation(ThreadCursor cursor) {
+        int index = cursor.index++ & SAMPLE_MASK;
+        Integer key = keys[index];
+        if (!reads[index]) {
+            cache.put(key, key);
+            return key;
+        }
+        Object value = cache.get(key).orElse(null);
+        if (value != null) {
+            cursor.hits++;
+        } else {
+            cursor.misses++;
+            cache.put(key, key);
+        }
+        return value;
+    }
+
+    /**
+     * Per-thread trace cursor whose public fields JMH reports as auxiliary counters.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCursor {
+        int index;
+        public long hits;
+        public long misses;
+
+        /**
+         * Starts each iteration at a random position of the trace and clears the counters.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            index = ThreadLocalRandom.current().nextInt(SAMPLES);
+            hits = 0;
+            misses = 0;
+        }
+    }
+}
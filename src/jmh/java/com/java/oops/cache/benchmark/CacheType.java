@@ -0,0 +1,74 @@
+package com.java.oops.cache.benchmark;
+
+import com.java.oops.cache.codec.JavaSerializationCodec;
+import com.java.oops.cache.eviction.EvictionPolicy;
+import com.java.oops.cache.types.AbstractCache;
+import com.java.oops.cache.types.InMemoryCache;
+import com.java.oops.cache.types.NullSafeCache;
+import com.java.oops.cache.types.concurrent.ConcurrentInMemoryCache;
+import com.java.oops.cache.types.offheap.OffHeapCache;
+import com.java.oops.cache.types.threadsafe.ReadHeavyThreadSafeCache;
+import com.java.oops.cache.types.threadsafe.WriteHeavyThreadSafeCache;
+import com.java.oops.cache.types.ttl.InMemoryTTLCache;
+
+/**
+ * Cache implementations and wrappers exercised by the benchmarks.
+ * Redis backed caches need a server and are not part of the matrix.
+ *
+ * @author sathwick
+ */
+public enum CacheType {
+    IN_MEMORY {
+        @Override
+        <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity) {
+            return new InMemoryCache<>(policy, capacity);
+        }
+    },
+    NULL_SAFE {
+        @Override
+        <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity) {
+            return new NullSafeCache<>(new InMemoryCache<>(policy, capacity));
+        }
+    },
+    IN_MEMORY_TTL {
+        @Override
+        <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity) {
+            return new InMemoryTTLCache<>(policy, capacity);
+        }
+    },
+    OFF_HEAP {
+        @Override
+        <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity) {
+            return new OffHeapCache<>(policy, capacity, 256L << 20, new JavaSerializationCodec<>());
+        }
+    },
+    CONCURRENT {
+        @Override
+        <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity) {
+            return new ConcurrentInMemoryCache<>(policy, capacity);
+        }
+    },
+    READ_HEAVY {
+        @Override
+        <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity) {
+            return new ReadHeavyThreadSafeCache<>(new InMemoryCache<>(policy, capacity));
+        }
+    },
+    WRITE_HEAVY {
+        @Override
+        <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity) {
+            return new WriteHeavyThreadSafeCache<>(new InMemoryCache<>(policy, capacity));
+        }
+    };
+
+    /**
+     * Creates a fresh cache instance.
+     *
+     * @param policy   eviction policy for the cache
+     * @param capacity maximum number of entries
+     * @param <K>      key type
+     * @param <V>      value type
+     * @return a new cache
+     */
+    abstract <K, V> AbstractCache<K, V> create(EvictionPolicy<K> policy, int capacity);
+}
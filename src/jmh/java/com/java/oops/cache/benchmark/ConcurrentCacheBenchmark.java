@@ -0,0 +1,76 @@
+package com.java.oops.cache.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput and latency percentiles of the thread-safe caches under contention.
+ * Each benchmark method runs the same read/write mix with a different number of threads.
+ * <p>
+ * READ_HEAVY and WRITE_HEAVY over {@code InMemoryCache} are left out: concurrent gets under the shared
+ * read lock (or different stripes) still mutate the delegate's map / eviction policy, which corrupts
+ * them and can hang the run. Their wrapper overhead is measured by {@link SingleThreadedCacheBenchmark}.
+ * </p>
+ *
+ * @author sathwick
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentCacheBenchmark extends AbstractCacheBenchmark {
+
+    @Param({"IN_MEMORY_TTL", "OFF_HEAP", "CONCURRENT"})
+    public CacheType cache;
+
+    @Override
+    protected CacheType cacheType() {
+        return cache;
+    }
+
+    /**
+     * Read/write mix with 4 threads.
+     *
+     * @param cursor per-thread trace cursor
+     * @return the value read or written
+     */
+    @Benchmark
+    @Threads(4)
+    public Object threads04(ThreadCursor cursor) {
+        return operation(cursor);
+    }
+
+    /**
+     * Read/write mix with 16 threads.
+     *
+     * @param cursor per-thread trace cursor
+     * @return the value read or written
+     */
+    @Benchmark
+    @Threads(16)
+    public Object threads16(ThreadCursor cursor) {
+        return operation(cursor);
+    }
+
+    /**
+     * Read/write mix with 32 threads.
+     *
+     * @param cursor per-thread trace cursor
+     * @return the value read or written
+     */
+    @Benchmark
+    @Threads(32)
+    public Object threads32(ThreadCursor cursor) {
+        return operation(cursor);
+    }
+}
@@ -0,0 +1,67 @@
+package com.java.oops.cache.benchmark;
+
+import org.apache.commons.math3.distribution.ZipfDistribution;
+import org.apache.commons.math3.random.Well19937c;
+
+import java.util.SplittableRandom;
+
+/**
+ * Key access distributions, generated up front so no randomness is computed inside the timed loop.
+ *
+ * @author sathwick
+ */
+public enum KeyDistribution {
+    /**
+     * Every key of the key space is equally likely.
+     */
+    UNIFORM {
+        @Override
+        int[] generate(int samples, int keySpace, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            int[] keys = new int[samples];
+            for (int i = 0; i < samples; i++) {
+                keys[i] = random.nextInt(keySpace);
+            }
+            return keys;
+        }
+    },
+    /**
+     * 80% of the accesses hit a hot set of 20% of the key space.
+     */
+    SKEWED {
+        @Override
+        int[] generate(int samples, int keySpace, long seed) {
+            SplittableRandom random = new SplittableRandom(seed);
+            int hotKeys = Math.max(1, keySpace / 5);
+            int[] keys = new int[samples];
+            for (int i = 0; i < samples; i++) {
+                keys[i] = random.nextInt(100) < 80 ? random.nextInt(hotKeys) : random.nextInt(keySpace);
+            }
+            return keys;
+        }
+    },
+    /**
+     * Zipf distributed popularity (exponent 1.0), the typical shape of production traffic.
+     */
+    ZIPF {
+        @Override
+        int[] generate(int samples, int keySpace, long seed) {
+            ZipfDistribution zipf = new ZipfDistribution(new Well19937c(seed), keySpace, 1.0);
+            int[] keys = new int[samples];
+            for (int i = 0; i < samples; i++) {
+                keys[i] = zipf.sample() - 1;
+            }
+            return keys;
+        }
+    };
+
+    /**
+     * Generates a sequence of key indexes.
+     *
+     * @param samples  number of keys to generate
+     * @param keySpace number of distinct keys
+     * @param seed     random seed, so every run replays the same trace
+     * @return key indexes in {@code [0, keySpace)}
+     */
+    abstract int[] generate(int samples, int keySpace, long seed);
+}
@@ -0,0 +1,48 @@
+package com.java.oops.cache.benchmark;
+
+import com.java.oops.cache.eviction.EvictionPolicy;
+import com.java.oops.cache.eviction.FIFOEvictionPolicy;
+import com.java.oops.cache.eviction.LFUEvictionPolicy;
+import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.eviction.WTinyLFUEvictionPolicy;
+
+/**
+ * Eviction policies exercised by the benchmarks.
+ *
+ * @author sathwick
+ */
+public enum PolicyType {
+    LRU {
+        @Override
+        <K> EvictionPolicy<K> create(int capacity) {
+            return new LRUEvictionPolicy<>(capacity);
+        }
+    },
+    LFU {
+        @Override
+        <K> EvictionPolicy<K> create(int capacity) {
+            return new LFUEvictionPolicy<>();
+        }
+    },
+    FIFO {
+        @Override
+        <K> EvictionPolicy<K> create(int capacity) {
+            return new FIFOEvictionPolicy<>();
+        }
+    },
+    W_TINY_LFU {
+        @Override
+        <K> EvictionPolicy<K> create(int capacity) {
+            return new WTinyLFUEvictionPolicy<>(capacity);
+        }
+    };
+
+    /**
+     * Creates a fresh policy instance.
+     *
+     * @param capacity capacity of the cache using the policy
+     * @param <K>      key type
+     * @return a new eviction policy
+     */
+    abstract <K> EvictionPolicy<K> create(int capacity);
+}
@@ -0,0 +1,46 @@
+package com.java.oops.cache.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single threaded cost of every cache implementation and wrapper, including the ones that are not thread-safe.
+ *
+ * @author sathwick
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class SingleThreadedCacheBenchmark extends AbstractCacheBenchmark {
+
+    @Param({"IN_MEMORY", "NULL_SAFE", "IN_MEMORY_TTL", "OFF_HEAP", "CONCURRENT", "READ_HEAVY", "WRITE_HEAVY"})
+    public CacheType cache;
+
+    @Override
+    protected CacheType cacheType() {
+        return cache;
+    }
+
+    /**
+     * One cache operation of the configured read/write mix.
+     *
+     * @param cursor per-thread trace cursor
+     * @return the value read or written
+     */
+    @Benchmark
+    public Object readWrite(ThreadCursor cursor) {
+        return operation(cursor);
+    }
+}
@@ -1,9 +1,16 @@
 package com.java.oops.cache.client;
 
+import com.java.oops.cache.eviction.ARCEvictionPolicy;
+import com.java.oops.cache.eviction.ClockEvictionPolicy;
 import com.java.oops.cache.eviction.EvictionPolicy;
 import com.java.oops.cache.eviction.FIFOEvictionPolicy;
 import com.java.oops.cache.eviction.LFUEvictionPolicy;
 import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.eviction.S3FIFOEvictionPolicy;
+import com.java.oops.cache.eviction.SampledEvictionPolicy;
+import com.java.oops.cache.eviction.SieveEvictionPolicy;
+import com.java.oops.cache.eviction.WTinyLFUEvictionPolicy;
+import com.java.oops.cache.stats.CacheStats;
 import com.java.oops.cache.types.InMemoryCache;
 import org.apache.commons.math3.distribution.ZipfDistribution;
 import org.slf4j.Logger;
@@ -44,13 +51,24 @@ class InMemoryCachePerformanceTest {
         capacity = 4;
         testPerformances(capacity, requests);
 
+        logger.info("\n\n\nTesting cache performance with phasedRequestsGenerator\n\n\n");
+        testPerformances(300, phasedRequestsGenerator(numOfRequests, 300, 5));
     }
 
     private static void testPerformances(int capacity, int[] requests) {
-        // Test with LRU, LFU, FIFO policies
+        // Test with LRU, LFU, FIFO, W-TinyLFU, ARC, CLOCK, SIEVE, S3-FIFO and sampled LRU / LFU policies
         testCachePerformance(new LRUEvictionPolicy<>(capacity), capacity, requests, "LRU");
         testCachePerformance(new LFUEvictionPolicy<>(), capacity, requests, "LFU");
         testCachePerformance(new FIFOEvictionPolicy<>(), capacity, requests, "FIFO");
+        testCachePerformance(new WTinyLFUEvictionPolicy<>(capacity), capacity, requests, "W-TinyLFU");
+        testCachePerformance(new ARCEvictionPolicy<>(capacity), capacity, requests, "ARC");
+        testCachePerformance(new ClockEvictionPolicy<>(capacity), capacity, requests, "CLOCK");
+        testCachePerformance(new SieveEvictionPolicy<>(capacity), capacity, requests, "SIEVE");
+        testCachePerformance(new S3FIFOEvictionPolicy<>(capacity), capacity, requests, "S3-FIFO");
+        testCachePerformance(new SampledEvictionPolicy<>(capacity, SampledEvictionPolicy.Mode.LRU), capacity, requests,
+                "Sampled LRU");
+        testCachePerformance(new SampledEvictionPolicy<>(capacity, SampledEvictionPolicy.Mode.LFU), capacity, requests,
+                "Sampled LFU");
     }
 
     private static void testCachePerformance(EvictionPolicy<Integer> policy, int capacity, int[] requests, String policyName) {
@@ -59,15 +77,16 @@ class InMemoryCachePerformanceTest {
         logger.info("Testing cache performance with {} eviction policy.", policyName);
 
         for (int key : requests) {
-            cache.put(key, "Value_" + key);
+            if (cache.get(key).isEmpty()) {
+                cache.put(key, "Value_" + key);
+            }
         }
 
-        double hitRate = ((double) cache.getHitCount() / requests.length) * 100;
-        double missRate = ((double) cache.getMissCount() / requests.length) * 100;
-
+        CacheStats stats = cache.stats();
         logger.info("Results for {} eviction policy:", policyName);
-        logger.info("Hit Rate: {}", hitRate);
-        logger.info("Miss Rate: {}\n", missRate);
+        logger.info("Hit Rate: {}", stats.hitRate() * 100);
+        logger.info("Miss Rate: {}", stats.missRate() * 100);
+        logger.info("{}\n", stats);
     }
 
     private static int[] randomRequestsGenerator(int numOfRequests, int keySpace) {
@@ -99,6 +118,36 @@ class InMemoryCachePerformanceTest {
         return requests;
     }
 
+    /**
+     * Alternates recency-heavy phases (a sliding window of session keys, each reused a few times shortly
+     * after its first request, then never again) with frequency-heavy phases (a Zipf distribution over a
+     * fixed catalog, mixed with one-time scan keys). A policy tuned for one kind of phase loses in the other.
+     */
+    private static int[] phasedRequestsGenerator(int numOfRequests, int capacity, int phases) {
+        Random random = new Random(42);
+        ZipfDistribution zipf = new ZipfDistribution(capacity * 5, 1.0);
+        int[] requests = new int[numOfRequests];
+        int phaseLength = numOfRequests / phases;
+        int nextSessionKey = 1_000_000;
+        int nextScanKey = 2_000_000;
+        for (int i = 0; i < numOfRequests; i++) {
+            boolean recencyPhase = (i / phaseLength) % 2 == 0;
+            if (recencyPhase) {
+                // sessions: a new key every 4 requests, the others reuse one of the last capacity / 2 sessions
+                if (i % 4 == 0) {
+                    requests[i] = ++nextSessionKey;
+                } else {
+                    requests[i] = nextSessionKey - random.nextInt(Math.min(capacity / 2, nextSessionKey - 1_000_000));
+                }
+            } else if (random.nextInt(100) < 20) {
+                requests[i] = ++nextScanKey;
+            } else {
+                requests[i] = zipf.sample();
+            }
+        }
+        return requests;
+    }
+
     private static int[] zipFlanRequestsGenerator(int numOfRequests, int keySpace) {
         int[] requests = new int[numOfRequests];
         ZipfDistribution zipf = new ZipfDistribution(keySpace, 1.1); // 1.2 is the skew factor
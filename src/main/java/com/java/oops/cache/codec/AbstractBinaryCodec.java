@@ -0,0 +1,36 @@
+package com.java.oops.cache.codec;
+
+/**
+ * Base class of codecs that write into a {@link BinaryOutput}.
+ * <p>
+ * {@link #encode(Object)} encodes into the calling thread's pooled buffer and copies the result out once,
+ * so subclasses only implement {@link #encodeTo(Object, BinaryOutput)} and {@code decode}.
+ *
+ * @param <T> the type of objects handled by this codec
+ * @author sathwick
+ */
+public abstract class AbstractBinaryCodec<T> implements CacheCodec<T> {
+
+    /**
+     * Encodes the value through the thread's pooled buffer.
+     *
+     * @param value the value to encode
+     * @return the encoded bytes
+     */
+    @Override
+    public byte[] encode(T value) {
+        try (BinaryOutput out = BinaryOutput.pooled()) {
+            encodeTo(value, out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Writes the encoded value to the output.
+     *
+     * @param value the value to encode
+     * @param out   the output to append to
+     */
+    @Override
+    public abstract void encodeTo(T value, BinaryOutput out);
+}
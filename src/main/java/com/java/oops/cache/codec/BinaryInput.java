@@ -0,0 +1,160 @@
+package com.java.oops.cache.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads the format written by {@link BinaryOutput} from a {@link ByteBuffer}, advancing its position.
+ *
+ * <p>Reading past the limit of the buffer throws a {@link CodecException}.</p>
+ *
+ * @author sathwick
+ */
+public final class BinaryInput {
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates an input over the remaining bytes of the buffer.
+     *
+     * @param buffer buffer positioned at the first byte to read
+     */
+    public BinaryInput(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the number of bytes left to read.
+     *
+     * @return remaining bytes
+     */
+    public int remaining() {
+        return buffer.remaining();
+    }
+
+    /**
+     * Reads a single byte.
+     *
+     * @return the byte
+     */
+    public byte readByte() {
+        require(1);
+        return buffer.get();
+    }
+
+    /**
+     * Reads a boolean written as one byte.
+     *
+     * @return the boolean
+     */
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    /**
+     * Reads raw bytes.
+     *
+     * @param length number of bytes to read
+     * @return the bytes
+     */
+    public byte[] readBytes(int length) {
+        require(length);
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Reads a varint length followed by that many bytes.
+     *
+     * @return the bytes
+     */
+    public byte[] readLengthPrefixed() {
+        return readBytes(readUnsignedVarInt());
+    }
+
+    /**
+     * Reads a string written as a varint byte length followed by UTF-8 bytes.
+     *
+     * @return the string
+     */
+    public String readString() {
+        int length = readUnsignedVarInt();
+        require(length);
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a 4 byte big-endian int.
+     *
+     * @return the int
+     */
+    public int readInt() {
+        require(Integer.BYTES);
+        return buffer.getInt();
+    }
+
+    /**
+     * Reads an 8 byte big-endian long.
+     *
+     * @return the long
+     */
+    public long readLong() {
+        require(Long.BYTES);
+        return buffer.getLong();
+    }
+
+    /**
+     * Reads a double written as its 8 byte IEEE 754 representation.
+     *
+     * @return the double
+     */
+    public double readDouble() {
+        return Double.longBitsToDouble(readLong());
+    }
+
+    /**
+     * Reads an unsigned varint.
+     *
+     * @return the int
+     */
+    public int readUnsignedVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = readByte();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new CodecException("Malformed varint");
+    }
+
+    /**
+     * Reads a zig-zag encoded varint long.
+     *
+     * @return the long
+     */
+    public long readVarLong() {
+        long zigZag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            byte b = readByte();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new CodecException("Malformed varlong");
+    }
+
+    private void require(int length) {
+        if (length < 0 || buffer.remaining() < length) {
+            throw new CodecException("Truncated input: needed " + length + " bytes, " + buffer.remaining() + " left");
+        }
+    }
+}
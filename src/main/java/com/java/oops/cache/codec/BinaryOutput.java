@@ -0,0 +1,257 @@
+package com.java.oops.cache.codec;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Growable byte sink codecs encode into, reused across calls on the same thread.
+ *
+ * <pre>
+ * - {@link #pooled()} hands out the calling thread's buffer, reset to empty; close it (try-with-resources)
+ *   to give it back. A nested {@code pooled()} call while the thread's buffer is in use gets a fresh one.
+ * - The buffer grows by doubling and is shrunk back on release when it grew above 64 KiB, so a single
+ *   huge value does not pin memory for the life of the thread.
+ * - Fixed width numbers are big-endian; variable length ones use LEB128 varints (zig-zag for signed longs).
+ * - Strings and byte arrays are written length-prefixed with a varint.
+ * </pre>
+ *
+ * <p>Not thread-safe; a buffer belongs to the thread that acquired it.</p>
+ *
+ * @author sathwick
+ */
+public final class BinaryOutput implements AutoCloseable {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<BinaryOutput> POOL = ThreadLocal.withInitial(() -> new BinaryOutput(true));
+
+    private final boolean pooled;
+    private byte[] buffer;
+    private int size;
+    private boolean inUse;
+
+    private BinaryOutput(boolean pooled) {
+        this.pooled = pooled;
+        this.buffer = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Creates a standalone, non pooled buffer.
+     */
+    public BinaryOutput() {
+        this(false);
+    }
+
+    /**
+     * Returns the calling thread's reusable buffer, empty.
+     *
+     * @return a buffer to close once its content has been consumed
+     */
+    public static BinaryOutput pooled() {
+        BinaryOutput output = POOL.get();
+        if (output.inUse) {
+            return new BinaryOutput(false);
+        }
+        output.inUse = true;
+        output.size = 0;
+        return output;
+    }
+
+    /**
+     * Gives a pooled buffer back to its thread; no-op for standalone buffers.
+     */
+    @Override
+    public void close() {
+        if (pooled) {
+            inUse = false;
+            if (buffer.length > MAX_RETAINED_CAPACITY) {
+                buffer = new byte[INITIAL_CAPACITY];
+            }
+        }
+    }
+
+    /**
+     * Returns the number of bytes written.
+     *
+     * @return size in bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Copies the written bytes into a new array.
+     *
+     * @return the encoded bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    /**
+     * Returns a read-only view of the written bytes, valid until the buffer is written to or released.
+     *
+     * @return buffer positioned at the first byte, limited to the written size
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buffer, 0, size).asReadOnlyBuffer();
+    }
+
+    /**
+     * Copies the written bytes into the target at an absolute index, without moving its position.
+     *
+     * @param target destination buffer
+     * @param index  index of the first byte in the destination
+     */
+    public void copyTo(ByteBuffer target, int index) {
+        target.put(index, buffer, 0, size);
+    }
+
+    /**
+     * Returns an output stream appending to this buffer, for codecs built on stream APIs.
+     *
+     * @return output stream view of this buffer
+     */
+    public OutputStream asOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                writeByte(b);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                writeBytes(bytes, offset, length);
+            }
+        };
+    }
+
+    /**
+     * Writes a single byte.
+     *
+     * @param value byte to write (low 8 bits)
+     */
+    public void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Writes a boolean as one byte.
+     *
+     * @param value boolean to write
+     */
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes raw bytes, without length prefix.
+     *
+     * @param bytes  source array
+     * @param offset first byte to write
+     * @param length number of bytes to write
+     */
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    /**
+     * Writes raw bytes, without length prefix.
+     *
+     * @param bytes bytes to write
+     */
+    public void writeBytes(byte[] bytes) {
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Writes a varint length followed by the bytes.
+     *
+     * @param bytes bytes to write
+     */
+    public void writeLengthPrefixed(byte[] bytes) {
+        writeUnsignedVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    /**
+     * Writes a string as a varint byte length followed by its UTF-8 bytes.
+     *
+     * @param value string to write
+     */
+    public void writeString(String value) {
+        writeLengthPrefixed(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes a 4 byte big-endian int.
+     *
+     * @param value int to write
+     */
+    public void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        buffer[size++] = (byte) (value >>> 24);
+        buffer[size++] = (byte) (value >>> 16);
+        buffer[size++] = (byte) (value >>> 8);
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Writes an 8 byte big-endian long.
+     *
+     * @param value long to write
+     */
+    public void writeLong(long value) {
+        writeInt((int) (value >>> 32));
+        writeInt((int) value);
+    }
+
+    /**
+     * Writes a double as its 8 byte IEEE 754 representation.
+     *
+     * @param value double to write
+     */
+    public void writeDouble(double value) {
+        writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Writes a non-negative int in 1 to 5 bytes, 7 bits per byte.
+     *
+     * @param value int to write, treated as unsigned
+     */
+    public void writeUnsignedVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[size++] = (byte) value;
+    }
+
+    /**
+     * Writes a long zig-zag encoded in 1 to 10 bytes, so small negative values stay short.
+     *
+     * @param value long to write
+     */
+    public void writeVarLong(long value) {
+        ensureCapacity(10);
+        long zigZag = (value << 1) ^ (value >> 63);
+        while ((zigZag & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        buffer[size++] = (byte) zigZag;
+    }
+
+    private void ensureCapacity(int extra) {
+        int required = size + extra;
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length << 1));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.java.oops.cache.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Converts cache keys / values to and from their binary representation.
+ * <p>
+ * Used by caches that keep data outside the Java heap or outside the process
+ * (off-heap slabs, Redis) so the serialization format can be chosen per type.
+ * Implementations must be thread-safe.
+ * <pre>
+ * Built-in codecs:
+ * - {@link StringCodec}: raw UTF-8, readable by any client.
+ * - {@link PrimitiveCodecs}: fixed width big-endian numbers and booleans.
+ * - {@link CompactBinaryCodec}: user defined layout of length-prefixed fields.
+ * - {@link JavaSerializationCodec}: any Serializable type, slow and bulky; the fallback.
+ * </pre>
+ * Codecs extending {@link AbstractBinaryCodec} write into the thread's pooled {@link BinaryOutput}
+ * instead of allocating intermediate streams.
+ *
+ * @param <T> the type of objects handled by this codec
+ * @author sathwick
+ */
+public interface CacheCodec<T> {
+    /**
+     * Encodes the value into a new byte array.
+     *
+     * @param value the value to encode
+     * @return the encoded bytes
+     * @throws CodecException if the value cannot be encoded
+     */
+    byte[] encode(T value);
+
+    /**
+     * Appends the encoded value to the output. Callers holding a pooled buffer use it to avoid
+     * allocating an intermediate array; by default the result of {@link #encode(Object)} is copied.
+     *
+     * @param value the value to encode
+     * @param out   the output to append to
+     * @throws CodecException if the value cannot be encoded
+     */
+    default void encodeTo(T value, BinaryOutput out) {
+        out.writeBytes(encode(value));
+    }
+
+    /**
+     * Decodes a value from the remaining bytes of the buffer.
+     *
+     * @param buffer buffer positioned at the encoded bytes; its limit marks the end of the value
+     * @return the decoded value
+     * @throws CodecException if the bytes cannot be decoded
+     */
+    T decode(ByteBuffer buffer);
+
+    /**
+     * Decodes a value from a byte array.
+     *
+     * @param bytes the encoded bytes
+     * @return the decoded value
+     * @throws CodecException if the bytes cannot be decoded
+     */
+    default T decode(byte[] bytes) {
+        return decode(ByteBuffer.wrap(bytes));
+    }
+}
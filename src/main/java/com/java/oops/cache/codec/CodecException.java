@@ -0,0 +1,29 @@
+package com.java.oops.cache.codec;
+
+/**
+ * Unchecked exception thrown when a {@link CacheCodec} fails to encode or decode.
+ *
+ * @author sathwick
+ */
+public class CodecException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the exception with a message and its cause.
+     *
+     * @param message description of the failure
+     * @param cause   the underlying exception
+     */
+    public CodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Creates the exception with a message.
+     *
+     * @param message description of the failure
+     */
+    public CodecException(String message) {
+        super(message);
+    }
+}
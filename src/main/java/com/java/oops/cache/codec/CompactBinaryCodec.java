@@ -0,0 +1,98 @@
+package com.java.oops.cache.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec for user types laid out field by field in a compact binary format.
+ * <p>
+ * The caller describes how to write and read a value with {@link BinaryOutput} / {@link BinaryInput}:
+ * strings and byte arrays are length-prefixed with a varint, integers can be written as varints, and
+ * no class descriptor or field name is stored. For example:
+ * <pre>
+ * CacheCodec&lt;User&gt; codec = new CompactBinaryCodec&lt;&gt;(
+ *         (user, out) -&gt; { out.writeVarLong(user.getId()); out.writeString(user.getName()); },
+ *         in -&gt; new User(in.readVarLong(), in.readString()));
+ * </pre>
+ * Evolving the layout is up to the caller, e.g. by writing a version byte first.
+ *
+ * @param <T> the type of objects handled by this codec
+ * @author sathwick
+ */
+public class CompactBinaryCodec<T> extends AbstractBinaryCodec<T> {
+    private final Writer<T> writer;
+    private final Reader<T> reader;
+
+    /**
+     * Creates the codec.
+     *
+     * @param writer writes the fields of a value
+     * @param reader reads the fields back, in the same order
+     */
+    public CompactBinaryCodec(Writer<T> writer, Reader<T> reader) {
+        if (writer == null || reader == null) {
+            throw new NullPointerException("Writer and reader cannot be null");
+        }
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    /**
+     * Writes the value with the configured writer.
+     *
+     * @param value the value to encode
+     * @param out   the output to append to
+     */
+    @Override
+    public void encodeTo(T value, BinaryOutput out) {
+        writer.write(value, out);
+    }
+
+    /**
+     * Reads the value with the configured reader.
+     *
+     * @param buffer buffer positioned at the encoded value
+     * @return the decoded value
+     */
+    @Override
+    public T decode(ByteBuffer buffer) {
+        try {
+            return reader.read(new BinaryInput(buffer));
+        } catch (CodecException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CodecException("Failed to decode value", e);
+        }
+    }
+
+    /**
+     * Writes the fields of a value.
+     *
+     * @param <T> the type of objects written
+     */
+    @FunctionalInterface
+    public interface Writer<T> {
+        /**
+         * Writes the value.
+         *
+         * @param value the value to write
+         * @param out   the output to append to
+         */
+        void write(T value, BinaryOutput out);
+    }
+
+    /**
+     * Reads the fields of a value.
+     *
+     * @param <T> the type of objects read
+     */
+    @FunctionalInterface
+    public interface Reader<T> {
+        /**
+         * Reads the value.
+         *
+         * @param in the input positioned at the value
+         * @return the value
+         */
+        T read(BinaryInput in);
+    }
+}
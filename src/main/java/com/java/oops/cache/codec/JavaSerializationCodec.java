@@ -0,0 +1,62 @@
+package com.java.oops.cache.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Codec based on {@link ObjectOutputStream} / {@link ObjectInputStream}.
+ * <p>
+ * Works for any {@link java.io.Serializable} type but produces large payloads carrying class
+ * descriptors; prefer a dedicated codec for hot paths.
+ *
+ * @param <T> the type of objects handled by this codec
+ * @author sathwick
+ */
+public class JavaSerializationCodec<T> extends AbstractBinaryCodec<T> {
+
+    /**
+     * Serializes the value with Java serialization.
+     *
+     * @param value the value to encode, must be Serializable
+     * @param out   the output to append to
+     */
+    @Override
+    public void encodeTo(T value, BinaryOutput out) {
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(out.asOutputStream())) {
+            objectOut.writeObject(value);
+        } catch (IOException e) {
+            throw new CodecException("Failed to serialize value of type " + value.getClass().getName(), e);
+        }
+    }
+
+    /**
+     * Deserializes the value with Java serialization.
+     *
+     * @param buffer buffer positioned at the serialized bytes
+     * @return the deserialized value
+     */
+    @Override
+    public T decode(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            T value = decode(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+            buffer.position(buffer.limit());
+            return value;
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return decode(bytes, 0, bytes.length);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T decode(byte[] bytes, int offset, int length) {
+        try (ByteArrayInputStream bis = new ByteArrayInputStream(bytes, offset, length);
+             ObjectInputStream in = new ObjectInputStream(bis)) {
+            return (T) in.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CodecException("Failed to deserialize value", e);
+        }
+    }
+}
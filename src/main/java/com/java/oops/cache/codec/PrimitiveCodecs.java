@@ -0,0 +1,80 @@
+package com.java.oops.cache.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codecs for boxed primitives, written as fixed width big-endian values.
+ *
+ * <pre>
+ * - INTEGER: 4 bytes
+ * - LONG:    8 bytes
+ * - DOUBLE:  8 bytes, IEEE 754
+ * - BOOLEAN: 1 byte
+ * </pre>
+ *
+ * @author sathwick
+ */
+public final class PrimitiveCodecs {
+    /**
+     * Codec writing an int in 4 bytes.
+     */
+    public static final CacheCodec<Integer> INTEGER = new AbstractBinaryCodec<>() {
+        @Override
+        public void encodeTo(Integer value, BinaryOutput out) {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer decode(ByteBuffer buffer) {
+            return new BinaryInput(buffer).readInt();
+        }
+    };
+
+    /**
+     * Codec writing a long in 8 bytes.
+     */
+    public static final CacheCodec<Long> LONG = new AbstractBinaryCodec<>() {
+        @Override
+        public void encodeTo(Long value, BinaryOutput out) {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            return new BinaryInput(buffer).readLong();
+        }
+    };
+
+    /**
+     * Codec writing a double in 8 bytes.
+     */
+    public static final CacheCodec<Double> DOUBLE = new AbstractBinaryCodec<>() {
+        @Override
+        public void encodeTo(Double value, BinaryOutput out) {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double decode(ByteBuffer buffer) {
+            return new BinaryInput(buffer).readDouble();
+        }
+    };
+
+    /**
+     * Codec writing a boolean in 1 byte.
+     */
+    public static final CacheCodec<Boolean> BOOLEAN = new AbstractBinaryCodec<>() {
+        @Override
+        public void encodeTo(Boolean value, BinaryOutput out) {
+            out.writeBoolean(value);
+        }
+
+        @Override
+        public Boolean decode(ByteBuffer buffer) {
+            return new BinaryInput(buffer).readBoolean();
+        }
+    };
+
+    private PrimitiveCodecs() {
+    }
+}
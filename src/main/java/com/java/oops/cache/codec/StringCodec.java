@@ -0,0 +1,64 @@
+package com.java.oops.cache.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes strings as raw UTF-8 bytes, without any header.
+ * <p>
+ * Meant for keys: they stay human readable in {@code redis-cli} and can be shared with services
+ * written in other languages.
+ *
+ * @author sathwick
+ */
+public final class StringCodec implements CacheCodec<String> {
+    /**
+     * Shared instance; the codec is stateless.
+     */
+    public static final StringCodec INSTANCE = new StringCodec();
+
+    private StringCodec() {
+    }
+
+    /**
+     * Returns the UTF-8 bytes of the string.
+     *
+     * @param value the string to encode
+     * @return UTF-8 bytes
+     */
+    @Override
+    public byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the remaining bytes of the buffer as UTF-8.
+     *
+     * @param buffer buffer positioned at the encoded string
+     * @return the string
+     */
+    @Override
+    public String decode(ByteBuffer buffer) {
+        int length = buffer.remaining();
+        if (buffer.hasArray()) {
+            String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.limit());
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes the array as UTF-8.
+     *
+     * @param bytes UTF-8 bytes
+     * @return the string
+     */
+    @Override
+    public String decode(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
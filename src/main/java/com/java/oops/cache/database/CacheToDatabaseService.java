@@ -1,5 +1,9 @@
 package com.java.oops.cache.database;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Interface representing a basic persistent storage service.
  *
@@ -15,6 +19,25 @@ public interface CacheToDatabaseService<K,V>{
      */
     V load(K key);
 
+    /**
+     * Loads the data of several keys from persistent storage.
+     * Implementations should override it with a single query (e.g. {@code WHERE id IN (...)});
+     * by default every key is loaded on its own.
+     *
+     * @param keys Keys identifying the data to load
+     * @return Data loaded from storage by key; keys not found are absent from the map
+     */
+    default Map<K, V> loadAll(Collection<K> keys) {
+        Map<K, V> loaded = new HashMap<>();
+        for (K key : keys) {
+            V value = load(key);
+            if (value != null) {
+                loaded.put(key, value);
+            }
+        }
+        return loaded;
+    }
+
     /**
      * Saves data into persistent storage with given key-value pair.
      *
@@ -23,10 +46,13 @@ public interface CacheToDatabaseService<K,V>{
      */
     void save(K key,V val);
 
-    // @TODO
-
     /**
      * Bulk save data into persistent storage.
+     * Implementations should override it with a single batched statement; by default every entry is saved on its own.
+     *
+     * @param entries key-value pairs to save
      */
-    void bulkSave();
+    default void bulkSave(Map<K, V> entries) {
+        entries.forEach(this::save);
+    }
 }
@@ -0,0 +1,210 @@
+package com.java.oops.cache.database;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Decorator of {@link CacheToDatabaseService} making sure a single load per key is in flight at any time.
+ *
+ * <pre>
+ * - The first caller missing a key (the leader) registers a future for it and runs the load on its own thread.
+ * - Every concurrent caller for the same key waits on that future, up to the configured timeout,
+ *   instead of querying the database again.
+ * - The future is unregistered as soon as the load completes, so later misses load fresh data.
+ * - A failed load is rethrown to the leader and to every waiter.
+ * - loadAll joins the loads in flight for some of its keys and leads a single bulk load for the others.
+ * </pre>
+ *
+ * <p>
+ * Since every {@code CachingStrategy} loads through a {@link CacheToDatabaseService}, wrapping the
+ * service is enough to protect the database from a stampede when a hot key expires:
+ * <pre>
+ * new ReadThroughStrategy&lt;&gt;(cache, new CoalescingCacheToDatabaseService&lt;&gt;(service, Duration.ofSeconds(2)));
+ * </pre>
+ *
+ * @param <K> Type of primary key used in storage operations
+ * @param <V> Type of data stored/retrieved from storage
+ * @author sathwick
+ */
+@Slf4j
+public class CoalescingCacheToDatabaseService<K, V> implements CacheToDatabaseService<K, V> {
+    private static final Duration DEFAULT_LOAD_TIMEOUT = Duration.ofSeconds(10);
+
+    private final CacheToDatabaseService<K, V> delegate;
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlightLoads;
+    @Getter
+    private final Duration loadTimeout;
+
+    /**
+     * Creates the decorator.
+     *
+     * @param delegate    the service actually querying the database
+     * @param loadTimeout how long a caller waits for a load started by another caller
+     */
+    public CoalescingCacheToDatabaseService(CacheToDatabaseService<K, V> delegate, Duration loadTimeout) {
+        if (delegate == null || loadTimeout == null) {
+            throw new NullPointerException("Delegate service and load timeout cannot be null");
+        }
+        if (loadTimeout.isNegative() || loadTimeout.isZero()) {
+            throw new IllegalArgumentException("Load timeout must be positive");
+        }
+        this.delegate = delegate;
+        this.loadTimeout = loadTimeout;
+        this.inFlightLoads = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Creates the decorator waiting at most 10 seconds for a load started by another caller.
+     *
+     * @param delegate the service actually querying the database
+     */
+    public CoalescingCacheToDatabaseService(CacheToDatabaseService<K, V> delegate) {
+        this(delegate, DEFAULT_LOAD_TIMEOUT);
+    }
+
+    /**
+     * Loads the key, joining the load already in flight for it if there is one.
+     *
+     * @param key Key identifying the data to load
+     * @return Data loaded from storage or null if not found
+     * @throws CompletionException if waiting for another caller's load timed out or was interrupted
+     */
+    @Override
+    public V load(K key) {
+        CompletableFuture<V> ownLoad = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = inFlightLoads.putIfAbsent(key, ownLoad);
+        if (inFlight == null) {
+            return loadAsLeader(key, ownLoad);
+        }
+        log.debug("Joining the load already in flight for key: {}", key);
+        return await(key, inFlight);
+    }
+
+    /**
+     * Loads the keys, joining the loads already in flight for some of them and loading all the others
+     * with a single {@link CacheToDatabaseService#loadAll(Collection)} call of the delegate.
+     * The bulk load runs before waiting on other callers, so two overlapping batches never wait on each other.
+     *
+     * @param keys Keys identifying the data to load
+     * @return Data loaded from storage by key; keys not found are absent from the map
+     * @throws CompletionException if waiting for another caller's load timed out or was interrupted
+     */
+    @Override
+    public Map<K, V> loadAll(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> ownLoads = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> joinedLoads = new LinkedHashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            CompletableFuture<V> ownLoad = new CompletableFuture<>();
+            CompletableFuture<V> inFlight = inFlightLoads.putIfAbsent(key, ownLoad);
+            if (inFlight == null) {
+                ownLoads.put(key, ownLoad);
+            } else {
+                joinedLoads.put(key, inFlight);
+            }
+        }
+        Map<K, V> result = new HashMap<>();
+        if (!ownLoads.isEmpty()) {
+            result.putAll(loadAllAsLeader(ownLoads));
+        }
+        if (!joinedLoads.isEmpty()) {
+            log.debug("Joining the loads already in flight for {} keys", joinedLoads.size());
+        }
+        for (Map.Entry<K, CompletableFuture<V>> joined : joinedLoads.entrySet()) {
+            V value = await(joined.getKey(), joined.getValue());
+            if (value != null) {
+                result.put(joined.getKey(), value);
+            }
+        }
+        return result;
+    }
+
+    private V await(K key, CompletableFuture<V> inFlight) {
+        try {
+            return inFlight.get(loadTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new CompletionException(e.getCause());
+        } catch (TimeoutException e) {
+            log.warn("Timed out after {} ms waiting for the load of key: {}", loadTimeout.toMillis(), key);
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Saves through the delegate. A load in flight for the key is detached so the next miss
+     * does not join a load that may have read the previous value.
+     *
+     * @param key Primary identifier of the data
+     * @param val Data value to save into persistent storage
+     */
+    @Override
+    public void save(K key, V val) {
+        delegate.save(key, val);
+        inFlightLoads.remove(key);
+    }
+
+    /**
+     * Bulk saves through the delegate, detaching the in-flight loads of the saved keys.
+     *
+     * @param entries key-value pairs to save
+     */
+    @Override
+    public void bulkSave(Map<K, V> entries) {
+        delegate.bulkSave(entries);
+        entries.keySet().forEach(inFlightLoads::remove);
+    }
+
+    /**
+     * Returns the number of loads currently in flight.
+     *
+     * @return number of keys being loaded
+     */
+    public int inFlightLoadCount() {
+        return inFlightLoads.size();
+    }
+
+    private Map<K, V> loadAllAsLeader(Map<K, CompletableFuture<V>> ownLoads) {
+        try {
+            Map<K, V> loaded = delegate.loadAll(new ArrayList<>(ownLoads.keySet()));
+            ownLoads.forEach((key, ownLoad) -> ownLoad.complete(loaded.get(key)));
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            ownLoads.values().forEach(ownLoad -> ownLoad.completeExceptionally(e));
+            throw e;
+        } finally {
+            ownLoads.forEach(inFlightLoads::remove);
+        }
+    }
+
+    private V loadAsLeader(K key, CompletableFuture<V> ownLoad) {
+        try {
+            V value = delegate.load(key);
+            ownLoad.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            ownLoad.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, ownLoad);
+        }
+    }
+}
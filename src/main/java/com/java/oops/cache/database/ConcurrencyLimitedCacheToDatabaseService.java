@@ -0,0 +1,206 @@
+package com.java.oops.cache.database;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Decorator of {@link CacheToDatabaseService} bounding how many database calls run at the same time.
+ *
+ * <pre>
+ * - Every load / loadAll / save / bulkSave takes a permit of a fair semaphore and gives it back when
+ *   the call returns.
+ * - The limit protects the database, not a thread pool: callers can run on as many (virtual) threads as
+ *   needed, the ones above the limit simply wait for a permit.
+ * - A caller waiting longer than {@code maxPermitWait} gets a {@link RejectedExecutionException}, so a
+ *   latency spike of the database turns into fast failures instead of an ever growing backlog.
+ * - {@link #metrics()} reports the calls in flight, the callers waiting and the permit wait times.
+ * </pre>
+ *
+ * @param <K> Type of primary key used in storage operations
+ * @param <V> Type of data stored/retrieved from storage
+ * @author sathwick
+ */
+@Slf4j
+public class ConcurrencyLimitedCacheToDatabaseService<K, V> implements CacheToDatabaseService<K, V> {
+    private static final Duration DEFAULT_MAX_PERMIT_WAIT = Duration.ofSeconds(10);
+
+    private final CacheToDatabaseService<K, V> delegate;
+    private final Semaphore permits;
+    @Getter
+    private final int maxConcurrentCalls;
+    @Getter
+    private final Duration maxPermitWait;
+    private final LongAdder completedCalls = new LongAdder();
+    private final LongAdder rejectedCalls = new LongAdder();
+    private final LongAdder totalPermitWaitNanos = new LongAdder();
+    private final AtomicLong maxPermitWaitNanos = new AtomicLong();
+
+    /**
+     * Creates the decorator.
+     *
+     * @param delegate           the service actually querying the database
+     * @param maxConcurrentCalls maximum number of database calls running at the same time
+     * @param maxPermitWait      how long a caller waits for a permit before being rejected
+     */
+    public ConcurrencyLimitedCacheToDatabaseService(CacheToDatabaseService<K, V> delegate, int maxConcurrentCalls,
+                                                    Duration maxPermitWait) {
+        if (delegate == null || maxPermitWait == null) {
+            throw new NullPointerException("Delegate service and max permit wait cannot be null");
+        }
+        if (maxConcurrentCalls <= 0) {
+            throw new IllegalArgumentException("Max concurrent calls must be positive");
+        }
+        if (maxPermitWait.isNegative()) {
+            throw new IllegalArgumentException("Max permit wait cannot be negative");
+        }
+        this.delegate = delegate;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxPermitWait = maxPermitWait;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+    }
+
+    /**
+     * Creates the decorator waiting at most 10 seconds for a permit.
+     *
+     * @param delegate           the service actually querying the database
+     * @param maxConcurrentCalls maximum number of database calls running at the same time
+     */
+    public ConcurrencyLimitedCacheToDatabaseService(CacheToDatabaseService<K, V> delegate, int maxConcurrentCalls) {
+        this(delegate, maxConcurrentCalls, DEFAULT_MAX_PERMIT_WAIT);
+    }
+
+    /**
+     * Loads the key once a permit is available.
+     *
+     * @param key Key identifying the data to load
+     * @return Data loaded from storage or null if not found
+     * @throws RejectedExecutionException if no permit was available within the max permit wait
+     */
+    @Override
+    public V load(K key) {
+        return withPermit(() -> delegate.load(key));
+    }
+
+    /**
+     * Loads the keys with a single permit.
+     *
+     * @param keys Keys identifying the data to load
+     * @return Data loaded from storage by key; keys not found are absent from the map
+     * @throws RejectedExecutionException if no permit was available within the max permit wait
+     */
+    @Override
+    public Map<K, V> loadAll(Collection<K> keys) {
+        return withPermit(() -> delegate.loadAll(keys));
+    }
+
+    /**
+     * Saves the value once a permit is available.
+     *
+     * @param key Primary identifier of the data
+     * @param val Data value to save into persistent storage
+     * @throws RejectedExecutionException if no permit was available within the max permit wait
+     */
+    @Override
+    public void save(K key, V val) {
+        withPermit(() -> {
+            delegate.save(key, val);
+            return null;
+        });
+    }
+
+    /**
+     * Saves the entries with a single permit.
+     *
+     * @param entries key-value pairs to save
+     * @throws RejectedExecutionException if no permit was available within the max permit wait
+     */
+    @Override
+    public void bulkSave(Map<K, V> entries) {
+        withPermit(() -> {
+            delegate.bulkSave(entries);
+            return null;
+        });
+    }
+
+    /**
+     * Returns a snapshot of the database concurrency.
+     *
+     * @return concurrency metrics
+     */
+    public Metrics metrics() {
+        long completed = completedCalls.sum();
+        return new Metrics(maxConcurrentCalls - permits.availablePermits(), permits.getQueueLength(),
+                maxConcurrentCalls, completed, rejectedCalls.sum(),
+                completed == 0 ? 0 : totalPermitWaitNanos.sum() / completed, maxPermitWaitNanos.get());
+    }
+
+    private <T> T withPermit(Supplier<T> call) {
+        long waitStart = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(maxPermitWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                rejectedCalls.increment();
+                log.warn("No database permit within {} ms, {} calls in flight", maxPermitWait.toMillis(),
+                        maxConcurrentCalls);
+                throw new RejectedExecutionException("Database concurrency limit of " + maxConcurrentCalls
+                        + " reached for " + maxPermitWait.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectedCalls.increment();
+            throw new RejectedExecutionException("Interrupted while waiting for a database permit", e);
+        }
+        long waitNanos = System.nanoTime() - waitStart;
+        totalPermitWaitNanos.add(waitNanos);
+        maxPermitWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+            completedCalls.increment();
+        }
+    }
+
+    /**
+     * Point in time view of the database concurrency.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Metrics {
+        private final int inFlightCalls;
+        private final int waitingCallers;
+        private final int maxConcurrentCalls;
+        private final long completedCalls;
+        private final long rejectedCalls;
+        private final long meanPermitWaitNanos;
+        private final long maxPermitWaitNanos;
+
+        /**
+         * Returns the share of the permits currently in use.
+         *
+         * @return utilization between 0.0 and 1.0
+         */
+        public double utilization() {
+            return (double) inFlightCalls / maxConcurrentCalls;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Metrics{inFlight=%d, waiting=%d, maxConcurrent=%d, completed=%d, rejected=%d, "
+                            + "meanPermitWait=%dus, maxPermitWait=%dus}", inFlightCalls, waitingCallers,
+                    maxConcurrentCalls, completedCalls, rejectedCalls, meanPermitWaitNanos / 1_000,
+                    maxPermitWaitNanos / 1_000);
+        }
+    }
+}
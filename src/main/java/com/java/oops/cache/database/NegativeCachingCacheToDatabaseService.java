@@ -0,0 +1,253 @@
+package com.java.oops.cache.database;
+
+import com.java.oops.cache.types.ttl.AbstractTTLCache;
+import com.java.oops.cache.types.ttl.InMemoryTTLCache;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorator of {@link CacheToDatabaseService} remembering the keys the database does not have.
+ *
+ * <pre>
+ * - A load returning null marks the key as absent for {@code negativeTtl}, usually much shorter than the TTL
+ *   of the cached values. Until the mark expires, loads of the key return null without querying the database.
+ * - The caching strategies never cache a null (and {@code NullSafeCache} drops them), so without this
+ *   decorator every lookup of a missing id, e.g. bots probing random ids, goes to the database.
+ * - Absent keys are kept in their own bounded TTL cache holding a single shared marker value, so a mark
+ *   costs one key and one expiry, never a value, and probing many ids cannot grow the memory unbounded:
+ *   past {@code maxAbsentKeys} the least recently probed marks are evicted.
+ * - save / bulkSave clear the marks of the saved keys. Once the delegate wrote them they bump a generation
+ *   counter (striped by key hash); a load only marks its key if that generation did not move while it ran,
+ *   and drops the mark if it moved while marking, so a load racing with a save never marks the saved key.
+ * - loadAll only sends the unmarked keys to the database and marks the keys it did not return.
+ * </pre>
+ *
+ * <p>
+ * Combine it with the other decorators so marked keys skip them too:
+ * <pre>
+ * new NegativeCachingCacheToDatabaseService&lt;&gt;(new CoalescingCacheToDatabaseService&lt;&gt;(service),
+ *         Duration.ofSeconds(30), 100_000);
+ * </pre>
+ *
+ * @param <K> Type of primary key used in storage operations
+ * @param <V> Type of data stored/retrieved from storage
+ * @author sathwick
+ */
+@Slf4j
+public class NegativeCachingCacheToDatabaseService<K, V> implements CacheToDatabaseService<K, V>, AutoCloseable {
+    private static final Boolean ABSENT = Boolean.TRUE;
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final CacheToDatabaseService<K, V> delegate;
+    private final AbstractTTLCache<K, Boolean> absentKeys;
+    private final boolean ownsAbsentKeys;
+    @Getter
+    private final Duration negativeTtl;
+    private final AtomicLongArray saveGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final LongAdder negativeHits = new LongAdder();
+
+    /**
+     * Creates the decorator with its own LRU store of absent keys.
+     *
+     * @param delegate      the service actually querying the database
+     * @param negativeTtl   how long a key the database does not have is remembered as absent
+     * @param maxAbsentKeys maximum number of absent keys remembered
+     */
+    public NegativeCachingCacheToDatabaseService(CacheToDatabaseService<K, V> delegate, Duration negativeTtl,
+                                                 int maxAbsentKeys) {
+        this(delegate, negativeTtl, absentKeysStore(maxAbsentKeys), true);
+    }
+
+    /**
+     * Creates the decorator over an existing store of absent keys, which stays owned by the caller.
+     *
+     * @param delegate    the service actually querying the database
+     * @param negativeTtl how long a key the database does not have is remembered as absent
+     * @param absentKeys  TTL cache remembering the absent keys
+     */
+    public NegativeCachingCacheToDatabaseService(CacheToDatabaseService<K, V> delegate, Duration negativeTtl,
+                                                 AbstractTTLCache<K, Boolean> absentKeys) {
+        this(delegate, negativeTtl, absentKeys, false);
+    }
+
+    private NegativeCachingCacheToDatabaseService(CacheToDatabaseService<K, V> delegate, Duration negativeTtl,
+                                                  AbstractTTLCache<K, Boolean> absentKeys, boolean ownsAbsentKeys) {
+        if (delegate == null || negativeTtl == null) {
+            throw new NullPointerException("Delegate service and negative TTL cannot be null");
+        }
+        if (negativeTtl.isNegative() || negativeTtl.isZero()) {
+            throw new IllegalArgumentException("Negative TTL must be positive");
+        }
+        if (absentKeys == null) {
+            throw new NullPointerException("Absent keys cache cannot be null");
+        }
+        this.delegate = delegate;
+        this.negativeTtl = negativeTtl;
+        this.absentKeys = absentKeys;
+        this.ownsAbsentKeys = ownsAbsentKeys;
+    }
+
+    /**
+     * Returns null right away for a key marked absent; otherwise loads it and marks it if the database
+     * does not have it.
+     *
+     * @param key Key identifying the data to load
+     * @return Data loaded from storage or null if not found
+     */
+    @Override
+    public V load(K key) {
+        if (absentKeys.get(key).isPresent()) {
+            negativeHits.increment();
+            log.debug("Key: {} is known to be absent from DB", key);
+            return null;
+        }
+        long generation = generation(key);
+        V value = delegate.load(key);
+        if (value == null) {
+            markAbsent(key, generation);
+        }
+        return value;
+    }
+
+    /**
+     * Loads the keys not marked absent with a single call of the delegate and marks the ones it did not return.
+     *
+     * @param keys Keys identifying the data to load
+     * @return Data loaded from storage by key; keys not found are absent from the map
+     */
+    @Override
+    public Map<K, V> loadAll(Collection<K> keys) {
+        List<K> unmarked = new ArrayList<>(keys.size());
+        int marked = 0;
+        for (Map.Entry<K, Optional<Boolean>> mark : absentKeys.getAll(keys).entrySet()) {
+            if (mark.getValue().isPresent()) {
+                marked++;
+            } else {
+                unmarked.add(mark.getKey());
+            }
+        }
+        if (marked > 0) {
+            negativeHits.add(marked);
+            log.debug("{} of {} keys are known to be absent from DB", marked, keys.size());
+        }
+        if (unmarked.isEmpty()) {
+            return new HashMap<>();
+        }
+        long[] generations = new long[unmarked.size()];
+        for (int i = 0; i < generations.length; i++) {
+            generations[i] = generation(unmarked.get(i));
+        }
+        Map<K, V> loaded = delegate.loadAll(unmarked);
+        for (int i = 0; i < generations.length; i++) {
+            K key = unmarked.get(i);
+            if (!loaded.containsKey(key)) {
+                markAbsent(key, generations[i]);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Saves through the delegate and clears the absent mark of the key.
+     *
+     * @param key Primary identifier of the data
+     * @param val Data value to save into persistent storage
+     */
+    @Override
+    public void save(K key, V val) {
+        try {
+            delegate.save(key, val);
+        } finally {
+            // after the write, so a load that read the row before it cannot mark the key
+            saveGenerations.incrementAndGet(stripe(key));
+            absentKeys.evict(key);
+        }
+    }
+
+    /**
+     * Bulk saves through the delegate and clears the absent marks of the saved keys.
+     *
+     * @param entries key-value pairs to save
+     */
+    @Override
+    public void bulkSave(Map<K, V> entries) {
+        try {
+            delegate.bulkSave(entries);
+        } finally {
+            entries.keySet().forEach(key -> saveGenerations.incrementAndGet(stripe(key)));
+            absentKeys.evictAll(entries.keySet());
+        }
+    }
+
+    /**
+     * Forgets that the key is absent, e.g. after it was inserted into the database by another application.
+     *
+     * @param key Primary identifier of the data
+     */
+    public void invalidate(K key) {
+        absentKeys.evict(key);
+    }
+
+    /**
+     * Returns how many loads were answered from the absent marks without querying the database.
+     *
+     * @return loads saved by negative caching
+     */
+    public long negativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    /**
+     * Stops the store of absent keys if it was created by this decorator.
+     */
+    @Override
+    public void close() {
+        if (ownsAbsentKeys) {
+            // an owned store is always the InMemoryTTLCache built by absentKeysStore
+            ((InMemoryTTLCache<K, Boolean>) absentKeys).close();
+        }
+    }
+
+    /**
+     * Marks the key absent unless it was saved since {@code generation} was read.
+     */
+    private void markAbsent(K key, long generation) {
+        if (generation(key) != generation) {
+            log.debug("Key: {} was saved while it was loaded, not marking it absent", key);
+            return;
+        }
+        absentKeys.put(key, ABSENT, negativeTtl);
+        if (generation(key) != generation) {
+            // a save finished while marking, its eviction may have run before the mark was put
+            absentKeys.evict(key);
+            return;
+        }
+        log.debug("Marked key: {} absent for {} ms", key, negativeTtl.toMillis());
+    }
+
+    private long generation(K key) {
+        return saveGenerations.get(stripe(key));
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private static <K> InMemoryTTLCache<K, Boolean> absentKeysStore(int maxAbsentKeys) {
+        if (maxAbsentKeys <= 0) {
+            throw new IllegalArgumentException("Max absent keys must be positive");
+        }
+        return new InMemoryTTLCache<>(maxAbsentKeys);
+    }
+}
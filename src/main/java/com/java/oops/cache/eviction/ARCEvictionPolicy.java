@@ -0,0 +1,166 @@
+package com.java.oops.cache.eviction;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * Adaptive Replacement Cache (ARC) eviction policy.
+ *
+ * <pre>
+ * Resident keys are split in two LRU lists, each backed by a ghost list remembering the keys it evicted last:
+ * - T1 : keys seen once recently (recency).         B1 : ghosts of the keys evicted from T1.
+ * - T2 : keys seen at least twice (frequency).      B2 : ghosts of the keys evicted from T2.
+ *
+ * The adaptive target p is the size T1 should have:
+ * - a miss on a key found in B1 means T1 was too small: p grows (by |B2| / |B1|, at least 1);
+ * - a miss on a key found in B2 means T2 was too small: p shrinks (by |B1| / |B2|, at least 1);
+ * - the key then re-enters the cache in T2, any other new key enters T1, and any hit moves the key to T2.
+ * On eviction the LRU key of T1 goes when T1 exceeds p, otherwise the LRU key of T2; its ghost is kept.
+ *
+ * The split therefore follows the workload: recency-heavy phases grow T1, frequency-heavy phases grow T2,
+ * and a scan of one-time keys only ever displaces T1.
+ * Ghosts hold keys only and are bounded so that |T1| + |B1| &lt;= capacity and all four lists &lt;= 2 * capacity.
+ * </pre>
+ *
+ * <p>
+ * Based on Megiddo and Modha, "ARC: A Self-Tuning, Low Overhead Replacement Cache" (FAST 2003).
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this policy
+ * @author sathwick
+ */
+@Slf4j
+public class ARCEvictionPolicy<K> implements EvictionPolicy<K> {
+    private final int capacity;
+    private final LinkedHashSet<K> t1 = new LinkedHashSet<>();
+    private final LinkedHashSet<K> t2 = new LinkedHashSet<>();
+    private final LinkedHashSet<K> b1 = new LinkedHashSet<>();
+    private final LinkedHashSet<K> b2 = new LinkedHashSet<>();
+    private int targetT1Size;
+    private K pendingCandidate;
+
+    /**
+     * Constructs an ARC policy.
+     *
+     * @param capacity Maximum number of keys held by the cache.
+     */
+    public ARCEvictionPolicy(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Records access of a key: a hit moves it to T2, a ghost hit adapts the target and brings it back in T2,
+     * any other key enters T1.
+     *
+     * @param key Key accessed.
+     */
+    @Override
+    public void recordAccess(K key) {
+        if (t1.remove(key) || t2.remove(key)) {
+            t2.add(key);
+        } else if (b1.remove(key)) {
+            int delta = Math.max(1, b2.size() / (b1.size() + 1));
+            targetT1Size = Math.min(capacity, targetT1Size + delta);
+            t2.add(key);
+            log.debug("Ghost hit in B1 for key '{}', target T1 size raised to {}", key, targetT1Size);
+        } else if (b2.remove(key)) {
+            int delta = Math.max(1, b1.size() / (b2.size() + 1));
+            targetT1Size = Math.max(0, targetT1Size - delta);
+            t2.add(key);
+            log.debug("Ghost hit in B2 for key '{}', target T1 size lowered to {}", key, targetT1Size);
+        } else {
+            t1.add(key);
+            trimGhosts();
+        }
+        if (key.equals(pendingCandidate)) {
+            pendingCandidate = null;
+        }
+        log.trace("Recorded access for key '{}': T1={}, T2={}, B1={}, B2={}, p={}",
+                key, t1.size(), t2.size(), b1.size(), b2.size(), targetT1Size);
+    }
+
+    /**
+     * Admits every key. The key is remembered so that the eviction made on its behalf can apply the
+     * ARC tie-break, which prefers evicting from T1 when the incoming key is a ghost of T2.
+     *
+     * @param candidate the key that is about to be inserted
+     * @return always {@code true}
+     */
+    @Override
+    public boolean admit(K candidate) {
+        pendingCandidate = candidate;
+        return true;
+    }
+
+    /**
+     * Evicts the LRU key of T1 if T1 exceeds its target, otherwise the LRU key of T2, and keeps its ghost.
+     *
+     * @return The evicted key, or null if the policy tracks no keys.
+     */
+    @Override
+    public K evict() {
+        if (t1.isEmpty() && t2.isEmpty()) {
+            log.info("Eviction requested but ARC policy is empty.");
+            return null;
+        }
+        boolean candidateInB2 = pendingCandidate != null && b2.contains(pendingCandidate);
+        pendingCandidate = null;
+        K evicted;
+        if (!t1.isEmpty() && (t1.size() > targetT1Size || (candidateInB2 && t1.size() == targetT1Size)
+                || t2.isEmpty())) {
+            evicted = removeFirst(t1);
+            b1.add(evicted);
+            log.debug("Evicted key '{}' from T1 (|T1|={}, p={}).", evicted, t1.size() + 1, targetT1Size);
+        } else {
+            evicted = removeFirst(t2);
+            b2.add(evicted);
+            log.debug("Evicted key '{}' from T2 (|T1|={}, p={}).", evicted, t1.size(), targetT1Size);
+        }
+        trimGhosts();
+        return evicted;
+    }
+
+    /**
+     * Evicts a specific key from the resident lists. No ghost is kept since the key was not evicted for space.
+     *
+     * @param key The key to evict.
+     */
+    @Override
+    public void evict(K key) {
+        if (t1.remove(key) || t2.remove(key)) {
+            log.info("Evicted specific key '{}' from ARC policy.", key);
+        } else {
+            log.debug("Eviction requested for non-existent key '{}'.", key);
+        }
+    }
+
+    /**
+     * Returns the adaptive target size of T1.
+     *
+     * @return target number of recency keys, between 0 and the capacity
+     */
+    public int getTargetT1Size() {
+        return targetT1Size;
+    }
+
+    private void trimGhosts() {
+        while (t1.size() + b1.size() > capacity && !b1.isEmpty()) {
+            removeFirst(b1);
+        }
+        while (t1.size() + t2.size() + b1.size() + b2.size() > 2 * capacity && !b2.isEmpty()) {
+            removeFirst(b2);
+        }
+    }
+
+    private static <K> K removeFirst(LinkedHashSet<K> list) {
+        Iterator<K> iterator = list.iterator();
+        K first = iterator.next();
+        iterator.remove();
+        return first;
+    }
+}
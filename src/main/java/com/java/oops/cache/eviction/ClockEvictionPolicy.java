@@ -0,0 +1,162 @@
+package com.java.oops.cache.eviction;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * CLOCK (second chance) eviction policy, an approximation of LRU whose hits never reorder anything.
+ *
+ * <pre>
+ * - Every tracked key owns a slot of a circular array, found through a {@link ConcurrentHashMap}.
+ * - A hit only sets the visited bit of the key's slot: no list pointer moves, no lock is taken, so reads
+ *   can record their hits concurrently (see {@link #tryRecordAccessLockFree(Object)}).
+ * - On eviction the hand sweeps the array: a visited key gets its bit cleared and a second chance,
+ *   the first key found unvisited is evicted and its slot reused by the next new key.
+ * - New keys start unvisited, so a key read only once leaves on the first sweep reaching it.
+ * - Inserts and evictions are serialized on the policy; the array grows if a cache briefly tracks
+ *   more keys than its capacity.
+ * </pre>
+ *
+ * <p>
+ * The policy is thread-safe. A lock-free hit racing with the eviction of its key may mark the key reusing
+ * the slot instead; like a lossy read buffer, this only slightly skews the order of the next evictions.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this policy
+ * @author sathwick
+ */
+@Slf4j
+public class ClockEvictionPolicy<K> implements EvictionPolicy<K> {
+    private final ConcurrentHashMap<K, Integer> slotByKey;
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private volatile Object[] keys;
+    private volatile AtomicIntegerArray visited;
+    private int usedSlots;
+    private int hand;
+
+    /**
+     * Constructs a CLOCK policy.
+     *
+     * @param capacity Maximum number of keys held by the cache.
+     */
+    public ClockEvictionPolicy(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.slotByKey = new ConcurrentHashMap<>(capacity);
+        this.keys = new Object[capacity];
+        this.visited = new AtomicIntegerArray(capacity);
+    }
+
+    /**
+     * Marks a tracked key as visited, or inserts a new key unvisited.
+     *
+     * @param key Key accessed.
+     */
+    @Override
+    public void recordAccess(K key) {
+        if (tryRecordAccessLockFree(key)) {
+            return;
+        }
+        synchronized (this) {
+            if (slotByKey.containsKey(key)) {
+                tryRecordAccessLockFree(key);
+                return;
+            }
+            int slot = freeSlots.isEmpty() ? nextUnusedSlot() : freeSlots.pop();
+            keys[slot] = key;
+            visited.set(slot, 0);
+            slotByKey.put(key, slot);
+            log.trace("Inserted key '{}' in slot {}", key, slot);
+        }
+    }
+
+    /**
+     * Sets the visited bit of a tracked key without locking.
+     *
+     * @param key the key that was read
+     * @return {@code true} if the key is tracked and was marked, {@code false} if it is not tracked yet
+     */
+    @Override
+    public boolean tryRecordAccessLockFree(K key) {
+        Integer slot = slotByKey.get(key);
+        if (slot == null) {
+            return false;
+        }
+        AtomicIntegerArray bits = visited;
+        // read before writing so that hot keys do not keep invalidating the cache line
+        if (slot < bits.length() && bits.get(slot) == 0) {
+            bits.lazySet(slot, 1);
+        }
+        return true;
+    }
+
+    /**
+     * Advances the hand, clearing visited bits, up to the first unvisited key and evicts it.
+     *
+     * @return The evicted key, or null if the policy tracks no keys.
+     */
+    @Override
+    public synchronized K evict() {
+        if (slotByKey.isEmpty()) {
+            log.info("Eviction requested but CLOCK policy is empty.");
+            return null;
+        }
+        while (true) {
+            int slot = hand;
+            hand = (hand + 1) % usedSlots;
+            @SuppressWarnings("unchecked")
+            K key = (K) keys[slot];
+            if (key == null) {
+                continue;
+            }
+            if (visited.get(slot) == 1) {
+                visited.set(slot, 0);
+                continue;
+            }
+            release(key, slot);
+            log.debug("Evicted key '{}' from slot {}.", key, slot);
+            return key;
+        }
+    }
+
+    /**
+     * Evicts a specific key, freeing its slot.
+     *
+     * @param key The key to evict.
+     */
+    @Override
+    public synchronized void evict(K key) {
+        Integer slot = slotByKey.get(key);
+        if (slot != null) {
+            release(key, slot);
+            log.info("Evicted specific key '{}' from CLOCK policy.", key);
+        } else {
+            log.debug("Eviction requested for non-existent key '{}'.", key);
+        }
+    }
+
+    private void release(K key, int slot) {
+        slotByKey.remove(key);
+        keys[slot] = null;
+        freeSlots.push(slot);
+    }
+
+    private int nextUnusedSlot() {
+        if (usedSlots == keys.length) {
+            int newLength = keys.length * 2;
+            AtomicIntegerArray grownVisited = new AtomicIntegerArray(newLength);
+            for (int i = 0; i < usedSlots; i++) {
+                grownVisited.set(i, visited.get(i));
+            }
+            keys = Arrays.copyOf(keys, newLength);
+            visited = grownVisited;
+            log.debug("Grew CLOCK slots to {}", newLength);
+        }
+        return usedSlots++;
+    }
+}
@@ -25,4 +25,35 @@ public interface EvictionPolicy<K> {
      * @param key of type K
      */
     void evict(K key);
+
+    /**
+     * Decides whether a key that is not resident yet may be inserted into a full cache.
+     * <p>
+     * Caches ask for admission before evicting on behalf of a new key; when the candidate is
+     * rejected the write is dropped and the resident keys are left untouched. Policies without an
+     * admission filter admit everything.
+     * </p>
+     *
+     * @param candidate the key that is about to be inserted
+     * @return {@code true} to admit the key, {@code false} to reject it
+     */
+    default boolean admit(K candidate) {
+        return true;
+    }
+
+    /**
+     * Records a hit on a key the policy already tracks, from any thread and without external locking.
+     * <p>
+     * Concurrent caches call it on their read path before falling back to their usual synchronization.
+     * Policies whose hits reorder shared structures (LRU, LFU) cannot support it and return {@code false};
+     * policies whose hits only set a flag (CLOCK, SIEVE) record the hit and return {@code true}.
+     * </p>
+     *
+     * @param key the key that was read
+     * @return {@code true} if the hit was recorded, {@code false} if the caller must record it with
+     *         {@link #recordAccess(Object)} under its own synchronization
+     */
+    default boolean tryRecordAccessLockFree(K key) {
+        return false;
+    }
 }
@@ -2,8 +2,8 @@ package com.java.oops.cache.eviction;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 
 /**
  * FIFO (First-In-First-Out) Eviction Policy implementation.
@@ -11,6 +11,9 @@ import java.util.Queue;
  * <p>This policy evicts keys in the exact order they were added,
  * regardless of their access frequency or recency.</p>
  *
+ * <p>Keys are kept in a {@link LinkedHashSet}, so recording, evicting the oldest key and
+ * evicting a specific key are all O(1).</p>
+ *
  * @param <K> Key type.
  * @author sathwick
  */
@@ -18,15 +21,15 @@ import java.util.Queue;
 public class FIFOEvictionPolicy<K> implements EvictionPolicy<K> {
 
     /**
-     * Queue to maintain insertion order of keys.
+     * Set maintaining the insertion order of keys.
      */
-    private final Queue<K> queue;
+    private final LinkedHashSet<K> queue;
 
     /**
      * Constructs a FIFO Eviction Policy instance.
      */
     public FIFOEvictionPolicy() {
-        this.queue = new LinkedList<>();
+        this.queue = new LinkedHashSet<>();
     }
 
     /**
@@ -39,8 +42,7 @@ public class FIFOEvictionPolicy<K> implements EvictionPolicy<K> {
      */
     @Override
     public void recordAccess(K key) {
-        if (!queue.contains(key)) {
-            queue.offer(key);
+        if (queue.add(key)) {
             log.trace("Key recorded: {}. Current queue state: {}", key, queue);
         } else {
             log.trace("Key {} already present. No action taken.", key);
@@ -54,11 +56,13 @@ public class FIFOEvictionPolicy<K> implements EvictionPolicy<K> {
      */
     @Override
     public K evict() {
-        K evictedKey = queue.poll();
-        if (evictedKey == null) {
+        if (queue.isEmpty()) {
             log.warn("Eviction requested but cache is empty");
             return null;
         }
+        Iterator<K> iterator = queue.iterator();
+        K evictedKey = iterator.next();
+        iterator.remove();
         log.trace("Evicted oldest inserted key: {}", evictedKey);
         return evictedKey;
     }
@@ -3,7 +3,6 @@ package com.java.oops.cache.eviction;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 
 /**
@@ -11,10 +10,14 @@ import java.util.Map;
  *
  * <pre>
  * This cache removes the least frequently used item when it reaches capacity.
- * It ensures O(1) operations for get() and put() using:
- * - HashMap for storing key-value pairs.
- * - HashMap for tracking access frequency.
- * - LinkedHashSet to maintain order within the same frequency.
+ * It ensures O(1) recordAccess(), evict() and evict(key) using:
+ * - HashMap from key to its intrusive key node.
+ * - Doubly linked list of frequency nodes kept in ascending order, so the head is always the minimum frequency.
+ * - Each frequency node owns a doubly linked list of key nodes in insertion order (oldest evicted first on ties).
+ *
+ * A key moving from frequency f to f + 1 is simply relinked into the neighbouring frequency node.
+ * Emptied frequency nodes and removed key nodes are recycled, so once the cache reached steady state
+ * recording an access allocates nothing.
  * </pre>
  *
  * <h2>LRU vs. LFU: Key Differences</h2>
@@ -24,9 +27,9 @@ import java.util.Map;
  * <tr><th>Feature</th><th>LRU (Least Recently Used)</th><th>LFU (Least Frequently Used)</th></tr>
  * <tr><td><b>Eviction Rule</b></td><td>Removes the least recently accessed item</td><td>Removes the least frequently accessed item</td></tr>
  * <tr><td><b>Tracking Mechanism</b></td><td>Last access time</td><td>Access count</td></tr>
- * <tr><td><b>Data Structures</b></td><td>LinkedHashMap or Doubly Linked List + HashMap</td><td>Min-Heap + HashMap or TreeMap</td></tr>
+ * <tr><td><b>Data Structures</b></td><td>LinkedHashMap or Doubly Linked List + HashMap</td><td>Frequency list of key lists + HashMap</td></tr>
  * <tr><td><b>Best Use Case</b></td><td>Useful when recent access is important (e.g., web browser cache)</td><td>Useful when frequently accessed items should be retained (e.g., database query cache)</td></tr>
- * <tr><td><b>Time Complexity</b></td><td>O(1) for get() and put() using LinkedHashMap</td><td>O(log n) for put() due to heap reordering</td></tr>
+ * <tr><td><b>Time Complexity</b></td><td>O(1) for get() and put() using LinkedHashMap</td><td>O(1) for get() and put() using the frequency list</td></tr>
  * </table>
  *
  * @param <K> Type of key used in the cache
@@ -34,18 +37,25 @@ import java.util.Map;
  */
 @Slf4j
 public class LFUEvictionPolicy<K> implements EvictionPolicy<K> {
+    private static final int KEY_NODE_POOL_LIMIT = 256;
 
-    private final Map<K, Integer> keyToFreq;
-    private final Map<Integer, LinkedHashSet<K>> freqToKeys;
-    private int minFreq;
+    private final Map<K, KeyNode<K>> keyToNode;
+    /**
+     * Sentinel of the circular frequency list; {@code frequencies.next} holds the minimum frequency.
+     */
+    private final FrequencyNode<K> frequencies;
+    private FrequencyNode<K> freeFrequencyNodes;
+    private KeyNode<K> freeKeyNodes;
+    private int freeKeyNodeCount;
 
     /**
      * Constructs an LFU Eviction Policy instance.
      */
     public LFUEvictionPolicy() {
-        this.keyToFreq = new HashMap<>();
-        this.freqToKeys = new HashMap<>();
-        this.minFreq = 0;
+        this.keyToNode = new HashMap<>();
+        this.frequencies = new FrequencyNode<>();
+        this.frequencies.next = frequencies;
+        this.frequencies.prev = frequencies;
     }
 
     /**
@@ -57,27 +67,30 @@ public class LFUEvictionPolicy<K> implements EvictionPolicy<K> {
      */
     @Override
     public void recordAccess(K key) {
-        int oldFreq = keyToFreq.getOrDefault(key, 0);
-        int newFreq = oldFreq + 1;
-        keyToFreq.put(key, newFreq);
-
-        if (oldFreq > 0) {
-            LinkedHashSet<K> oldSet = freqToKeys.get(oldFreq);
-            oldSet.remove(key);
-            if (oldSet.isEmpty()) {
-                freqToKeys.remove(oldFreq);
-                if (oldFreq == minFreq) {
-                    minFreq++;
-                }
+        KeyNode<K> node = keyToNode.get(key);
+        if (node == null) {
+            node = newKeyNode(key);
+            keyToNode.put(key, node);
+            FrequencyNode<K> first = frequencies.next;
+            if (first == frequencies || first.frequency != 1) {
+                first = newFrequencyNodeAfter(frequencies, 1);
             }
+            first.append(node);
         } else {
-            // New key, set minFreq to 1
-            minFreq = 1;
+            FrequencyNode<K> current = node.parent;
+            FrequencyNode<K> next = current.next;
+            if (next == frequencies || next.frequency != current.frequency + 1) {
+                next = newFrequencyNodeAfter(current, current.frequency + 1);
+            }
+            current.unlink(node);
+            next.append(node);
+            if (current.isEmpty()) {
+                releaseFrequencyNode(current);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Recorded access for key '{}': newFreq={}", key, node.parent.frequency);
         }
-
-        freqToKeys.computeIfAbsent(newFreq, k -> new LinkedHashSet<>()).add(key);
-
-        log.debug("Recorded access for key '{}': oldFreq={}, newFreq={}, minFreq={}", key, oldFreq, newFreq, minFreq);
     }
 
     /**
@@ -87,28 +100,19 @@ public class LFUEvictionPolicy<K> implements EvictionPolicy<K> {
      */
     @Override
     public K evict() {
-        if (keyToFreq.isEmpty()) {
+        FrequencyNode<K> minimum = frequencies.next;
+        if (minimum == frequencies) {
             log.info("Eviction requested but cache is empty.");
             return null;
         }
-
-        LinkedHashSet<K> keysWithMinFreq = freqToKeys.get(minFreq);
-        if (keysWithMinFreq == null || keysWithMinFreq.isEmpty()) {
-            log.info("No keys found with minFreq {} during eviction.", minFreq);
-            return null;
-        }
-
-        K evictKey = keysWithMinFreq.iterator().next();
-        keysWithMinFreq.remove(evictKey);
-        keyToFreq.remove(evictKey);
-
-        if (keysWithMinFreq.isEmpty()) {
-            freqToKeys.remove(minFreq);
-            // Update minFreq to next available frequency, or 0 if none
-            minFreq = freqToKeys.keySet().stream().min(Integer::compareTo).orElse(0);
+        KeyNode<K> victim = minimum.head;
+        K evictKey = victim.key;
+        int frequency = minimum.frequency;
+        keyToNode.remove(evictKey);
+        removeNode(victim);
+        if (log.isDebugEnabled()) {
+            log.debug("Evicted key '{}' with frequency {}.", evictKey, frequency);
         }
-
-        log.debug("Evicted key '{}' with frequency {}.", evictKey, minFreq);
         return evictKey;
     }
 
@@ -119,22 +123,126 @@ public class LFUEvictionPolicy<K> implements EvictionPolicy<K> {
      */
     @Override
     public void evict(K key) {
-        Integer freq = keyToFreq.remove(key);
-        if (freq == null) {
+        KeyNode<K> node = keyToNode.remove(key);
+        if (node == null) {
             log.debug("Eviction requested for non-existent key '{}'.", key);
             return;
         }
-        LinkedHashSet<K> set = freqToKeys.get(freq);
-        if (set != null) {
-            set.remove(key);
-            if (set.isEmpty()) {
-                freqToKeys.remove(freq);
-                // Update minFreq if needed
-                if (freq == minFreq) {
-                    minFreq = freqToKeys.keySet().stream().min(Integer::compareTo).orElse(0);
-                }
+        int frequency = node.parent.frequency;
+        removeNode(node);
+        log.info("Evicted specific key '{}' with frequency {}.", key, frequency);
+    }
+
+    /**
+     * Unlinks the key node from its frequency node, dropping the frequency node if it became empty.
+     */
+    private void removeNode(KeyNode<K> node) {
+        FrequencyNode<K> parent = node.parent;
+        parent.unlink(node);
+        if (parent.isEmpty()) {
+            releaseFrequencyNode(parent);
+        }
+        releaseKeyNode(node);
+    }
+
+    private FrequencyNode<K> newFrequencyNodeAfter(FrequencyNode<K> predecessor, int frequency) {
+        FrequencyNode<K> node = freeFrequencyNodes;
+        if (node == null) {
+            node = new FrequencyNode<>();
+        } else {
+            freeFrequencyNodes = node.next;
+        }
+        node.frequency = frequency;
+        node.prev = predecessor;
+        node.next = predecessor.next;
+        predecessor.next.prev = node;
+        predecessor.next = node;
+        return node;
+    }
+
+    private void releaseFrequencyNode(FrequencyNode<K> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = freeFrequencyNodes;
+        freeFrequencyNodes = node;
+    }
+
+    private KeyNode<K> newKeyNode(K key) {
+        KeyNode<K> node = freeKeyNodes;
+        if (node == null) {
+            node = new KeyNode<>();
+        } else {
+            freeKeyNodes = node.next;
+            node.next = null;
+            freeKeyNodeCount--;
+        }
+        node.key = key;
+        return node;
+    }
+
+    private void releaseKeyNode(KeyNode<K> node) {
+        node.key = null;
+        node.parent = null;
+        node.prev = null;
+        if (freeKeyNodeCount < KEY_NODE_POOL_LIMIT) {
+            node.next = freeKeyNodes;
+            freeKeyNodes = node;
+            freeKeyNodeCount++;
+        } else {
+            node.next = null;
+        }
+    }
+
+    /**
+     * Node of the frequency list holding every key accessed exactly {@code frequency} times.
+     */
+    private static final class FrequencyNode<K> {
+        int frequency;
+        FrequencyNode<K> prev;
+        FrequencyNode<K> next;
+        KeyNode<K> head;
+        KeyNode<K> tail;
+
+        void append(KeyNode<K> node) {
+            node.parent = this;
+            node.next = null;
+            node.prev = tail;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+        }
+
+        void unlink(KeyNode<K> node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
             }
+            node.prev = null;
+            node.next = null;
         }
-        log.info("Evicted specific key '{}' with frequency {}.", key, freq);
+
+        boolean isEmpty() {
+            return head == null;
+        }
+    }
+
+    /**
+     * Intrusive list node of a single key.
+     */
+    private static final class KeyNode<K> {
+        K key;
+        FrequencyNode<K> parent;
+        KeyNode<K> prev;
+        KeyNode<K> next;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,150 @@
+package com.java.oops.cache.eviction;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * S3-FIFO eviction policy: three static FIFO queues and a 2-bit access counter per key.
+ *
+ * <pre>
+ * - small : probationary FIFO (10% of capacity) that every new key enters first.
+ * - main  : FIFO holding the keys that proved themselves (the other 90%).
+ * - ghost : FIFO of keys only, remembering up to |main| keys recently evicted from small.
+ *
+ * - A hit only increments the key's counter, capped at 3; no key ever moves on a hit.
+ * - A new key enters main directly if it is a ghost (it came back soon after being evicted), small otherwise.
+ * - While small holds at least its share, evictions take the oldest key of small: if it was hit since
+ *   insertion it is promoted to main, otherwise it is evicted and remembered in ghost. One-hit wonders and
+ *   scans therefore leave through small without ever touching main.
+ * - Otherwise the oldest key of main is evicted, unless its counter is positive: it is then decremented and
+ *   the key reinserted at the tail of main (CLOCK-like second chances, up to 3).
+ * </pre>
+ *
+ * <p>
+ * Every operation is O(1): the queues are insertion ordered hash tables, so membership tests and removals of
+ * arbitrary keys do not scan. Based on Yang et al., "FIFO queues are all you need for cache eviction" (SOSP 2023).
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this policy
+ * @author sathwick
+ */
+@Slf4j
+public class S3FIFOEvictionPolicy<K> implements EvictionPolicy<K> {
+    private static final double SMALL_QUEUE_PERCENTAGE = 0.10;
+    private static final int MAX_FREQUENCY = 3;
+
+    private final LinkedHashMap<K, Entry> small = new LinkedHashMap<>();
+    private final LinkedHashMap<K, Entry> main = new LinkedHashMap<>();
+    private final LinkedHashSet<K> ghost = new LinkedHashSet<>();
+    private final int smallMax;
+    private final int ghostMax;
+
+    /**
+     * Constructs an S3-FIFO policy.
+     *
+     * @param capacity Maximum number of keys held by the cache.
+     */
+    public S3FIFOEvictionPolicy(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.smallMax = Math.max(1, (int) (capacity * SMALL_QUEUE_PERCENTAGE));
+        this.ghostMax = Math.max(1, capacity - smallMax);
+    }
+
+    /**
+     * Increments the counter of a tracked key, or inserts a new key in main (ghost) or small.
+     *
+     * @param key Key accessed.
+     */
+    @Override
+    public void recordAccess(K key) {
+        Entry entry = small.get(key);
+        if (entry == null) {
+            entry = main.get(key);
+        }
+        if (entry != null) {
+            entry.frequency = Math.min(MAX_FREQUENCY, entry.frequency + 1);
+        } else if (ghost.remove(key)) {
+            main.put(key, new Entry());
+            log.trace("Key '{}' came back from ghost into main", key);
+        } else {
+            small.put(key, new Entry());
+            log.trace("Inserted key '{}' into small", key);
+        }
+    }
+
+    /**
+     * Evicts from small while it holds its share, promoting the keys hit since insertion,
+     * otherwise from main, giving keys with a positive counter another round.
+     *
+     * @return The evicted key, or null if the policy tracks no keys.
+     */
+    @Override
+    public K evict() {
+        while (true) {
+            if (!small.isEmpty() && (small.size() >= smallMax || main.isEmpty())) {
+                Map.Entry<K, Entry> oldest = pollFirst(small);
+                if (oldest.getValue().frequency > 0) {
+                    oldest.getValue().frequency = 0;
+                    main.put(oldest.getKey(), oldest.getValue());
+                    log.trace("Promoted key '{}' from small to main", oldest.getKey());
+                    continue;
+                }
+                ghost.add(oldest.getKey());
+                if (ghost.size() > ghostMax) {
+                    pollFirst(ghost);
+                }
+                log.debug("Evicted key '{}' from small.", oldest.getKey());
+                return oldest.getKey();
+            }
+            if (main.isEmpty()) {
+                log.info("Eviction requested but S3-FIFO policy is empty.");
+                return null;
+            }
+            Map.Entry<K, Entry> oldest = pollFirst(main);
+            if (oldest.getValue().frequency > 0) {
+                oldest.getValue().frequency--;
+                main.put(oldest.getKey(), oldest.getValue());
+                continue;
+            }
+            log.debug("Evicted key '{}' from main.", oldest.getKey());
+            return oldest.getKey();
+        }
+    }
+
+    /**
+     * Evicts a specific key from small or main. No ghost is kept since the key was not evicted for space.
+     *
+     * @param key The key to evict.
+     */
+    @Override
+    public void evict(K key) {
+        if (small.remove(key) != null || main.remove(key) != null) {
+            log.info("Evicted specific key '{}' from S3-FIFO policy.", key);
+        } else {
+            log.debug("Eviction requested for non-existent key '{}'.", key);
+        }
+    }
+
+    private static <K> Map.Entry<K, Entry> pollFirst(LinkedHashMap<K, Entry> queue) {
+        Iterator<Map.Entry<K, Entry>> iterator = queue.entrySet().iterator();
+        Map.Entry<K, Entry> first = iterator.next();
+        iterator.remove();
+        return Map.entry(first.getKey(), first.getValue());
+    }
+
+    private static <K> void pollFirst(LinkedHashSet<K> queue) {
+        Iterator<K> iterator = queue.iterator();
+        iterator.next();
+        iterator.remove();
+    }
+
+    private static final class Entry {
+        private int frequency;
+    }
+}
@@ -0,0 +1,402 @@
+package com.java.oops.cache.eviction;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Approximated LRU / LFU eviction by random sampling, as done by Redis, for very large caches.
+ *
+ * <pre>
+ * - No ordering structure is kept: the keys are open-addressed (linear probing) in an array kept at most half
+ *   full, and the probe index of a key is its slot in a parallel array holding a single int of metadata.
+ *     LRU : last access time, in milliseconds since the policy was created.
+ *     LFU : logarithmic access counter (8 bits, starting at 5) and the minute it was last decayed (16 bits).
+ *           The counter grows with probability 1 / ((counter - 5) * logFactor + 1), so 255 stands for about
+ *           a million hits with the default factor, and loses one point per idle minute.
+ * - Recording a hit probes the key and rewrites the int of its slot, without locking
+ *   (see {@link #tryRecordAccessLockFree(Object)}); concurrent LFU increments may be lost, like Redis.
+ * - evict() samples {@code sampleSize} random slots and evicts the worst key found: the least recently used
+ *   (LRU) or the one with the lowest decayed counter (LFU).
+ * - With an eviction pool, the best candidates of past samples are kept between evictions (16 by default),
+ *   which brings the hit ratio close to exact LRU / LFU at the same sample size.
+ * - Inserts and evictions are serialized on the policy. Removed keys leave a tombstone, and the table is
+ *   rebuilt once keys and tombstones fill half of it, doubling if a cache briefly tracks more keys than
+ *   its capacity.
+ * </pre>
+ *
+ * <p>
+ * Compared to {@link LRUEvictionPolicy} / {@link LFUEvictionPolicy}, a key costs two array references and two
+ * ints (about 16 bytes) instead of a linked map node and boxed counters (about 50 bytes), and hits never
+ * contend. The price is a slightly lower hit ratio, since the evicted key is only the worst among the sampled
+ * ones.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this policy
+ * @author sathwick
+ */
+@Slf4j
+public class SampledEvictionPolicy<K> implements EvictionPolicy<K> {
+    private static final int DEFAULT_SAMPLE_SIZE = 5;
+    private static final int DEFAULT_EVICTION_POOL_SIZE = 16;
+    private static final int LFU_INIT_VALUE = 5;
+    private static final int LFU_MAX_VALUE = 255;
+    private static final int LFU_LOG_FACTOR = 10;
+    private static final int LFU_DECAY_MINUTES = 1;
+    private static final Object TOMBSTONE = new Object();
+
+    /**
+     * What the sampled metadata approximates.
+     */
+    public enum Mode {
+        /**
+         * Evict the least recently used of the sampled keys.
+         */
+        LRU,
+        /**
+         * Evict the least frequently used of the sampled keys.
+         */
+        LFU
+    }
+
+    @Getter
+    private final Mode mode;
+    @Getter
+    private final int sampleSize;
+    @Getter
+    private final int evictionPoolSize;
+    private final long originNanos = System.nanoTime();
+    private final List<Candidate<K>> evictionPool;
+    private volatile Table table;
+    private int size;
+    private int tombstones;
+
+    /**
+     * Constructs a sampled policy sampling 5 keys per eviction, with an eviction pool of 16 candidates.
+     *
+     * @param capacity Maximum number of keys held by the cache.
+     * @param mode     LRU or LFU approximation.
+     */
+    public SampledEvictionPolicy(int capacity, Mode mode) {
+        this(capacity, mode, DEFAULT_SAMPLE_SIZE, DEFAULT_EVICTION_POOL_SIZE);
+    }
+
+    /**
+     * Constructs a sampled policy.
+     *
+     * @param capacity         Maximum number of keys held by the cache.
+     * @param mode             LRU or LFU approximation.
+     * @param sampleSize       Number of random keys sampled per eviction.
+     * @param evictionPoolSize Number of best candidates kept between evictions; 0 disables the pool.
+     */
+    public SampledEvictionPolicy(int capacity, Mode mode, int sampleSize, int evictionPoolSize) {
+        if (mode == null) {
+            throw new NullPointerException("Mode cannot be null");
+        }
+        if (capacity <= 0 || sampleSize <= 0) {
+            throw new IllegalArgumentException("Capacity and sample size must be positive");
+        }
+        if (evictionPoolSize < 0) {
+            throw new IllegalArgumentException("Eviction pool size cannot be negative");
+        }
+        this.mode = mode;
+        this.sampleSize = sampleSize;
+        this.evictionPoolSize = evictionPoolSize;
+        this.evictionPool = new ArrayList<>(evictionPoolSize + sampleSize);
+        this.table = new Table(tableLength(capacity));
+    }
+
+    /**
+     * Updates the metadata of a tracked key, or inserts a new key.
+     *
+     * @param key Key accessed.
+     */
+    @Override
+    public void recordAccess(K key) {
+        if (tryRecordAccessLockFree(key)) {
+            return;
+        }
+        synchronized (this) {
+            if (tryRecordAccessLockFree(key)) {
+                return;
+            }
+            if ((size + tombstones + 1) * 2 > table.keys.length()) {
+                rebuild();
+            }
+            Table current = table;
+            int mask = current.keys.length() - 1;
+            int slot = spread(key.hashCode()) & mask;
+            Object resident;
+            while ((resident = current.keys.get(slot)) != null && resident != TOMBSTONE) {
+                slot = (slot + 1) & mask;
+            }
+            if (resident == TOMBSTONE) {
+                tombstones--;
+            }
+            current.metadata.set(slot, mode == Mode.LRU ? nowMillis() : lfu(nowMinutes(), LFU_INIT_VALUE));
+            current.keys.set(slot, key);
+            size++;
+        }
+    }
+
+    /**
+     * Updates the metadata of a tracked key without locking.
+     *
+     * @param key the key that was read
+     * @return {@code true} if the key is tracked and its access recorded, {@code false} if it is not tracked yet
+     */
+    @Override
+    public boolean tryRecordAccessLockFree(K key) {
+        Table current = table;
+        int slot = current.slotOf(key);
+        if (slot < 0) {
+            return false;
+        }
+        // a rebuild publishing a new table meanwhile only loses this access
+        AtomicIntegerArray meta = current.metadata;
+        if (mode == Mode.LRU) {
+            meta.lazySet(slot, nowMillis());
+        } else {
+            int previous = meta.get(slot);
+            int counter = incrementLogCounter(decayedCounter(previous));
+            // a lost race only loses this increment
+            meta.compareAndSet(slot, previous, lfu(nowMinutes(), counter));
+        }
+        return true;
+    }
+
+    /**
+     * Samples random keys and evicts the worst one, taking the eviction pool into account.
+     *
+     * @return The evicted key, or null if the policy tracks no keys.
+     */
+    @Override
+    public synchronized K evict() {
+        if (size == 0) {
+            log.info("Eviction requested but sampled policy is empty.");
+            return null;
+        }
+        Table current = table;
+        sampleInto(current, evictionPool);
+        // drop the candidates evicted or replaced since they were pooled, rescore the others (they may have
+        // been hit since) and put the worst one last
+        evictionPool.removeIf(candidate -> current.keys.get(candidate.slot) != candidate.key);
+        evictionPool.forEach(candidate -> candidate.score = score(current.metadata.get(candidate.slot)));
+        evictionPool.sort((a, b) -> Long.compare(a.score, b.score));
+        if (evictionPool.isEmpty()) {
+            // the random sample only hit free slots
+            return evictAny(current);
+        }
+        Candidate<K> worst = evictionPool.remove(evictionPool.size() - 1);
+        release(current, worst.slot);
+        trimPool();
+        log.debug("Evicted sampled key '{}' (score {}).", worst.key, worst.score);
+        return worst.key;
+    }
+
+    /**
+     * Evicts a specific key, freeing its slot.
+     *
+     * @param key The key to evict.
+     */
+    @Override
+    public synchronized void evict(K key) {
+        Table current = table;
+        int slot = current.slotOf(key);
+        if (slot >= 0) {
+            release(current, slot);
+            log.info("Evicted specific key '{}' from sampled policy.", key);
+        } else {
+            log.debug("Eviction requested for non-existent key '{}'.", key);
+        }
+    }
+
+    /**
+     * Returns the length of the key table, two slots of metadata per tracked key at most once rebuilt.
+     *
+     * @return number of slots
+     */
+    int tableLength() {
+        return table.keys.length();
+    }
+
+    private void sampleInto(Table current, List<Candidate<K>> candidates) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int length = current.keys.length();
+        int sampled = 0;
+        // the table is at most half full, so about two slots are drawn per sampled key
+        for (int attempt = 0; sampled < sampleSize && attempt < sampleSize * 8; attempt++) {
+            int slot = random.nextInt(length);
+            Object resident = current.keys.get(slot);
+            if (resident == null || resident == TOMBSTONE) {
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            K key = (K) resident;
+            sampled++;
+            if (!isPooled(candidates, slot, key)) {
+                candidates.add(new Candidate<>(key, slot));
+            }
+        }
+    }
+
+    private static <K> boolean isPooled(List<Candidate<K>> candidates, int slot, K key) {
+        for (Candidate<K> candidate : candidates) {
+            if (candidate.slot == slot && candidate.key == key) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void trimPool() {
+        // keep the worst candidates, which sit at the end after sorting
+        int excess = evictionPool.size() - evictionPoolSize;
+        if (excess > 0) {
+            evictionPool.subList(0, excess).clear();
+        }
+    }
+
+    private K evictAny(Table current) {
+        for (int slot = 0; slot < current.keys.length(); slot++) {
+            Object resident = current.keys.get(slot);
+            if (resident != null && resident != TOMBSTONE) {
+                @SuppressWarnings("unchecked")
+                K key = (K) resident;
+                release(current, slot);
+                log.debug("Evicted key '{}' after an empty sample.", key);
+                return key;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Higher is a better eviction candidate: idle time for LRU, inverted decayed counter for LFU.
+     */
+    private long score(int meta) {
+        if (mode == Mode.LRU) {
+            return nowMillis() - meta;
+        }
+        return LFU_MAX_VALUE - decayedCounter(meta);
+    }
+
+    private int decayedCounter(int meta) {
+        int counter = meta & 0xFF;
+        int elapsedMinutes = (nowMinutes() - (meta >>> 8)) & 0xFFFF;
+        return Math.max(0, counter - elapsedMinutes / LFU_DECAY_MINUTES);
+    }
+
+    private static int incrementLogCounter(int counter) {
+        if (counter == LFU_MAX_VALUE) {
+            return counter;
+        }
+        double base = Math.max(0, counter - LFU_INIT_VALUE);
+        double probability = 1.0 / (base * LFU_LOG_FACTOR + 1);
+        return ThreadLocalRandom.current().nextDouble() < probability ? counter + 1 : counter;
+    }
+
+    private static int lfu(int minutes, int counter) {
+        return ((minutes & 0xFFFF) << 8) | counter;
+    }
+
+    private int nowMillis() {
+        return (int) ((System.nanoTime() - originNanos) / 1_000_000);
+    }
+
+    private int nowMinutes() {
+        return (int) ((System.nanoTime() - originNanos) / 60_000_000_000L);
+    }
+
+    private void release(Table current, int slot) {
+        int mask = current.keys.length() - 1;
+        // a free next slot ends every probe sequence crossing this one, so no tombstone is needed
+        if (current.keys.get((slot + 1) & mask) == null) {
+            current.keys.set(slot, null);
+        } else {
+            current.keys.set(slot, TOMBSTONE);
+            tombstones++;
+        }
+        size--;
+    }
+
+    /**
+     * Reinserts the tracked keys into a fresh table, dropping the tombstones, doubled if the keys alone fill
+     * half of the current one.
+     */
+    private void rebuild() {
+        Table current = table;
+        int length = current.keys.length();
+        Table rebuilt = new Table((size + 1) * 2 > length ? length * 2 : length);
+        int mask = rebuilt.keys.length() - 1;
+        for (int i = 0; i < length; i++) {
+            Object resident = current.keys.get(i);
+            if (resident == null || resident == TOMBSTONE) {
+                continue;
+            }
+            int slot = spread(resident.hashCode()) & mask;
+            while (rebuilt.keys.get(slot) != null) {
+                slot = (slot + 1) & mask;
+            }
+            rebuilt.keys.set(slot, resident);
+            rebuilt.metadata.set(slot, current.metadata.get(i));
+        }
+        table = rebuilt;
+        tombstones = 0;
+        // the pooled slots belong to the previous table
+        evictionPool.clear();
+        log.debug("Rebuilt sampled policy table with {} slots for {} keys", rebuilt.keys.length(), size);
+    }
+
+    private static int tableLength(int capacity) {
+        // at most half full once the cache holds its capacity
+        return Integer.highestOneBit(Math.max(capacity * 2 - 1, 1)) << 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Open-addressed keys and the metadata of their slots, replaced as a whole on rebuilds so lock-free
+     * readers always see a matching pair.
+     */
+    private static final class Table {
+        private final AtomicReferenceArray<Object> keys;
+        private final AtomicIntegerArray metadata;
+
+        private Table(int length) {
+            this.keys = new AtomicReferenceArray<>(length);
+            this.metadata = new AtomicIntegerArray(length);
+        }
+
+        private int slotOf(Object key) {
+            int mask = keys.length() - 1;
+            int slot = spread(key.hashCode()) & mask;
+            Object resident;
+            while ((resident = keys.get(slot)) != null) {
+                if (resident != TOMBSTONE && resident.equals(key)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+    }
+
+    private static final class Candidate<K> {
+        private final K key;
+        private final int slot;
+        private long score;
+
+        private Candidate(K key, int slot) {
+            this.key = key;
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.java.oops.cache.eviction;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SIEVE eviction policy: a FIFO queue with a visited bit and a hand that keeps its position between evictions.
+ *
+ * <pre>
+ * - New keys are inserted unvisited at the head of the queue; a hit only sets the key's visited flag,
+ *   without locking or moving the key (see {@link #tryRecordAccessLockFree(Object)}).
+ * - On eviction the hand walks from its last position towards the head, clearing the visited flags it
+ *   passes, and evicts the first unvisited key; when it reaches the head it restarts from the tail.
+ * - Unlike CLOCK, surviving keys are never moved back to the head and the hand does not restart from the
+ *   newest key: new keys are sifted quickly while popular old keys stay behind the hand, which filters
+ *   one-hit wonders and keeps hit ratios at or above LRU on skewed web workloads.
+ * - Inserts and evictions are serialized on the policy.
+ * </pre>
+ *
+ * <p>
+ * The policy is thread-safe. Based on Zhang et al., "SIEVE is Simpler than LRU" (NSDI 2024).
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this policy
+ * @author sathwick
+ */
+@Slf4j
+public class SieveEvictionPolicy<K> implements EvictionPolicy<K> {
+    private final ConcurrentHashMap<K, Node<K>> nodes;
+    private Node<K> head;
+    private Node<K> tail;
+    private Node<K> hand;
+
+    /**
+     * Constructs a SIEVE policy.
+     *
+     * @param capacity Maximum number of keys held by the cache.
+     */
+    public SieveEvictionPolicy(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.nodes = new ConcurrentHashMap<>(capacity);
+    }
+
+    /**
+     * Marks a tracked key as visited, or inserts a new key unvisited at the head.
+     *
+     * @param key Key accessed.
+     */
+    @Override
+    public void recordAccess(K key) {
+        if (tryRecordAccessLockFree(key)) {
+            return;
+        }
+        synchronized (this) {
+            if (nodes.containsKey(key)) {
+                tryRecordAccessLockFree(key);
+                return;
+            }
+            Node<K> node = new Node<>(key);
+            node.next = head;
+            if (head != null) {
+                head.prev = node;
+            }
+            head = node;
+            if (tail == null) {
+                tail = node;
+            }
+            nodes.put(key, node);
+            log.trace("Inserted key '{}' at the head", key);
+        }
+    }
+
+    /**
+     * Sets the visited flag of a tracked key without locking.
+     *
+     * @param key the key that was read
+     * @return {@code true} if the key is tracked and was marked, {@code false} if it is not tracked yet
+     */
+    @Override
+    public boolean tryRecordAccessLockFree(K key) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            return false;
+        }
+        if (!node.visited) {
+            node.visited = true;
+        }
+        return true;
+    }
+
+    /**
+     * Moves the hand towards the head, clearing visited flags, and evicts the first unvisited key.
+     *
+     * @return The evicted key, or null if the policy tracks no keys.
+     */
+    @Override
+    public synchronized K evict() {
+        if (tail == null) {
+            log.info("Eviction requested but SIEVE policy is empty.");
+            return null;
+        }
+        Node<K> candidate = hand != null ? hand : tail;
+        while (candidate.visited) {
+            candidate.visited = false;
+            candidate = candidate.prev != null ? candidate.prev : tail;
+        }
+        hand = candidate.prev;
+        unlink(candidate);
+        nodes.remove(candidate.key);
+        log.debug("Evicted key '{}'.", candidate.key);
+        return candidate.key;
+    }
+
+    /**
+     * Evicts a specific key.
+     *
+     * @param key The key to evict.
+     */
+    @Override
+    public synchronized void evict(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node != null) {
+            if (hand == node) {
+                hand = node.prev;
+            }
+            unlink(node);
+            log.info("Evicted specific key '{}' from SIEVE policy.", key);
+        } else {
+            log.debug("Eviction requested for non-existent key '{}'.", key);
+        }
+    }
+
+    private void unlink(Node<K> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        } else {
+            tail = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static final class Node<K> {
+        private final K key;
+        private volatile boolean visited;
+        private Node<K> prev;
+        private Node<K> next;
+
+        private Node(K key) {
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.java.oops.cache.eviction;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+
+/**
+ * Window-TinyLFU eviction policy.
+ *
+ * <pre>
+ * Keys are kept in three LRU segments:
+ * - window    : small admission window (1% of capacity by default) that every new key enters first,
+ *               so bursts of recent keys get a chance to prove themselves.
+ * - probation : main space segment for keys that were admitted from the window but not re-used yet.
+ * - protected : main space segment (80% of main) for keys hit again while on probation.
+ *
+ * When an entry has to go, the LRU key of the window (candidate) competes with the LRU key of the
+ * main space (victim). A 4-bit Count-Min Sketch estimates both popularities; the candidate only
+ * enters the main space if it was seen more often than the victim. One-hit wonders and scans
+ * therefore cycle through the window without displacing the hot keys living in the main space.
+ * </pre>
+ *
+ * <p>
+ * With a window percentage of zero the policy becomes plain TinyLFU: {@link #admit(Object)} duels the
+ * new key against the main space victim and the cache refuses the write when the new key loses.
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this policy
+ * @author sathwick
+ */
+@Slf4j
+public class WTinyLFUEvictionPolicy<K> implements EvictionPolicy<K> {
+    private static final double DEFAULT_WINDOW_PERCENTAGE = 0.01;
+    private static final double PROTECTED_PERCENTAGE = 0.80;
+
+    private final FrequencySketch<K> sketch;
+    private final LinkedHashSet<K> window;
+    private final LinkedHashSet<K> probation;
+    private final LinkedHashSet<K> protectedSegment;
+    private final int windowMax;
+    private final int protectedMax;
+
+    /**
+     * Constructs a W-TinyLFU policy with a 1% admission window.
+     *
+     * @param capacity Maximum number of keys held by the cache.
+     */
+    public WTinyLFUEvictionPolicy(int capacity) {
+        this(capacity, DEFAULT_WINDOW_PERCENTAGE);
+    }
+
+    /**
+     * Constructs a W-TinyLFU policy.
+     *
+     * @param capacity         Maximum number of keys held by the cache.
+     * @param windowPercentage Fraction of the capacity reserved for the admission window, between 0 and 1.
+     */
+    public WTinyLFUEvictionPolicy(int capacity, double windowPercentage) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        if (windowPercentage < 0 || windowPercentage >= 1) {
+            throw new IllegalArgumentException("Window percentage must be in [0, 1)");
+        }
+        this.sketch = new FrequencySketch<>(capacity);
+        this.window = new LinkedHashSet<>();
+        this.probation = new LinkedHashSet<>();
+        this.protectedSegment = new LinkedHashSet<>();
+        this.windowMax = windowPercentage == 0 ? 0 : Math.max(1, (int) (capacity * windowPercentage));
+        this.protectedMax = (int) ((capacity - windowMax) * PROTECTED_PERCENTAGE);
+    }
+
+    /**
+     * Records access of a key: bumps its sketch frequency and moves it within / across segments.
+     *
+     * @param key Key accessed.
+     */
+    @Override
+    public void recordAccess(K key) {
+        sketch.increment(key);
+        if (window.remove(key)) {
+            window.add(key);
+        } else if (probation.remove(key)) {
+            protectedSegment.add(key);
+            if (protectedSegment.size() > protectedMax) {
+                K demoted = removeFirst(protectedSegment);
+                probation.add(demoted);
+                log.trace("Demoted key '{}' from protected to probation segment", demoted);
+            }
+        } else if (protectedSegment.remove(key)) {
+            protectedSegment.add(key);
+        } else if (windowMax == 0) {
+            probation.add(key);
+        } else {
+            window.add(key);
+        }
+        log.trace("Recorded access for key '{}': window={}, probation={}, protected={}",
+                key, window.size(), probation.size(), protectedSegment.size());
+    }
+
+    /**
+     * Decides whether a new key may enter a full cache.
+     * <p>
+     * With an admission window every new key is admitted, the frequency duel happens when the key leaves
+     * the window. Without a window the new key has to be more popular than the main space victim.
+     * A rejected key still has its frequency recorded so that repeated requests eventually win.
+     * </p>
+     *
+     * @param candidate the key that is about to be inserted
+     * @return {@code true} if the key should be stored
+     */
+    @Override
+    public boolean admit(K candidate) {
+        if (windowMax > 0) {
+            return true;
+        }
+        K victim = mainVictim();
+        if (victim == null || sketch.frequency(candidate) + 1 > sketch.frequency(victim)) {
+            return true;
+        }
+        sketch.increment(candidate);
+        log.debug("Rejected admission of key '{}' in favour of '{}'", candidate, victim);
+        return false;
+    }
+
+    /**
+     * Evicts the loser of the window candidate vs main victim frequency duel.
+     *
+     * @return The evicted key, or null if the policy tracks no keys.
+     */
+    @Override
+    public K evict() {
+        // spill window overflow (e.g. while the cache warms up) into the main space first
+        while (window.size() > windowMax) {
+            probation.add(removeFirst(window));
+        }
+        K candidate = window.isEmpty() ? null : window.iterator().next();
+        K victim = mainVictim();
+        if (candidate == null && victim == null) {
+            log.info("Eviction requested but W-TinyLFU policy is empty.");
+            return null;
+        }
+        if (victim == null) {
+            window.remove(candidate);
+            log.debug("Evicted window key '{}' (main space empty).", candidate);
+            return candidate;
+        }
+        if (candidate != null && sketch.frequency(candidate) > sketch.frequency(victim)) {
+            window.remove(candidate);
+            probation.add(candidate);
+            removeFromMain(victim);
+            log.debug("Admitted window key '{}' into main space, evicted victim '{}'.", candidate, victim);
+            return victim;
+        }
+        if (candidate == null) {
+            removeFromMain(victim);
+            log.debug("Evicted main space key '{}' (window empty).", victim);
+            return victim;
+        }
+        window.remove(candidate);
+        log.debug("Rejected window key '{}' in favour of '{}', evicting it.", candidate, victim);
+        return candidate;
+    }
+
+    /**
+     * Evicts a specific key from whichever segment holds it. The frequency history is kept.
+     *
+     * @param key The key to evict.
+     */
+    @Override
+    public void evict(K key) {
+        if (window.remove(key) || probation.remove(key) || protectedSegment.remove(key)) {
+            log.info("Evicted specific key '{}' from W-TinyLFU policy.", key);
+        } else {
+            log.debug("Eviction requested for non-existent key '{}'.", key);
+        }
+    }
+
+    private K mainVictim() {
+        if (!probation.isEmpty()) {
+            return probation.iterator().next();
+        }
+        return protectedSegment.isEmpty() ? null : protectedSegment.iterator().next();
+    }
+
+    private void removeFromMain(K key) {
+        if (!probation.remove(key)) {
+            protectedSegment.remove(key);
+        }
+    }
+
+    private static <K> K removeFirst(LinkedHashSet<K> segment) {
+        Iterator<K> iterator = segment.iterator();
+        K first = iterator.next();
+        iterator.remove();
+        return first;
+    }
+}
@@ -0,0 +1,153 @@
+package com.java.oops.cache.stats;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * Immutable snapshot of the statistics of a cache.
+ *
+ * <pre>
+ * - Hits / misses are counted by the cache on every lookup.
+ * - Loads (successful or failed) are counted by whoever fetches missing values from the source of truth,
+ *   typically a caching strategy; a load returning null counts as a failure.
+ * - Evictions are counted per {@link RemovalCause}; expirations are the evictions with cause EXPIRED.
+ * - Load time is the total wall time spent loading, in nanoseconds.
+ * </pre>
+ *
+ * <p>Snapshots of several caches (or of a cache and a strategy) can be merged with {@link #plus(CacheStats)}.</p>
+ *
+ * @author sathwick
+ */
+@Getter
+public final class CacheStats {
+    private static final CacheStats EMPTY = new CacheStats(0, 0, 0, 0, 0, new long[RemovalCause.values().length]);
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    @Getter(AccessLevel.NONE)
+    private final long[] evictionCounts;
+
+    CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+               long[] evictionCounts) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCounts = evictionCounts;
+    }
+
+    /**
+     * Returns a snapshot with every counter at zero.
+     *
+     * @return empty statistics
+     */
+    public static CacheStats empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of lookups, hits plus misses.
+     *
+     * @return request count
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups that were hits, or 1.0 when there was no lookup.
+     *
+     * @return hit rate between 0.0 and 1.0
+     */
+    public double hitRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the ratio of lookups that were misses, or 0.0 when there was no lookup.
+     *
+     * @return miss rate between 0.0 and 1.0
+     */
+    public double missRate() {
+        long requestCount = requestCount();
+        return requestCount == 0 ? 0.0 : (double) missCount / requestCount;
+    }
+
+    /**
+     * Returns the number of loads, successful or not.
+     *
+     * @return load count
+     */
+    public long loadCount() {
+        return loadSuccessCount + loadFailureCount;
+    }
+
+    /**
+     * Returns the average time spent loading a value, in nanoseconds.
+     *
+     * @return average load penalty, 0.0 when nothing was loaded
+     */
+    public double averageLoadPenalty() {
+        long loadCount = loadCount();
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * Returns the number of entries removed for the given cause.
+     *
+     * @param cause removal cause
+     * @return eviction count for that cause
+     */
+    public long evictionCount(RemovalCause cause) {
+        return evictionCounts[cause.ordinal()];
+    }
+
+    /**
+     * Returns the number of entries removed for any cause.
+     *
+     * @return total eviction count
+     */
+    public long evictionCount() {
+        return Arrays.stream(evictionCounts).sum();
+    }
+
+    /**
+     * Returns the number of entries removed because their time-to-live elapsed.
+     *
+     * @return expiration count
+     */
+    public long expirationCount() {
+        return evictionCount(RemovalCause.EXPIRED);
+    }
+
+    /**
+     * Returns the sum of this snapshot and the other one.
+     *
+     * @param other statistics to add
+     * @return a new snapshot holding the sums of every counter
+     */
+    public CacheStats plus(CacheStats other) {
+        long[] evictions = new long[evictionCounts.length];
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = evictionCounts[i] + other.evictionCounts[i];
+        }
+        return new CacheStats(hitCount + other.hitCount, missCount + other.missCount,
+                loadSuccessCount + other.loadSuccessCount, loadFailureCount + other.loadFailureCount,
+                totalLoadTime + other.totalLoadTime, evictions);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheStats{hits=%d, misses=%d, hitRate=%.4f, loads=%d, loadFailures=%d, "
+                        + "averageLoadPenalty=%.0fns, evictions(explicit=%d, size=%d, expired=%d)}",
+                hitCount, missCount, hitRate(), loadSuccessCount, loadFailureCount, averageLoadPenalty(),
+                evictionCount(RemovalCause.EXPLICIT), evictionCount(RemovalCause.SIZE), expirationCount());
+    }
+}
@@ -0,0 +1,24 @@
+package com.java.oops.cache.stats;
+
+/**
+ * The reason an entry was removed from a cache.
+ *
+ * @author sathwick
+ */
+public enum RemovalCause {
+    /**
+     * The entry was removed by the caller, e.g. through {@code evict(key)}.
+     */
+    EXPLICIT,
+
+    /**
+     * The entry was evicted by the eviction policy because the cache reached its capacity,
+     * or a new entry was rejected by the policy's admission filter.
+     */
+    SIZE,
+
+    /**
+     * The entry's time-to-live elapsed.
+     */
+    EXPIRED
+}
@@ -0,0 +1,135 @@
+package com.java.oops.cache.stats;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe recorder of cache statistics.
+ *
+ * <pre>
+ * - Every counter is a {@link LongAdder}: concurrent increments land on different cells instead of
+ *   contending on a single atomic, so recording stays cheap on the hot path of a lock-free cache.
+ * - Counters are 64 bit and never overflow in practice.
+ * - {@link #snapshot()} sums the adders into an immutable {@link CacheStats}; it is not an atomic
+ *   view while writers are active, which is fine for monitoring.
+ * </pre>
+ *
+ * @author sathwick
+ */
+public final class StatsCounter {
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder[] evictionCounts;
+
+    /**
+     * Creates a recorder with every counter at zero.
+     */
+    public StatsCounter() {
+        this.evictionCounts = new LongAdder[RemovalCause.values().length];
+        for (int i = 0; i < evictionCounts.length; i++) {
+            evictionCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a lookup that found a value.
+     */
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    /**
+     * Records lookups that found a value.
+     *
+     * @param count number of hits
+     */
+    public void recordHits(int count) {
+        hitCount.add(count);
+    }
+
+    /**
+     * Records a lookup that found nothing.
+     */
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    /**
+     * Records lookups that found nothing.
+     *
+     * @param count number of misses
+     */
+    public void recordMisses(int count) {
+        missCount.add(count);
+    }
+
+    /**
+     * Records a load that produced a value.
+     *
+     * @param loadTimeNanos time spent loading
+     */
+    public void recordLoadSuccess(long loadTimeNanos) {
+        loadSuccessCount.increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    /**
+     * Records a load that failed or produced no value.
+     *
+     * @param loadTimeNanos time spent loading
+     */
+    public void recordLoadFailure(long loadTimeNanos) {
+        loadFailureCount.increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    /**
+     * Runs the loader, recording its duration and whether it produced a value.
+     *
+     * @param loader the load to run
+     * @param <V>    type of the loaded value
+     * @return the loaded value, possibly null
+     */
+    public <V> V recordLoad(Supplier<V> loader) {
+        long start = System.nanoTime();
+        V value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            recordLoadFailure(System.nanoTime() - start);
+            throw e;
+        }
+        if (value == null) {
+            recordLoadFailure(System.nanoTime() - start);
+        } else {
+            recordLoadSuccess(System.nanoTime() - start);
+        }
+        return value;
+    }
+
+    /**
+     * Records the removal of an entry.
+     *
+     * @param cause why the entry was removed
+     */
+    public void recordEviction(RemovalCause cause) {
+        evictionCounts[cause.ordinal()].increment();
+    }
+
+    /**
+     * Returns an immutable snapshot of the counters.
+     *
+     * @return current statistics
+     */
+    public CacheStats snapshot() {
+        long[] evictions = new long[evictionCounts.length];
+        for (int i = 0; i < evictions.length; i++) {
+            evictions[i] = evictionCounts[i].sum();
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(), loadFailureCount.sum(),
+                totalLoadTime.sum(), evictions);
+    }
+}
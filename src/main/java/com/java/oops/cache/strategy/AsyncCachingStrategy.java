@@ -0,0 +1,35 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.stats.CacheStats;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link CachingStrategy}
+ * @param <K> Key of type K
+ * @param <V> Value of type V
+ */
+public interface AsyncCachingStrategy<K, V> {
+    /**
+     * Reads the value from the cache with given Strategy
+     * @param key Key of type K
+     * @return future of the value of type V
+     */
+    CompletableFuture<V> read(K key);
+
+    /**
+     * Writes the value to the cache with given Strategy
+     * @param key Key of type K
+     * @param value Value of type V
+     * @return future completed once the write is done as defined by the strategy
+     */
+    CompletableFuture<Void> write(K key, V value);
+
+    /**
+     * Returns the statistics of the cache combined with the loads made by this strategy
+     * @return CacheStats
+     */
+    default CacheStats stats() {
+        return CacheStats.empty();
+    }
+}
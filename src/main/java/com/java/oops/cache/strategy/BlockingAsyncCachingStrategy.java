@@ -0,0 +1,83 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.types.AsyncExecutors;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link AsyncCachingStrategy} adapter running a blocking {@link CachingStrategy} on an executor.
+ *
+ * <p>
+ * Reads that miss the cache block on {@code CacheToDatabaseService.load}; run on virtual threads (the default
+ * executor on Java 21+) such a load parks a cheap thread instead of pinning a platform thread.
+ * The wrapped strategy, its cache and database service are called concurrently and must be thread-safe.
+ *
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
+ */
+public class BlockingAsyncCachingStrategy<K, V> implements AsyncCachingStrategy<K, V> {
+    private final CachingStrategy<K, V> delegateStrategy;
+    private final Executor executor;
+
+    /**
+     * Creates the adapter.
+     *
+     * @param delegateStrategy blocking strategy
+     * @param executor         executor running the blocking calls
+     */
+    public BlockingAsyncCachingStrategy(CachingStrategy<K, V> delegateStrategy, Executor executor) {
+        if (delegateStrategy == null || executor == null) {
+            throw new NullPointerException("Delegate strategy and executor cannot be null");
+        }
+        this.delegateStrategy = delegateStrategy;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the adapter running on the shared blocking task executor.
+     *
+     * @param delegateStrategy blocking strategy
+     */
+    public BlockingAsyncCachingStrategy(CachingStrategy<K, V> delegateStrategy) {
+        this(delegateStrategy, AsyncExecutors.blockingTaskExecutor());
+    }
+
+    /**
+     * Runs the delegate read, including a database load on a miss, on the executor.
+     *
+     * @param key Cache key
+     * @return future of the value, null if found neither in cache nor in DB; completed exceptionally with the
+     *         exception thrown by the delegate
+     * @throws java.util.concurrent.RejectedExecutionException if the executor refuses the task
+     */
+    @Override
+    public CompletableFuture<V> read(K key) {
+        return CompletableFuture.supplyAsync(() -> delegateStrategy.read(key), executor);
+    }
+
+    /**
+     * Runs the delegate write on the executor.
+     *
+     * @param key   Cache key
+     * @param value Value to write
+     * @return future completed once the delegate write returns, or exceptionally with the exception thrown by
+     *         the delegate
+     * @throws java.util.concurrent.RejectedExecutionException if the executor refuses the task
+     */
+    @Override
+    public CompletableFuture<Void> write(K key, V value) {
+        return CompletableFuture.runAsync(() -> delegateStrategy.write(key, value), executor);
+    }
+
+    /**
+     * Returns the statistics of the delegate strategy, read on the calling thread.
+     *
+     * @return delegate statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return delegateStrategy.stats();
+    }
+}
@@ -0,0 +1,71 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.stats.StatsCounter;
+import com.java.oops.cache.types.AbstractCache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bulk read shared by the caching strategies: one bulk cache lookup, one bulk database load
+ * for every miss, one bulk cache population.
+ *
+ * @author sathwick
+ */
+@Slf4j
+final class BulkReads {
+
+    private BulkReads() {
+    }
+
+    /**
+     * Reads the keys from the cache and loads the misses with a single
+     * {@link CacheToDatabaseService#loadAll(Collection)} call, then caches them with a single putAll.
+     *
+     * @param cache                  cache to read and populate
+     * @param cacheToDatabaseService database service loading the misses
+     * @param loadStats              counter recording the bulk load
+     * @param keys                   keys to read
+     * @param <K>                    Type of cache key
+     * @param <V>                    Type of cache value
+     * @return values by key; keys found neither in the cache nor in the database are absent.
+     *         If the database load fails, only the cache hits are returned.
+     */
+    static <K, V> Map<K, V> readAll(AbstractCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService,
+                                    StatsCounter loadStats, Collection<K> keys) {
+        Map<K, V> result = new HashMap<>();
+        List<K> misses = new ArrayList<>();
+        for (Map.Entry<K, Optional<V>> cached : cache.getAll(keys).entrySet()) {
+            if (cached.getValue().isPresent()) {
+                result.put(cached.getKey(), cached.getValue().get());
+            } else {
+                misses.add(cached.getKey());
+            }
+        }
+        if (misses.isEmpty()) {
+            log.debug("Bulk read of {} keys served from cache", keys.size());
+            return result;
+        }
+        log.debug("Bulk read of {} keys: {} misses loaded from DB in one call", keys.size(), misses.size());
+        try {
+            Map<K, V> loaded = loadStats.recordLoad(() -> cacheToDatabaseService.loadAll(misses));
+            int found = loaded == null ? 0 : loaded.size();
+            if (found > 0) {
+                cache.putAll(loaded);
+                result.putAll(loaded);
+            }
+            if (found < misses.size()) {
+                log.warn("No data found in DB for {} of {} missing keys", misses.size() - found, misses.size());
+            }
+        } catch (Exception e) {
+            log.error("Exception during bulk load of {} keys", misses.size(), e);
+        }
+        return result;
+    }
+}
@@ -1,5 +1,11 @@
 package com.java.oops.cache.strategy;
 
+import com.java.oops.cache.stats.CacheStats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Interface for cache strategy
  * @param <K> Key of type K
@@ -13,10 +19,34 @@ public interface CachingStrategy<K, V> {
      */
     V read(K key);
 
+    /**
+     * Reads the values of several keys with given Strategy
+     * @param keys Keys of type K
+     * @return Values of type V by key; keys without value are absent
+     */
+    default Map<K, V> readAll(Collection<K> keys) {
+        Map<K, V> values = new HashMap<>();
+        for (K key : keys) {
+            V value = read(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
     /**
      * Writes the value to the cache with given Strategy
      * @param key Key of type K
      * @param value Value of type V
      */
     void write(K key, V value);
+
+    /**
+     * Returns the statistics of the cache combined with the loads made by this strategy
+     * @return CacheStats
+     */
+    default CacheStats stats() {
+        return CacheStats.empty();
+    }
 }
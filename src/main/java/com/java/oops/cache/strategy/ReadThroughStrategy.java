@@ -1,9 +1,13 @@
 package com.java.oops.cache.strategy;
 
 import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.StatsCounter;
 import com.java.oops.cache.types.AbstractCache;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -26,6 +30,10 @@ import java.util.Optional;
  *   <li>You prefer strong consistency between cache and database.</li>
  * </ul>
  *
+ * <p>
+ * Concurrent misses on the same key each hit the database; pass a
+ * {@link com.java.oops.cache.database.CoalescingCacheToDatabaseService} to share a single load between them.
+ *
  * @param <K> Type of cache key
  * @param <V> Type of cache value
  */
@@ -34,6 +42,7 @@ public class ReadThroughStrategy<K, V> implements CachingStrategy<K, V> {
 
     private final AbstractCache<K, V> cache;
     private final CacheToDatabaseService<K, V> cacheToDatabaseService;
+    private final StatsCounter loadStats = new StatsCounter();
 
     /**
      * Constructs a ReadThroughStrategy instance.
@@ -62,7 +71,7 @@ public class ReadThroughStrategy<K, V> implements CachingStrategy<K, V> {
             }
 
             log.debug("Cache miss for key: {}. Loading from DB.", key);
-            V dbValue = cacheToDatabaseService.load(key);
+            V dbValue = loadStats.recordLoad(() -> cacheToDatabaseService.load(key));
 
             if (dbValueExists(dbValue)) {
                 cache.put(key, dbValue);
@@ -78,6 +87,28 @@ public class ReadThroughStrategy<K, V> implements CachingStrategy<K, V> {
         }
     }
 
+    /**
+     * Reads the keys with one bulk cache lookup; the misses are loaded from DB with a single
+     * {@link CacheToDatabaseService#loadAll(Collection)} call and cached in bulk.
+     *
+     * @param keys Keys to read from cache/database
+     * @return Values by key; keys found neither in cache nor in DB are absent
+     */
+    @Override
+    public Map<K, V> readAll(Collection<K> keys) {
+        return BulkReads.readAll(cache, cacheToDatabaseService, loadStats, keys);
+    }
+
+    /**
+     * Returns the cache statistics together with the time spent loading missing keys from the database.
+     *
+     * @return combined statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return cache.stats().plus(loadStats.snapshot());
+    }
+
     /**
      * Writes data synchronously into both DB and Cache.
      *
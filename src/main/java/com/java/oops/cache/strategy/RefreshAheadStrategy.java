@@ -0,0 +1,388 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.StatsCounter;
+import com.java.oops.cache.types.AbstractCache;
+import com.java.oops.cache.types.AsyncExecutors;
+import com.java.oops.cache.types.distributed.AbstractDistributedCache;
+import com.java.oops.cache.types.ttl.AbstractTTLCache;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Implements the Read-Through caching strategy with refresh-ahead.
+ *
+ * <p>
+ * In Refresh-Ahead caching:
+ * <ul>
+ *   <li>Every entry is cached with the same TTL.</li>
+ *   <li>A hit landing after {@code refreshAheadFraction} of the TTL has elapsed returns the cached value
+ *       immediately and reloads the key in the background, so hot keys are replaced before they expire
+ *       and no reader pays the database latency at the TTL boundary.</li>
+ *   <li>A single background reload per key is in flight at any time.</li>
+ *   <li>A write invalidates the reloads of its key in flight: a reload only caches, evicts or keeps the stale
+ *       value of its key if no write happened since it was scheduled, so it never puts an older value back.</li>
+ *   <li>When a reload fails, the last value keeps being served until {@code staleGracePeriod} after the entry
+ *       expired, while reloads are retried; past the grace period readers load synchronously again. Stale values
+ *       past their deadline are dropped when read, and the ones no longer read are pruned by later reloads,
+ *       at most once per grace period.</li>
+ *   <li>Misses and writes behave as in {@link ReadThroughStrategy}.</li>
+ * </ul>
+ *
+ * <p>
+ * Works on any cache able to report the remaining TTL of an entry: an
+ * {@link AbstractTTLCache} ({@code InMemoryTTLCache}, {@code OffHeapCache}) or an
+ * {@link AbstractDistributedCache} (Redis {@code PTTL}).
+ *
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
+ */
+@Slf4j
+public class RefreshAheadStrategy<K, V> implements CachingStrategy<K, V> {
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final AbstractCache<K, V> cache;
+    private final TtlOperations<K, V> ttlOperations;
+    private final CacheToDatabaseService<K, V> cacheToDatabaseService;
+    private final StatsCounter loadStats = new StatsCounter();
+    @Getter
+    private final Duration ttl;
+    private final long refreshAfterMillis;
+    @Getter
+    private final Duration staleGracePeriod;
+    private final Executor refreshExecutor;
+    private final ConcurrentHashMap<K, CompletableFuture<Void>> refreshesInFlight = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<K, StaleValue<V>> staleValues = new ConcurrentHashMap<>();
+    private final AtomicLong nextStalePruneMillis = new AtomicLong();
+    private final AtomicLongArray writeGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder failedRefreshes = new LongAdder();
+    private final LongAdder staleReads = new LongAdder();
+
+    /**
+     * Constructs a RefreshAheadStrategy over a local TTL cache.
+     *
+     * @param cache                  TTL cache implementation used for caching operations
+     * @param cacheToDatabaseService Database service used for persistent storage operations
+     * @param ttl                    TTL of every cached entry
+     * @param refreshAheadFraction   Fraction of the TTL after which a hit triggers a background reload, in (0, 1)
+     * @param staleGracePeriod       How long the last value is served while reloads fail
+     * @param refreshExecutor        Executor running the background reloads
+     */
+    public RefreshAheadStrategy(AbstractTTLCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService,
+                                Duration ttl, double refreshAheadFraction, Duration staleGracePeriod,
+                                Executor refreshExecutor) {
+        this(cache, new TtlOperations<>() {
+            @Override
+            public Optional<Duration> remainingTtl(K key) {
+                return cache.remainingTtl(key);
+            }
+
+            @Override
+            public void put(K key, V value, Duration ttl) {
+                cache.put(key, value, ttl);
+            }
+        }, cacheToDatabaseService, ttl, refreshAheadFraction, staleGracePeriod, refreshExecutor);
+    }
+
+    /**
+     * Constructs a RefreshAheadStrategy over a local TTL cache, refreshing after 75% of the TTL, serving stale
+     * values for one TTL on reload failures and reloading on the shared blocking task executor.
+     *
+     * @param cache                  TTL cache implementation used for caching operations
+     * @param cacheToDatabaseService Database service used for persistent storage operations
+     * @param ttl                    TTL of every cached entry
+     */
+    public RefreshAheadStrategy(AbstractTTLCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService,
+                                Duration ttl) {
+        this(cache, cacheToDatabaseService, ttl, 0.75, ttl, AsyncExecutors.blockingTaskExecutor());
+    }
+
+    /**
+     * Constructs a RefreshAheadStrategy over a distributed cache.
+     *
+     * @param cache                  Distributed cache implementation used for caching operations
+     * @param cacheToDatabaseService Database service used for persistent storage operations
+     * @param ttl                    TTL of every cached entry
+     * @param refreshAheadFraction   Fraction of the TTL after which a hit triggers a background reload, in (0, 1)
+     * @param staleGracePeriod       How long the last value is served while reloads fail
+     * @param refreshExecutor        Executor running the background reloads
+     */
+    public RefreshAheadStrategy(AbstractDistributedCache<K, V> cache,
+                                CacheToDatabaseService<K, V> cacheToDatabaseService, Duration ttl,
+                                double refreshAheadFraction, Duration staleGracePeriod, Executor refreshExecutor) {
+        this(cache, new TtlOperations<>() {
+            @Override
+            public Optional<Duration> remainingTtl(K key) {
+                return cache.remainingTtl(key);
+            }
+
+            @Override
+            public void put(K key, V value, Duration ttl) throws Exception {
+                cache.put(key, value, ttl);
+            }
+        }, cacheToDatabaseService, ttl, refreshAheadFraction, staleGracePeriod, refreshExecutor);
+    }
+
+    private RefreshAheadStrategy(AbstractCache<K, V> cache, TtlOperations<K, V> ttlOperations,
+                                 CacheToDatabaseService<K, V> cacheToDatabaseService, Duration ttl,
+                                 double refreshAheadFraction, Duration staleGracePeriod, Executor refreshExecutor) {
+        if (cache == null || cacheToDatabaseService == null || ttl == null || staleGracePeriod == null
+                || refreshExecutor == null) {
+            throw new NullPointerException("Cache, database service, TTL, grace period and executor cannot be null");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (refreshAheadFraction <= 0 || refreshAheadFraction >= 1) {
+            throw new IllegalArgumentException("Refresh-ahead fraction must be between 0 and 1");
+        }
+        if (staleGracePeriod.isNegative()) {
+            throw new IllegalArgumentException("Stale grace period cannot be negative");
+        }
+        this.cache = cache;
+        this.ttlOperations = ttlOperations;
+        this.cacheToDatabaseService = cacheToDatabaseService;
+        this.ttl = ttl;
+        this.refreshAfterMillis = (long) (ttl.toMillis() * refreshAheadFraction);
+        this.staleGracePeriod = staleGracePeriod;
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    /**
+     * Reads data using Read-Through strategy, reloading entries close to expiry in the background.
+     *
+     * @param key Cache key
+     * @return Cached (possibly stale) value if present; otherwise loads from DB, caches it, and returns it.
+     * Returns null if not found.
+     */
+    @Override
+    public V read(K key) {
+        try {
+            Optional<V> cachedValue = cache.get(key);
+            if (cachedValue.isPresent()) {
+                log.debug("Cache hit for key: {}", key);
+                Optional<Duration> remaining = ttlOperations.remainingTtl(key);
+                if (remaining.isPresent() && ttl.toMillis() - remaining.get().toMillis() >= refreshAfterMillis) {
+                    scheduleRefresh(key, cachedValue.get(), remaining.get().toMillis());
+                }
+                return cachedValue.get();
+            }
+
+            StaleValue<V> stale = staleValues.get(key);
+            if (stale != null) {
+                if (System.currentTimeMillis() <= stale.servableUntilMillis) {
+                    log.debug("Serving stale value for key: {} while its reload is retried", key);
+                    staleReads.increment();
+                    scheduleRefresh(key, stale.value, 0);
+                    return stale.value;
+                }
+                staleValues.remove(key, stale);
+            }
+
+            log.debug("Cache miss for key: {}. Loading from DB.", key);
+            V dbValue = loadStats.recordLoad(() -> cacheToDatabaseService.load(key));
+            if (dbValue != null) {
+                ttlOperations.put(key, dbValue, ttl);
+                log.debug("Loaded data from DB and cached successfully for key: {}", key);
+                return dbValue;
+            }
+            log.warn("No data found in DB for key: {}", key);
+            return null;
+        } catch (Exception e) {
+            log.error("Exception during read operation for key: {}", key, e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes data synchronously into both DB and Cache.
+     *
+     * @param key   Cache key
+     * @param value Value to write
+     */
+    @Override
+    public void write(K key, V value) {
+        try {
+            cacheToDatabaseService.save(key, value);
+            log.debug("Saved data into DB successfully for key: {}", key);
+            // before the cache update, so a reload that loaded the previous value does not put it back
+            writeGenerations.incrementAndGet(stripe(key));
+            ttlOperations.put(key, value, ttl);
+            staleValues.remove(key);
+            log.debug("Updated cache successfully after DB write for key: {}", key);
+        } catch (Exception e) {
+            log.error("Error during write operation for key: {}", key, e);
+        }
+    }
+
+    /**
+     * Returns the cache statistics together with the time spent loading keys from the database,
+     * including the background reloads.
+     *
+     * @return combined statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return cache.stats().plus(loadStats.snapshot());
+    }
+
+    /**
+     * Returns the number of background reloads started so far.
+     *
+     * @return background reloads
+     */
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of background reloads that failed.
+     *
+     * @return failed background reloads
+     */
+    public long failedRefreshCount() {
+        return failedRefreshes.sum();
+    }
+
+    /**
+     * Returns the number of reads served with a stale value after the entry expired.
+     *
+     * @return stale reads
+     */
+    public long staleReadCount() {
+        return staleReads.sum();
+    }
+
+    /**
+     * Returns the number of keys whose last value is kept because their reload failed.
+     *
+     * @return keys with a stale value
+     */
+    public int staleValueCount() {
+        return staleValues.size();
+    }
+
+    /**
+     * Returns the number of background reloads currently in flight.
+     *
+     * @return reloads in flight
+     */
+    public int refreshesInFlight() {
+        return refreshesInFlight.size();
+    }
+
+    private void scheduleRefresh(K key, V currentValue, long remainingMillis) {
+        CompletableFuture<Void> refresh = new CompletableFuture<>();
+        if (refreshesInFlight.putIfAbsent(key, refresh) != null) {
+            return;
+        }
+        refreshes.increment();
+        log.debug("Refreshing key: {} ahead of its expiry", key);
+        long generation = writeGenerations.get(stripe(key));
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, currentValue, remainingMillis, generation);
+                } finally {
+                    refreshesInFlight.remove(key, refresh);
+                    refresh.complete(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Refresh executor rejected the reload of key: {}", key);
+            refreshesInFlight.remove(key, refresh);
+            refresh.complete(null);
+        }
+    }
+
+    private void refresh(K key, V currentValue, long remainingMillis, long generation) {
+        pruneStaleValues();
+        try {
+            V dbValue = loadStats.recordLoad(() -> cacheToDatabaseService.load(key));
+            if (writtenSince(key, generation)) {
+                log.debug("Key: {} was written during its reload, dropping the reloaded value", key);
+                return;
+            }
+            if (dbValue != null) {
+                ttlOperations.put(key, dbValue, ttl);
+                if (writtenSince(key, generation)) {
+                    // the write may have updated the cache before this put, let the next read load it again
+                    cache.evict(key);
+                    return;
+                }
+            } else {
+                log.debug("Key: {} no longer exists in DB, evicting it", key);
+                cache.evict(key);
+            }
+            staleValues.remove(key);
+        } catch (Exception e) {
+            failedRefreshes.increment();
+            if (writtenSince(key, generation)) {
+                log.warn("Background reload of key: {} failed after it was written", key, e);
+                return;
+            }
+            // the grace period starts when the entry expires, not when the failed reload ends
+            StaleValue<V> stale = new StaleValue<>(currentValue, System.currentTimeMillis() + remainingMillis
+                    + staleGracePeriod.toMillis());
+            staleValues.putIfAbsent(key, stale);
+            log.warn("Background reload of key: {} failed, serving the last value for up to {} ms", key,
+                    staleGracePeriod.toMillis(), e);
+        }
+    }
+
+    /**
+     * Drops the stale values past their deadline, at most once per grace period, so keys that stopped being
+     * read do not keep their last value forever.
+     */
+    private void pruneStaleValues() {
+        long now = System.currentTimeMillis();
+        long next = nextStalePruneMillis.get();
+        if (now >= next && nextStalePruneMillis.compareAndSet(next, now + staleGracePeriod.toMillis())) {
+            staleValues.values().removeIf(stale -> now > stale.servableUntilMillis);
+        }
+    }
+
+    private boolean writtenSince(K key, long generation) {
+        return writeGenerations.get(stripe(key)) != generation;
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    /**
+     * Cache operations depending on the entry TTL, implemented by both TTL cache families.
+     */
+    private interface TtlOperations<K, V> {
+        Optional<Duration> remainingTtl(K key);
+
+        void put(K key, V value, Duration ttl) throws Exception;
+    }
+
+    /**
+     * Last known value of a key whose reload failed.
+     */
+    private static final class StaleValue<V> {
+        private final V value;
+        private final long servableUntilMillis;
+
+        private StaleValue(V value, long servableUntilMillis) {
+            this.value = value;
+            this.servableUntilMillis = servableUntilMillis;
+        }
+    }
+}
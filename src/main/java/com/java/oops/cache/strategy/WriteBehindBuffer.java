@@ -0,0 +1,350 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.database.CacheToDatabaseService;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded, coalescing buffer of pending database writes, flushed in batches by a flusher task.
+ *
+ * <pre>
+ * - Pending writes are kept per key in insertion order; a new write to a pending key only replaces
+ *   its value, so a hot key costs one database row per flush however often it is written.
+ * - The flusher wakes up when {@code batchSize} keys are pending or {@code flushInterval} elapsed,
+ *   and hands the pending writes to {@link CacheToDatabaseService#bulkSave(Map)}.
+ * - With one flush at a time, every pending write goes into the batch and the flusher saves it itself.
+ *   With {@code maxConcurrentFlushes} above one, batches of at most {@code batchSize} keys are saved by
+ *   tasks of the executor, up to that many at once. A key is never in two batches in flight: its newer
+ *   writes wait in the buffer until its batch is done, so a key's writes reach the database in order.
+ * - Once {@code maxPendingWrites} keys are pending or being flushed, writers of new keys block until a
+ *   flush completes (backpressure); writes to already pending keys never block. Counting the batches being
+ *   flushed keeps the bound when a failed batch is merged back into the pending writes.
+ * - A failed flush is logged and, after a backoff, its entries are put back unless a newer value was written
+ *   meanwhile, so they are retried with a later batch.
+ * - {@link #drainAndStop()} stops accepting writes and waits for the flusher to drain everything. After that,
+ *   a batch failing three times in a row is dropped (and logged) so shutdown cannot hang.
+ * </pre>
+ *
+ * @param <K> Type of key
+ * @param <V> Type of value
+ * @author sathwick
+ */
+@Slf4j
+final class WriteBehindBuffer<K, V> {
+    private static final int MAX_ATTEMPTS_AFTER_CLOSE = 3;
+
+    private final CacheToDatabaseService<K, V> cacheToDatabaseService;
+    private final ExecutorService executorService;
+    private final int batchSize;
+    private final int maxPendingWrites;
+    private final int maxConcurrentFlushes;
+    private final long flushIntervalNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition flushNeeded = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private final CountDownLatch flusherDone = new CountDownLatch(1);
+    private final AtomicLong acceptedWrites = new AtomicLong();
+    private final AtomicLong flushedWrites = new AtomicLong();
+    private final Set<K> flushingKeys = new HashSet<>();
+    private LinkedHashMap<K, V> pending = new LinkedHashMap<>();
+    private int flushesInFlight;
+    private boolean closed;
+    private int consecutiveFailures;
+
+    /**
+     * Creates the buffer and starts its flusher on the executor.
+     *
+     * @param cacheToDatabaseService service receiving the batches
+     * @param executorService        executor running the flusher, and the concurrent flushes if any; one of its
+     *                               threads is used for the buffer's lifetime
+     * @param batchSize              number of pending keys triggering a flush
+     * @param maxPendingWrites       number of pending keys above which writers block
+     * @param flushInterval          maximum time a write stays pending
+     * @param maxConcurrentFlushes   number of batches saved at the same time; above one the executor must run
+     *                               that many tasks besides the flusher
+     */
+    WriteBehindBuffer(CacheToDatabaseService<K, V> cacheToDatabaseService, ExecutorService executorService,
+                      int batchSize, int maxPendingWrites, Duration flushInterval, int maxConcurrentFlushes) {
+        if (batchSize <= 0 || maxPendingWrites < batchSize) {
+            throw new IllegalArgumentException("Batch size must be positive and not above the max pending writes");
+        }
+        if (maxConcurrentFlushes <= 0) {
+            throw new IllegalArgumentException("Max concurrent flushes must be positive");
+        }
+        this.cacheToDatabaseService = cacheToDatabaseService;
+        this.executorService = executorService;
+        this.batchSize = batchSize;
+        this.maxPendingWrites = maxPendingWrites;
+        this.maxConcurrentFlushes = maxConcurrentFlushes;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        executorService.execute(this::flushLoop);
+    }
+
+    /**
+     * Buffers the write, blocking while the buffer is full and the key is not already pending.
+     *
+     * @param key   key to write
+     * @param value latest value of the key
+     * @throws IllegalStateException if the buffer is closed
+     * @throws InterruptedException  if interrupted while waiting for room
+     */
+    void enqueue(K key, V value) throws InterruptedException {
+        lock.lock();
+        try {
+            while (!closed && pending.size() + flushingKeys.size() >= maxPendingWrites && !pending.containsKey(key)) {
+                log.debug("Write-behind buffer full, waiting for a flush to make room for key: {}", key);
+                notFull.await();
+            }
+            if (closed) {
+                throw new IllegalStateException("Write-behind buffer is closed");
+            }
+            pending.put(key, value);
+            acceptedWrites.incrementAndGet();
+            if (pending.size() >= batchSize) {
+                flushNeeded.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of keys waiting to be flushed.
+     *
+     * @return pending keys
+     */
+    int pendingWrites() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of writes accepted so far, including the ones coalesced into a pending key.
+     *
+     * @return accepted writes
+     */
+    long acceptedWrites() {
+        return acceptedWrites.get();
+    }
+
+    /**
+     * Returns the number of rows handed to the database so far.
+     *
+     * @return flushed writes
+     */
+    long flushedWrites() {
+        return flushedWrites.get();
+    }
+
+    /**
+     * Stops accepting writes and waits until every pending write is flushed.
+     *
+     * @throws InterruptedException if interrupted while waiting for the final flush
+     */
+    void drainAndStop() throws InterruptedException {
+        lock.lock();
+        try {
+            closed = true;
+            flushNeeded.signal();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flusherDone.await();
+    }
+
+    private void flushLoop() {
+        try {
+            while (true) {
+                Map<K, V> batch = awaitBatch();
+                if (batch == null) {
+                    return;
+                }
+                if (maxConcurrentFlushes == 1) {
+                    flush(batch);
+                } else {
+                    dispatch(batch);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Write-behind flusher interrupted with {} pending writes", pendingWrites());
+        } finally {
+            flusherDone.countDown();
+        }
+    }
+
+    /**
+     * Waits for a flush slot and a full batch, the flush interval or close, then takes the pending writes
+     * whose keys are not being flushed.
+     *
+     * @return the writes to flush, or null once closed and drained
+     */
+    private Map<K, V> awaitBatch() throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = flushIntervalNanos;
+            while (true) {
+                if (closed && pending.isEmpty()) {
+                    if (flushesInFlight == 0) {
+                        return null;
+                    }
+                    // a batch in flight may still fail and be merged back
+                    flushNeeded.await();
+                } else if (flushesInFlight >= maxConcurrentFlushes) {
+                    flushNeeded.await();
+                } else if (!closed && pending.size() < batchSize && remainingNanos > 0) {
+                    remainingNanos = flushNeeded.awaitNanos(remainingNanos);
+                } else {
+                    Map<K, V> batch = takeBatch();
+                    if (!batch.isEmpty() || pending.isEmpty()) {
+                        // an empty batch when the interval elapsed with nothing pending
+                        return batch;
+                    }
+                    // every pending key is being flushed, wait for one of their batches
+                    flushNeeded.await();
+                    remainingNanos = flushIntervalNanos;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the pending writes whose keys are not in a batch in flight into a new batch, all of them when
+     * flushing one batch at a time, at most {@code batchSize} otherwise.
+     */
+    private Map<K, V> takeBatch() {
+        if (flushingKeys.isEmpty() && (maxConcurrentFlushes == 1 || pending.size() <= batchSize)) {
+            Map<K, V> batch = pending;
+            pending = new LinkedHashMap<>();
+            startFlush(batch);
+            return batch;
+        }
+        Map<K, V> batch = new LinkedHashMap<>();
+        Iterator<Map.Entry<K, V>> entries = pending.entrySet().iterator();
+        while (entries.hasNext() && batch.size() < batchSize) {
+            Map.Entry<K, V> entry = entries.next();
+            if (!flushingKeys.contains(entry.getKey())) {
+                batch.put(entry.getKey(), entry.getValue());
+                entries.remove();
+            }
+        }
+        startFlush(batch);
+        return batch;
+    }
+
+    private void startFlush(Map<K, V> batch) {
+        if (!batch.isEmpty()) {
+            // the batch keeps counting against maxPendingWrites until it is flushed
+            flushingKeys.addAll(batch.keySet());
+            flushesInFlight++;
+        }
+    }
+
+    private void dispatch(Map<K, V> batch) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    flush(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Executor rejected a write-behind flush of {} entries, flushing it on the flusher", batch.size());
+            flush(batch);
+        }
+    }
+
+    private void flush(Map<K, V> batch) throws InterruptedException {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            cacheToDatabaseService.bulkSave(batch);
+        } catch (Exception e) {
+            failed(batch, e);
+            return;
+        }
+        flushedWrites.addAndGet(batch.size());
+        log.debug("Flushed {} coalesced writes to the database", batch.size());
+        lock.lock();
+        try {
+            consecutiveFailures = 0;
+            flushed(batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void failed(Map<K, V> batch, Exception cause) throws InterruptedException {
+        lock.lock();
+        try {
+            consecutiveFailures++;
+            if (closed && consecutiveFailures >= MAX_ATTEMPTS_AFTER_CLOSE) {
+                log.error("Write-behind flush failed {} times during shutdown, dropping {} writes",
+                        consecutiveFailures, batch.size(), cause);
+                flushed(batch);
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        log.error("Write-behind flush of {} entries failed, retrying with a later batch", batch.size(), cause);
+        try {
+            // the batch keeps its keys and flush slot during the backoff, so it is not retried at once
+            TimeUnit.NANOSECONDS.sleep(Math.min(flushIntervalNanos, TimeUnit.SECONDS.toNanos(1)));
+        } finally {
+            requeue(batch);
+        }
+    }
+
+    /**
+     * Releases the keys and the flush slot of a completed batch. Called with the lock held.
+     */
+    private void flushed(Map<K, V> batch) {
+        flushingKeys.removeAll(batch.keySet());
+        flushesInFlight--;
+        notFull.signalAll();
+        flushNeeded.signal();
+    }
+
+    /**
+     * Merges a failed batch back in front of the writes buffered since. Writers of new keys were held back
+     * while the batch was flushing, so the merged writes stay within {@code maxPendingWrites}.
+     */
+    private void requeue(Map<K, V> batch) {
+        lock.lock();
+        try {
+            LinkedHashMap<K, V> merged = new LinkedHashMap<>(batch);
+            merged.putAll(pending);
+            pending = merged;
+            // keys written again while flushing were coalesced, which may leave room
+            flushed(batch);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
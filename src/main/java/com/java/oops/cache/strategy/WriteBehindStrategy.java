@@ -1,9 +1,16 @@
 package com.java.oops.cache.strategy;
 
 import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.database.ConcurrencyLimitedCacheToDatabaseService;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.StatsCounter;
 import com.java.oops.cache.types.AbstractCache;
+import com.java.oops.cache.types.AsyncExecutors;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -25,6 +32,20 @@ import java.util.concurrent.TimeUnit;
  *   <li>You can tolerate eventual consistency between cache and persistent storage.</li>
  * </ul>
  *
+ * <p>
+ * Writes are not persisted one by one: they go through a bounded buffer keeping only the latest value
+ * per key, flushed with {@link CacheToDatabaseService#bulkSave(java.util.Map)} once {@code batchSize}
+ * keys are pending or every {@code flushInterval}. Writers block when {@code maxPendingWrites} keys are
+ * pending or being flushed, and {@link #shutdown()} flushes everything before stopping the executor.
+ *
+ * <p>
+ * Built with a maximum number of concurrent database calls instead of an executor, the strategy sends every
+ * load and flush through a {@link ConcurrencyLimitedCacheToDatabaseService}: callers can be as many virtual
+ * threads as needed while the database sees a bounded concurrency, reported by {@link #databaseMetrics()}.
+ * The flusher runs on a virtual thread (Java 21+, a daemon thread otherwise) and hands batches of at most
+ * {@code batchSize} keys to virtual threads of their own, up to {@code maxConcurrentDbCalls} at once; batches in
+ * flight never share a key, so a key's writes still reach the database in order. Loads run on the calling thread.
+ *
  * @param <K> Type of cache key
  * @param <V> Type of cache value
  */
@@ -33,19 +54,88 @@ public class WriteBehindStrategy<K, V> implements CachingStrategy<K, V> {
 
     private final AbstractCache<K, V> cache;
     private final CacheToDatabaseService<K, V> cacheToDatabaseService;
+    private final StatsCounter loadStats = new StatsCounter();
     private final ExecutorService executorService;
+    private final WriteBehindBuffer<K, V> writeBuffer;
+    private final ConcurrencyLimitedCacheToDatabaseService<K, V> databaseLimiter;
 
     /**
      * Constructs a WriteBehindStrategy instance with provided cache and database service.
      *
-     * @param cache           Cache implementation used for caching operations
+     * @param cache                  Cache implementation used for caching operations
      * @param cacheToDatabaseService Database service implementation for persistent storage
-     * @param executorService Executor service for asynchronous operations
+     * @param executorService        Executor service running the flusher, one of its threads is kept busy
+     * @param batchSize              Number of pending keys triggering a flush
+     * @param maxPendingWrites       Number of unflushed keys above which writers block
+     * @param flushInterval          Maximum time a write stays in the buffer
      */
-    public WriteBehindStrategy(AbstractCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService, ExecutorService executorService) {
+    public WriteBehindStrategy(AbstractCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService,
+                               ExecutorService executorService, int batchSize, int maxPendingWrites,
+                               Duration flushInterval) {
+        this(cache, cacheToDatabaseService, null, executorService, batchSize, maxPendingWrites, flushInterval, 1);
+    }
+
+    /**
+     * Constructs a WriteBehindStrategy instance limiting its database calls to {@code maxConcurrentDbCalls}
+     * at a time, flushing batches with disjoint keys concurrently on virtual threads.
+     *
+     * @param cache                  Cache implementation used for caching operations
+     * @param cacheToDatabaseService Database service implementation for persistent storage
+     * @param maxConcurrentDbCalls   Maximum number of loads and flushes running at the same time
+     * @param batchSize              Number of pending keys triggering a flush
+     * @param maxPendingWrites       Number of unflushed keys above which writers block
+     * @param flushInterval          Maximum time a write stays in the buffer
+     */
+    public WriteBehindStrategy(AbstractCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService,
+                               int maxConcurrentDbCalls, int batchSize, int maxPendingWrites, Duration flushInterval) {
+        this(cache, new ConcurrencyLimitedCacheToDatabaseService<>(cacheToDatabaseService, maxConcurrentDbCalls),
+                AsyncExecutors.newBlockingTaskExecutor("WriteBehind-Flusher"), batchSize, maxPendingWrites,
+                flushInterval, maxConcurrentDbCalls);
+    }
+
+    /**
+     * Constructs a WriteBehindStrategy instance limiting its database calls to {@code maxConcurrentDbCalls}
+     * at a time, flushing batches of 100 keys concurrently on virtual threads at least every second, with at most
+     * 10,000 pending keys.
+     *
+     * @param cache                  Cache implementation used for caching operations
+     * @param cacheToDatabaseService Database service implementation for persistent storage
+     * @param maxConcurrentDbCalls   Maximum number of loads and flushes running at the same time
+     */
+    public WriteBehindStrategy(AbstractCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService,
+                               int maxConcurrentDbCalls) {
+        this(cache, cacheToDatabaseService, maxConcurrentDbCalls, 100, 10_000, Duration.ofSeconds(1));
+    }
+
+    private WriteBehindStrategy(AbstractCache<K, V> cache, ConcurrencyLimitedCacheToDatabaseService<K, V> databaseLimiter,
+                                ExecutorService executorService, int batchSize, int maxPendingWrites,
+                                Duration flushInterval, int maxConcurrentFlushes) {
+        this(cache, databaseLimiter, databaseLimiter, executorService, batchSize, maxPendingWrites, flushInterval,
+                maxConcurrentFlushes);
+    }
+
+    private WriteBehindStrategy(AbstractCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService,
+                                ConcurrencyLimitedCacheToDatabaseService<K, V> databaseLimiter,
+                                ExecutorService executorService, int batchSize, int maxPendingWrites,
+                                Duration flushInterval, int maxConcurrentFlushes) {
         this.cache = cache;
         this.cacheToDatabaseService = cacheToDatabaseService;
+        this.databaseLimiter = databaseLimiter;
         this.executorService = executorService;
+        this.writeBuffer = new WriteBehindBuffer<>(cacheToDatabaseService, executorService, batchSize,
+                maxPendingWrites, flushInterval, maxConcurrentFlushes);
+    }
+
+    /**
+     * Constructs a WriteBehindStrategy instance flushing batches of 100 keys at least every second,
+     * with at most 10,000 pending keys.
+     *
+     * @param cache           Cache implementation used for caching operations
+     * @param cacheToDatabaseService Database service implementation for persistent storage
+     * @param executorService Executor service for asynchronous operations
+     */
+    public WriteBehindStrategy(AbstractCache<K, V> cache, CacheToDatabaseService<K, V> cacheToDatabaseService, ExecutorService executorService) {
+        this(cache, cacheToDatabaseService, executorService, 100, 10_000, Duration.ofSeconds(1));
     }
 
     /**
@@ -64,7 +154,7 @@ public class WriteBehindStrategy<K, V> implements CachingStrategy<K, V> {
             }
 
             log.debug("Cache miss for key: {}. Retrieving from database...", key);
-            V dbValue = cacheToDatabaseService.load(key);
+            V dbValue = loadStats.recordLoad(() -> cacheToDatabaseService.load(key));
 
             if (dbValueExists(dbValue)) {
                 cache.put(key, dbValue);
@@ -80,6 +170,28 @@ public class WriteBehindStrategy<K, V> implements CachingStrategy<K, V> {
         }
     }
 
+    /**
+     * Reads the keys with one bulk cache lookup; the misses are loaded from DB with a single
+     * {@link CacheToDatabaseService#loadAll(Collection)} call and cached in bulk.
+     *
+     * @param keys Keys to read from cache/database
+     * @return Values by key; keys found neither in cache nor in DB are absent
+     */
+    @Override
+    public Map<K, V> readAll(Collection<K> keys) {
+        return BulkReads.readAll(cache, cacheToDatabaseService, loadStats, keys);
+    }
+
+    /**
+     * Returns the cache statistics together with the time spent loading missing keys from the database.
+     *
+     * @return combined statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return cache.stats().plus(loadStats.snapshot());
+    }
+
     /**
      * Writes data immediately to the cache and asynchronously persists the data to the database.
      *
@@ -93,25 +205,52 @@ public class WriteBehindStrategy<K, V> implements CachingStrategy<K, V> {
             cache.put(key, value);
             log.debug("Successfully updated cache entry immediately for key: {}", key);
 
-            // Asynchronously persist data into DB using executor service
-            executorService.submit(() -> {
-                try {
-                    cacheToDatabaseService.save(key, value);
-                    log.debug("Asynchronously persisted data into DB successfully for key: {}", key);
-                } catch (Exception ex) {
-                    log.error("Async write failed for key: {}", key, ex);
-                }
-            });
+            // Buffer the write, the flusher persists it with the next batch
+            writeBuffer.enqueue(key, value);
+            log.debug("Buffered write-behind of key: {}", key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while waiting for room in the write-behind buffer for key: {}", key, e);
         } catch (Exception e) {
             log.error("Error during write operation (cache update) for key: {}", key, e);
         }
     }
 
     /**
-     * Shuts down the executor service gracefully.
+     * Returns the number of keys waiting to be persisted.
+     *
+     * @return pending writes
+     */
+    public int pendingWrites() {
+        return writeBuffer.pendingWrites();
+    }
+
+    /**
+     * Returns how many writes were accepted for each row written to the database so far.
+     *
+     * @return coalescing ratio, 1.0 before the first flush
+     */
+    public double coalescingRatio() {
+        long flushed = writeBuffer.flushedWrites();
+        return flushed == 0 ? 1.0 : (double) writeBuffer.acceptedWrites() / flushed;
+    }
+
+    /**
+     * Returns the database concurrency metrics when the strategy was built with a maximum number of
+     * concurrent database calls.
+     *
+     * @return in-flight calls and permit wait times, empty if the strategy runs on a caller-provided executor
+     */
+    public Optional<ConcurrencyLimitedCacheToDatabaseService.Metrics> databaseMetrics() {
+        return Optional.ofNullable(databaseLimiter).map(ConcurrencyLimitedCacheToDatabaseService::metrics);
+    }
+
+    /**
+     * Flushes every pending write, then shuts down the executor service gracefully.
      */
     public void shutdown() {
         try {
+            writeBuffer.drainAndStop();
             executorService.shutdown();
             if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
                 executorService.shutdownNow();
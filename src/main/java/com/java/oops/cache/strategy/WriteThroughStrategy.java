@@ -1,9 +1,13 @@
 package com.java.oops.cache.strategy;
 
 import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.StatsCounter;
 import com.java.oops.cache.types.AbstractCache;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -31,6 +35,7 @@ public class WriteThroughStrategy<K, V> implements CachingStrategy<K, V> {
 
     private final AbstractCache<K, V> cache;
     private final CacheToDatabaseService<K, V> cacheToDatabaseService;
+    private final StatsCounter loadStats = new StatsCounter();
 
     /**
      * Constructs a WriteThroughStrategy instance.
@@ -60,7 +65,7 @@ public class WriteThroughStrategy<K, V> implements CachingStrategy<K, V> {
             }
 
             log.debug("Cache miss for key: {}. Retrieving from database...", key);
-            V dbValue = cacheToDatabaseService.load(key);
+            V dbValue = loadStats.recordLoad(() -> cacheToDatabaseService.load(key));
 
             if (dbValue != null) {
                 // Optionally populate the cache after DB retrieval to improve subsequent reads
@@ -77,6 +82,28 @@ public class WriteThroughStrategy<K, V> implements CachingStrategy<K, V> {
         }
     }
 
+    /**
+     * Reads the keys with one bulk cache lookup; the misses are loaded from DB with a single
+     * {@link CacheToDatabaseService#loadAll(Collection)} call and cached in bulk.
+     *
+     * @param keys Keys to read from cache/database
+     * @return Values by key; keys found neither in cache nor in DB are absent
+     */
+    @Override
+    public Map<K, V> readAll(Collection<K> keys) {
+        return BulkReads.readAll(cache, cacheToDatabaseService, loadStats, keys);
+    }
+
+    /**
+     * Returns the cache statistics together with the time spent loading missing keys from the database.
+     *
+     * @return combined statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return cache.stats().plus(loadStats.snapshot());
+    }
+
     /**
      * Writes data synchronously to both the database and the cache.
      *
@@ -1,5 +1,10 @@
 package com.java.oops.cache.types;
 
+import com.java.oops.cache.stats.CacheStats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -7,6 +12,9 @@ import java.util.Optional;
  * <p>
  * Provides basic cache operations such as put, get, and evict for key-value pairs.
  * Implementations may be in-memory or distributed.
+ * <p>
+ * The bulk operations default to one single-key call per key; implementations override them to pay their
+ * lock acquisition, bookkeeping or network round-trip once per batch instead of once per key.
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of mapped values
@@ -32,4 +40,41 @@ public interface AbstractCache<K, V> {
      * @param key Of type K
      */
     void evict(K key);
+
+    /**
+     * Returns the values for the given keys
+     * @param keys Keys of type K
+     * @return Map of every key to its Optional value, empty on a miss
+     */
+    default Map<K, Optional<V>> getAll(Collection<K> keys) {
+        Map<K, Optional<V>> result = new HashMap<>();
+        for (K key : keys) {
+            result.put(key, get(key));
+        }
+        return result;
+    }
+
+    /**
+     * Updates the cache with every key and value
+     * @param entries Map of keys of type K to values of type V
+     */
+    default void putAll(Map<K, V> entries) {
+        entries.forEach(this::put);
+    }
+
+    /**
+     * Evicts every given key from the cache
+     * @param keys Keys of type K
+     */
+    default void evictAll(Collection<K> keys) {
+        keys.forEach(this::evict);
+    }
+
+    /**
+     * Returns a snapshot of the statistics recorded by this cache
+     * @return CacheStats, empty if the implementation does not record statistics
+     */
+    default CacheStats stats() {
+        return CacheStats.empty();
+    }
 }
@@ -0,0 +1,74 @@
+package com.java.oops.cache.types;
+
+import com.java.oops.cache.stats.CacheStats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AbstractCache}: every operation returns a {@link CompletableFuture}
+ * completed once the underlying cache operation finished.
+ * <p>
+ * Use {@link BlockingAsyncCache} to run any existing cache on (virtual) threads, or a native implementation
+ * such as {@link com.java.oops.cache.types.distributed.BatchingAsyncCache} for distributed caches.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author sathwick
+ */
+public interface AsyncCache<K, V> {
+    /**
+     * Updates the cache with key and value
+     * @param key Of type K
+     * @param value Of type V
+     * @return future completed once the value is stored
+     */
+    CompletableFuture<Void> put(K key, V value);
+
+    /**
+     * Returns the value for the given key
+     * @param key Of type K
+     * @return future of the Optional of type V
+     */
+    CompletableFuture<Optional<V>> get(K key);
+
+    /**
+     * Evicts the key from the cache
+     * @param key Of type K
+     * @return future completed once the key is evicted
+     */
+    CompletableFuture<Void> evict(K key);
+
+    /**
+     * Returns the values of the keys, looked up concurrently
+     * @param keys keys to look up
+     * @return future of the keys mapped to their Optional values
+     */
+    default CompletableFuture<Map<K, Optional<V>>> getAll(Collection<K> keys) {
+        List<K> keyList = new ArrayList<>(keys);
+        List<CompletableFuture<Optional<V>>> lookups = new ArrayList<>(keyList.size());
+        for (K key : keyList) {
+            lookups.add(get(key));
+        }
+        return CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<K, Optional<V>> result = new HashMap<>();
+            for (int i = 0; i < keyList.size(); i++) {
+                result.put(keyList.get(i), lookups.get(i).join());
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Returns a snapshot of the statistics recorded by this cache
+     * @return CacheStats, empty if the implementation does not record statistics
+     */
+    default CacheStats stats() {
+        return CacheStats.empty();
+    }
+}
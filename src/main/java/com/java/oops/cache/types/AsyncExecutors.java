@@ -0,0 +1,59 @@
+package com.java.oops.cache.types;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Provides the executor used by the blocking-to-async adapters.
+ *
+ * <pre>
+ * - On Java 21+ this is a virtual-thread-per-task executor: a blocked Redis or database call parks a cheap
+ *   virtual thread instead of pinning a platform thread, so hundreds of lookups can be in flight.
+ * - On older runtimes it falls back to a cached pool of daemon platform threads.
+ * - {@link #blockingTaskExecutor()} is shared and lives as long as the JVM; never shut it down.
+ *   {@link #newBlockingTaskExecutor(String)} creates one owned (and shut down) by the caller.
+ * </pre>
+ *
+ * @author sathwick
+ */
+@Slf4j
+public final class AsyncExecutors {
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * Returns the shared executor.
+     *
+     * @return virtual-thread executor when available, a cached daemon thread pool otherwise
+     */
+    public static ExecutorService blockingTaskExecutor() {
+        return Holder.EXECUTOR;
+    }
+
+    /**
+     * Creates a new executor running every task on its own virtual thread, or on a cached pool of daemon
+     * platform threads when virtual threads are unavailable.
+     *
+     * @param threadName name of the platform threads of the fallback pool
+     * @return a new executor, to be shut down by the caller
+     */
+    public static ExecutorService newBlockingTaskExecutor(String threadName) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.debug("Virtual threads unavailable, using a cached thread pool for {}", threadName);
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR = newBlockingTaskExecutor("AsyncCache-Worker");
+    }
+}
@@ -0,0 +1,94 @@
+package com.java.oops.cache.types;
+
+import com.java.oops.cache.stats.CacheStats;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * {@link AsyncCache} adapter running a blocking {@link AbstractCache} on an executor.
+ * <p>
+ * By default the calls run on {@link AsyncExecutors#blockingTaskExecutor()}, i.e. on virtual threads when the
+ * runtime has them. The wrapped cache is called from several threads at once and must be thread-safe.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ * @author sathwick
+ */
+public class BlockingAsyncCache<K, V> implements AsyncCache<K, V> {
+    private final AbstractCache<K, V> delegateCache;
+    private final Executor executor;
+
+    /**
+     * Creates the adapter.
+     *
+     * @param delegateCache thread-safe blocking cache
+     * @param executor      executor running the blocking calls
+     */
+    public BlockingAsyncCache(AbstractCache<K, V> delegateCache, Executor executor) {
+        if (delegateCache == null || executor == null) {
+            throw new NullPointerException("Delegate cache and executor cannot be null");
+        }
+        this.delegateCache = delegateCache;
+        this.executor = executor;
+    }
+
+    /**
+     * Creates the adapter running on the shared blocking task executor.
+     *
+     * @param delegateCache thread-safe blocking cache
+     */
+    public BlockingAsyncCache(AbstractCache<K, V> delegateCache) {
+        this(delegateCache, AsyncExecutors.blockingTaskExecutor());
+    }
+
+    /**
+     * Runs the delegate put on the executor.
+     *
+     * @param key   Cache key
+     * @param value Cache value
+     * @return future completed once the value is stored, or exceptionally with the exception thrown by the
+     *         delegate
+     * @throws java.util.concurrent.RejectedExecutionException if the executor refuses the task
+     */
+    @Override
+    public CompletableFuture<Void> put(K key, V value) {
+        return CompletableFuture.runAsync(() -> delegateCache.put(key, value), executor);
+    }
+
+    /**
+     * Runs the delegate lookup on the executor.
+     *
+     * @param key Cache key
+     * @return future of the cached value, completed exceptionally with the exception thrown by the delegate
+     * @throws java.util.concurrent.RejectedExecutionException if the executor refuses the task
+     */
+    @Override
+    public CompletableFuture<Optional<V>> get(K key) {
+        return CompletableFuture.supplyAsync(() -> delegateCache.get(key), executor);
+    }
+
+    /**
+     * Runs the delegate eviction on the executor.
+     *
+     * @param key Cache key
+     * @return future completed once the key is evicted, or exceptionally with the exception thrown by the
+     *         delegate
+     * @throws java.util.concurrent.RejectedExecutionException if the executor refuses the task
+     */
+    @Override
+    public CompletableFuture<Void> evict(K key) {
+        return CompletableFuture.runAsync(() -> delegateCache.evict(key), executor);
+    }
+
+    /**
+     * Returns the statistics of the delegate cache, read on the calling thread.
+     *
+     * @return delegate statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return delegateCache.stats();
+    }
+}
@@ -2,9 +2,14 @@ package com.java.oops.cache.types;
 
 import com.java.oops.cache.eviction.EvictionPolicy;
 import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.RemovalCause;
+import com.java.oops.cache.stats.StatsCounter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -12,6 +17,14 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * In Memory Cache - Generic
+ * <pre>
+ * The cache is bounded either by:
+ * - an entry count (capacity): a new key evicts one key of the eviction policy when the cache is full, or
+ * - a maximum total weight computed by a {@link Weigher} (e.g. value sizes in bytes): a put evicts keys of the
+ *   eviction policy until the new entry fits, so entries of very different sizes still bound the memory used.
+ *   An entry weighing more than a fraction of the maximum weight (10% by default) is rejected instead of
+ *   flushing most of the cache, and a previous value of its key is removed.
+ * </pre>
  * @param <K> Key of type K
  * @param <V> Value of type V
  * @author sathwick
@@ -22,8 +35,10 @@ public class InMemoryCache<K, V> implements AbstractCache<K, V> {
     private final Map<K, V> cache;
     private final EvictionPolicy<K> evictionPolicy;
     private final Integer capacity;
-    private int hitCount = 0;
-    private int missCount = 0;
+    @Getter(AccessLevel.NONE)
+    private final WeightedCapacity<K, V> weightedCapacity;
+    @Getter(AccessLevel.NONE)
+    private final StatsCounter statsCounter = new StatsCounter();
 
     /**
      * Initializes the cache
@@ -34,6 +49,33 @@ public class InMemoryCache<K, V> implements AbstractCache<K, V> {
         this.cache = new HashMap<>();
         this.evictionPolicy = evictionPolicy;
         this.capacity = capacity;
+        this.weightedCapacity = null;
+    }
+
+    /**
+     * Initializes a cache bounded by the total weight of its entries rather than their count
+     * @param evictionPolicy EvictionPolicy to be used, asked for victims until a new entry fits
+     * @param maximumWeight Maximum total weight of the entries
+     * @param weigher Weigher computing the weight of an entry
+     * @param maxEntryWeightFraction Fraction of the maximum weight above which an entry is rejected, in (0, 1]
+     */
+    public InMemoryCache(EvictionPolicy<K> evictionPolicy, long maximumWeight, Weigher<? super K, ? super V> weigher,
+                         double maxEntryWeightFraction) {
+        this.weightedCapacity = new WeightedCapacity<>(weigher, maximumWeight, maxEntryWeightFraction);
+        this.cache = new HashMap<>();
+        this.evictionPolicy = evictionPolicy;
+        this.capacity = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Initializes a cache bounded by the total weight of its entries, rejecting entries heavier than
+     * 10% of the maximum weight
+     * @param evictionPolicy EvictionPolicy to be used, asked for victims until a new entry fits
+     * @param maximumWeight Maximum total weight of the entries
+     * @param weigher Weigher computing the weight of an entry
+     */
+    public InMemoryCache(EvictionPolicy<K> evictionPolicy, long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        this(evictionPolicy, maximumWeight, weigher, WeightedCapacity.DEFAULT_MAX_ENTRY_WEIGHT_FRACTION);
     }
 
     /**
@@ -52,12 +94,16 @@ public class InMemoryCache<K, V> implements AbstractCache<K, V> {
      */
     @Override
     public void put(K key, V value) {
-        if(!cache.containsKey(key)){
-            missCount++;
-        } else {
-            hitCount++;
+        if (weightedCapacity != null) {
+            putWeighted(key, value);
+            return;
         }
         if(!cache.containsKey(key) && cache.size() == capacity) {
+            statsCounter.recordEviction(RemovalCause.SIZE);
+            if(!evictionPolicy.admit(key)) {
+                log.debug("Cache is full and eviction policy rejected admission of key {}", key);
+                return;
+            }
             log.debug("Cache is full, evicting key according to eviction policy");
             K evictedKey = evictionPolicy.evict();
             cache.remove(evictedKey);
@@ -78,10 +124,12 @@ public class InMemoryCache<K, V> implements AbstractCache<K, V> {
     public Optional<V> get(K key) {
         if(cache.containsKey(key)) {
             log.debug("Key Hit in the cache for key: {}", key);
+            statsCounter.recordHit();
             evictionPolicy.recordAccess(key);
             return Optional.ofNullable(cache.get(key));
         }
         log.debug("Key miss in the cache for key: {}", key);
+        statsCounter.recordMiss();
         return Optional.empty();
     }
 
@@ -93,7 +141,93 @@ public class InMemoryCache<K, V> implements AbstractCache<K, V> {
     @Override
     public void evict(K key) {
         log.debug("Evicting the key from the cache");
+        if(cache.containsKey(key)) {
+            statsCounter.recordEviction(RemovalCause.EXPLICIT);
+        }
         cache.remove(key);
+        removeWeight(key);
         evictionPolicy.evict(key);
     }
+
+    /**
+     * Returns the values for the given keys, recording the hits and misses once for the batch
+     *
+     * @param keys Keys of type K
+     * @return Map of every key to its Optional value
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        Map<K, Optional<V>> result = new HashMap<>();
+        int hits = 0;
+        for (K key : keys) {
+            if (cache.containsKey(key)) {
+                hits++;
+                evictionPolicy.recordAccess(key);
+                result.put(key, Optional.ofNullable(cache.get(key)));
+            } else {
+                result.put(key, Optional.empty());
+            }
+        }
+        statsCounter.recordHits(hits);
+        statsCounter.recordMisses(keys.size() - hits);
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counts
+     *
+     * @return CacheStats
+     */
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * Returns the weigher of a weight-bounded cache
+     * @return Weigher, null if the cache is bounded by an entry count
+     */
+    public Weigher<? super K, ? super V> getWeigher() {
+        return weightedCapacity == null ? null : weightedCapacity.getWeigher();
+    }
+
+    /**
+     * Returns the maximum total weight of the entries
+     * @return maximum weight, 0 if the cache is bounded by an entry count
+     */
+    public long getMaximumWeight() {
+        return weightedCapacity == null ? 0 : weightedCapacity.getMaximumWeight();
+    }
+
+    /**
+     * Returns the weight above which an entry is rejected
+     * @return max entry weight, 0 if the cache is bounded by an entry count
+     */
+    public long getMaxEntryWeight() {
+        return weightedCapacity == null ? 0 : weightedCapacity.getMaxEntryWeight();
+    }
+
+    /**
+     * Returns the total weight of the entries
+     * @return total weight, 0 if the cache is bounded by an entry count
+     */
+    public long getTotalWeight() {
+        return weightedCapacity == null ? 0 : weightedCapacity.getTotalWeight();
+    }
+
+    /**
+     * Inserts the entry once enough weight is free, evicting keys of the eviction policy as needed
+     */
+    private void putWeighted(K key, V value) {
+        if (weightedCapacity.reserve(key, value, evictionPolicy, statsCounter, cache::remove)) {
+            cache.put(key, value);
+            evictionPolicy.recordAccess(key);
+        }
+    }
+
+    private void removeWeight(K key) {
+        if (weightedCapacity != null) {
+            weightedCapacity.release(key);
+        }
+    }
 }
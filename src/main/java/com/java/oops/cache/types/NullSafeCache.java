@@ -1,5 +1,10 @@
 package com.java.oops.cache.types;
 
+import com.java.oops.cache.stats.CacheStats;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -57,4 +62,53 @@ public class NullSafeCache<K,V> implements AbstractCache<K, V> {
     public void evict(K key) {
         delegateCache.evict(key);
     }
+
+    /**
+     * Returns the values for the given keys with a single bulk call to the delegate
+     *
+     * @param keys Keys of type K
+     * @return Map of every key to its Optional value
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        return delegateCache.getAll(keys);
+    }
+
+    /**
+     * Updates the cache with every non-null value, with a single bulk call to the delegate
+     *
+     * @param entries Map of keys of type K to values of type V
+     */
+    @Override
+    public void putAll(Map<K, V> entries) {
+        Map<K, V> nonNullEntries = new HashMap<>();
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                nonNullEntries.put(key, value);
+            }
+        });
+        if (!nonNullEntries.isEmpty()) {
+            delegateCache.putAll(nonNullEntries);
+        }
+    }
+
+    /**
+     * Evicts every given key with a single bulk call to the delegate
+     *
+     * @param keys Keys of type K
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        delegateCache.evictAll(keys);
+    }
+
+    /**
+     * Returns the statistics of the delegate cache
+     *
+     * @return CacheStats of the delegate
+     */
+    @Override
+    public CacheStats stats() {
+        return delegateCache.stats();
+    }
 }
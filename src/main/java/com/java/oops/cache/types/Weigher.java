@@ -0,0 +1,35 @@
+package com.java.oops.cache.types;
+
+/**
+ * Computes the weight of a cache entry, e.g. its approximate size in bytes, for caches bounded by a
+ * maximum total weight instead of an entry count.
+ *
+ * <p>The weight of an entry is computed once, when it is inserted or updated; it must not be negative.</p>
+ *
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
+ * @author sathwick
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Returns the weight of the entry.
+     *
+     * @param key   Cache key
+     * @param value Cache value
+     * @return non-negative weight
+     */
+    int weigh(K key, V value);
+
+    /**
+     * Returns a weigher giving every entry a weight of 1, which makes a maximum weight an entry count.
+     *
+     * @param <K> Type of cache key
+     * @param <V> Type of cache value
+     * @return the singleton weigher
+     */
+    static <K, V> Weigher<K, V> singletonWeigher() {
+        return (key, value) -> 1;
+    }
+}
@@ -0,0 +1,134 @@
+package com.java.oops.cache.types;
+
+import com.java.oops.cache.eviction.EvictionPolicy;
+import com.java.oops.cache.stats.RemovalCause;
+import com.java.oops.cache.stats.StatsCounter;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Weight bookkeeping shared by the caches bounded by a maximum total weight instead of an entry count.
+ * <pre>
+ * - Tracks the weight of every resident key and their total.
+ * - Before a put, evicts keys of the eviction policy until the new entry fits; the owning cache removes
+ *   the victims from its own storage through a callback.
+ * - An entry weighing more than the max entry weight is rejected, and a previous value of its key removed.
+ * - Every rejected or evicted entry is recorded as a {@link RemovalCause#SIZE} eviction, as in count mode.
+ * - Not thread-safe: the owning cache calls it under its own synchronization.
+ * </pre>
+ * @param <K> Key of type K
+ * @param <V> Value of type V
+ * @author sathwick
+ */
+@Slf4j
+@Getter
+public final class WeightedCapacity<K, V> {
+    /**
+     * Default fraction of the maximum weight above which an entry is rejected.
+     */
+    public static final double DEFAULT_MAX_ENTRY_WEIGHT_FRACTION = 0.1;
+
+    private final Weigher<? super K, ? super V> weigher;
+    private final long maximumWeight;
+    private final long maxEntryWeight;
+    private long totalWeight;
+    @Getter(AccessLevel.NONE)
+    private final Map<K, Integer> weights = new HashMap<>();
+
+    /**
+     * Creates the bookkeeping of an empty cache
+     * @param weigher Weigher computing the weight of an entry
+     * @param maximumWeight Maximum total weight of the entries
+     * @param maxEntryWeightFraction Fraction of the maximum weight above which an entry is rejected, in (0, 1]
+     */
+    public WeightedCapacity(Weigher<? super K, ? super V> weigher, long maximumWeight, double maxEntryWeightFraction) {
+        if (weigher == null) {
+            throw new NullPointerException("Weigher cannot be null");
+        }
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("Maximum weight must be positive");
+        }
+        if (maxEntryWeightFraction <= 0 || maxEntryWeightFraction > 1) {
+            throw new IllegalArgumentException("Max entry weight fraction must be in (0, 1]");
+        }
+        this.weigher = weigher;
+        this.maximumWeight = maximumWeight;
+        this.maxEntryWeight = (long) (maximumWeight * maxEntryWeightFraction);
+    }
+
+    /**
+     * Makes room for the entry, evicting keys of the eviction policy until it fits, and records its weight
+     * @param key Key being put
+     * @param value Value being put
+     * @param evictionPolicy Eviction policy asked for admission and victims
+     * @param statsCounter Statistics of the owning cache
+     * @param removeEntry Removes an evicted or rejected key from the owning cache's storage
+     * @return false if the entry was rejected, either for being too heavy or by the admission check
+     */
+    public boolean reserve(K key, V value, EvictionPolicy<K> evictionPolicy, StatsCounter statsCounter,
+                           Consumer<K> removeEntry) {
+        int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight of key " + key + " cannot be negative");
+        }
+        boolean resident = weights.containsKey(key);
+        if (weight > maxEntryWeight) {
+            log.debug("Rejected key {} weighing {}, above the max entry weight {}", key, weight, maxEntryWeight);
+            if (resident) {
+                removeEntry.accept(key);
+                release(key);
+                evictionPolicy.evict(key);
+                statsCounter.recordEviction(RemovalCause.SIZE);
+            }
+            return false;
+        }
+        int previousWeight = weights.getOrDefault(key, 0);
+        if (totalWeight - previousWeight + weight > maximumWeight) {
+            if (!resident && !evictionPolicy.admit(key)) {
+                log.debug("Cache is full and eviction policy rejected admission of key {}", key);
+                statsCounter.recordEviction(RemovalCause.SIZE);
+                return false;
+            }
+            while (totalWeight - previousWeight + weight > maximumWeight) {
+                K evictedKey = evictionPolicy.evict();
+                if (evictedKey == null) {
+                    break;
+                }
+                if (evictedKey.equals(key)) {
+                    previousWeight = 0;
+                }
+                removeEntry.accept(evictedKey);
+                release(evictedKey);
+                statsCounter.recordEviction(RemovalCause.SIZE);
+                log.debug("Evicted key {} to free weight for key {}", evictedKey, key);
+            }
+        }
+        totalWeight += weight - previousWeight;
+        weights.put(key, weight);
+        return true;
+    }
+
+    /**
+     * Forgets the weight of a key removed from the owning cache
+     * @param key Removed key
+     */
+    public void release(K key) {
+        Integer weight = weights.remove(key);
+        if (weight != null) {
+            totalWeight -= weight;
+        }
+    }
+
+    /**
+     * Forgets every weight after the owning cache was cleared
+     */
+    public void clear() {
+        weights.clear();
+        totalWeight = 0;
+    }
+}
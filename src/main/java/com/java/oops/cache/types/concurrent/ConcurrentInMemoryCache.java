@@ -0,0 +1,344 @@
+package com.java.oops.cache.types.concurrent;
+
+import com.java.oops.cache.eviction.EvictionPolicy;
+import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.RemovalCause;
+import com.java.oops.cache.stats.StatsCounter;
+import com.java.oops.cache.types.AbstractCache;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe in-memory cache whose reads never take a lock.
+ *
+ * <pre>
+ * Design:
+ * - Entries live in a {@link ConcurrentHashMap}; get/put/evict operate on it directly.
+ * - Reads record their access into striped, lossy ring buffers instead of touching the eviction policy,
+ *   unless the policy records hits lock-free (CLOCK, SIEVE), in which case they mark the key directly.
+ * - Writes record add/remove events into an unbounded queue (these must never be lost).
+ * - A single maintenance task drains both buffers in batches into the {@link EvictionPolicy}
+ *   and evicts entries while the cache is over capacity. Apart from lock-free hits, only this task
+ *   touches the policy, so non thread-safe policies (LRU, LFU, FIFO) can be used as they are.
+ * - Statistics are recorded in {@code LongAdder}s, so counting hits does not add contention either.
+ * </pre>
+ *
+ * <p>
+ * Compared to {@code ReadHeavyThreadSafeCache}, hits no longer serialize on the write lock needed
+ * for LRU reordering; the policy is updated asynchronously and may briefly lag behind the map,
+ * so the cache can transiently hold slightly more than {@code capacity} entries.
+ * </p>
+ *
+ * @param <K> Key of type K
+ * @param <V> Value of type V
+ * @author sathwick
+ */
+@Slf4j
+public class ConcurrentInMemoryCache<K, V> implements AbstractCache<K, V> {
+    private final ConcurrentHashMap<K, V> cache;
+    private final StripedReadBuffer<K> readBuffer;
+    private final Queue<Runnable> writeBuffer;
+    private final ReentrantLock evictionLock;
+    private final AtomicBoolean drainScheduled;
+    private final Executor maintenanceExecutor;
+    private final StatsCounter statsCounter;
+    @Getter
+    private final EvictionPolicy<K> evictionPolicy;
+    @Getter
+    private final int capacity;
+
+    /**
+     * Initializes the cache
+     *
+     * @param evictionPolicy      EvictionPolicy to be used, only ever accessed by the maintenance task
+     * @param capacity            Capacity of the cache
+     * @param maintenanceExecutor Executor running the buffer draining / eviction task
+     */
+    public ConcurrentInMemoryCache(EvictionPolicy<K> evictionPolicy, int capacity, Executor maintenanceExecutor) {
+        if (evictionPolicy == null || maintenanceExecutor == null) {
+            throw new NullPointerException("Eviction policy and maintenance executor cannot be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.cache = new ConcurrentHashMap<>(capacity);
+        this.readBuffer = new StripedReadBuffer<>(Runtime.getRuntime().availableProcessors() * 4);
+        this.writeBuffer = new ConcurrentLinkedQueue<>();
+        this.evictionLock = new ReentrantLock();
+        this.drainScheduled = new AtomicBoolean(false);
+        this.maintenanceExecutor = maintenanceExecutor;
+        this.statsCounter = new StatsCounter();
+        this.evictionPolicy = evictionPolicy;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Initializes the cache running maintenance on the common fork-join pool
+     *
+     * @param evictionPolicy EvictionPolicy to be used
+     * @param capacity       Capacity of the cache
+     */
+    public ConcurrentInMemoryCache(EvictionPolicy<K> evictionPolicy, int capacity) {
+        this(evictionPolicy, capacity, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Initializes the cache with LRUEvictionPolicy
+     *
+     * @param capacity Capacity of the cache
+     */
+    public ConcurrentInMemoryCache(int capacity) {
+        this(new LRUEvictionPolicy<>(capacity), capacity);
+    }
+
+    /**
+     * Updates the cache with key and value. The eviction policy is informed asynchronously.
+     *
+     * @param key   Of type K
+     * @param value Of type V
+     * @throws NullPointerException if key or value is null
+     */
+    @Override
+    public void put(K key, V value) {
+        if (key == null || value == null) {
+            throw new NullPointerException("Key and value cannot be null");
+        }
+        boolean inserted = cache.put(key, value) == null;
+        writeBuffer.offer(() -> onWrite(key, value, inserted));
+        log.debug("Updated the cache with given key {}", key);
+        scheduleDrain();
+    }
+
+    /**
+     * Returns the value for the given key without acquiring any lock.
+     *
+     * @param key Of type K
+     * @return Optional of type V
+     */
+    @Override
+    public Optional<V> get(K key) {
+        V value = cache.get(key);
+        if (value == null) {
+            log.debug("Key miss in the cache for key: {}", key);
+            statsCounter.recordMiss();
+            return Optional.empty();
+        }
+        statsCounter.recordHit();
+        if (!evictionPolicy.tryRecordAccessLockFree(key) && !readBuffer.offer(key)) {
+            // the stripe is full, the maintenance task is overdue
+            scheduleDrain();
+        }
+        return Optional.of(value);
+    }
+
+    /**
+     * Evicts the key from the cache. The eviction policy is informed asynchronously.
+     *
+     * @param key Of type K
+     */
+    @Override
+    public void evict(K key) {
+        if (cache.remove(key) != null) {
+            statsCounter.recordEviction(RemovalCause.EXPLICIT);
+            writeBuffer.offer(() -> onRemove(key));
+            log.debug("Evicted the key {} from the cache", key);
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Returns the values for the given keys without acquiring any lock, recording the hits and misses once
+     * for the batch and scheduling the maintenance task at most once.
+     *
+     * @param keys Keys of type K
+     * @return Map of every key to its Optional value
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        Map<K, Optional<V>> result = new HashMap<>();
+        int hits = 0;
+        boolean drainNeeded = false;
+        for (K key : keys) {
+            V value = cache.get(key);
+            if (value == null) {
+                result.put(key, Optional.empty());
+                continue;
+            }
+            hits++;
+            result.put(key, Optional.of(value));
+            drainNeeded |= !evictionPolicy.tryRecordAccessLockFree(key) && !readBuffer.offer(key);
+        }
+        statsCounter.recordHits(hits);
+        statsCounter.recordMisses(keys.size() - hits);
+        if (drainNeeded) {
+            scheduleDrain();
+        }
+        return result;
+    }
+
+    /**
+     * Updates the cache with every key and value, scheduling the maintenance task once for the batch.
+     *
+     * @param entries Map of keys of type K to values of type V
+     * @throws NullPointerException if a key or value is null
+     */
+    @Override
+    public void putAll(Map<K, V> entries) {
+        entries.forEach((key, value) -> {
+            if (key == null || value == null) {
+                throw new NullPointerException("Key and value cannot be null");
+            }
+            boolean inserted = cache.put(key, value) == null;
+            writeBuffer.offer(() -> onWrite(key, value, inserted));
+        });
+        scheduleDrain();
+    }
+
+    /**
+     * Evicts the given keys, scheduling the maintenance task once for the batch.
+     *
+     * @param keys Keys of type K
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        boolean removed = false;
+        for (K key : keys) {
+            if (cache.remove(key) != null) {
+                statsCounter.recordEviction(RemovalCause.EXPLICIT);
+                writeBuffer.offer(() -> onRemove(key));
+                removed = true;
+            }
+        }
+        if (removed) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Returns the number of entries currently held by the map.
+     *
+     * @return current number of entries
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counts.
+     *
+     * @return current statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * Synchronously performs any pending maintenance work on the calling thread.
+     */
+    public void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Schedules the maintenance task unless one is already pending.
+     */
+    private void scheduleDrain() {
+        if (drainScheduled.get() || !drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            maintenanceExecutor.execute(this::performMaintenance);
+        } catch (RejectedExecutionException e) {
+            log.warn("Maintenance executor rejected the drain task, running it on the caller thread");
+            performMaintenance();
+        }
+    }
+
+    /**
+     * Entry point of the scheduled maintenance task.
+     */
+    private void performMaintenance() {
+        evictionLock.lock();
+        try {
+            drainScheduled.set(false);
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Drains buffered events into the eviction policy and evicts while over capacity.
+     * Must be called with the eviction lock held.
+     */
+    private void maintenance() {
+        readBuffer.drainTo(this::onRead);
+        Runnable writeEvent;
+        while ((writeEvent = writeBuffer.poll()) != null) {
+            writeEvent.run();
+        }
+        evictIfOverCapacity();
+    }
+
+    private void onRead(K key) {
+        // the entry may have been removed since the read was recorded
+        if (cache.containsKey(key)) {
+            evictionPolicy.recordAccess(key);
+        }
+    }
+
+    private void onWrite(K key, V value, boolean inserted) {
+        if (!cache.containsKey(key)) {
+            return;
+        }
+        if (inserted && cache.size() > capacity && !evictionPolicy.admit(key)) {
+            if (cache.remove(key, value)) {
+                statsCounter.recordEviction(RemovalCause.SIZE);
+            }
+            log.debug("Eviction policy rejected admission of key {}", key);
+            return;
+        }
+        evictionPolicy.recordAccess(key);
+    }
+
+    private void onRemove(K key) {
+        // a concurrent put may have re-inserted the key, possibly recording it before this event was queued
+        if (!cache.containsKey(key)) {
+            evictionPolicy.evict(key);
+        }
+    }
+
+    private void evictIfOverCapacity() {
+        while (cache.size() > capacity) {
+            K victim = evictionPolicy.evict();
+            if (victim == null) {
+                log.warn("Cache is over capacity but the eviction policy has no candidate");
+                return;
+            }
+            if (cache.remove(victim) != null) {
+                statsCounter.recordEviction(RemovalCause.SIZE);
+            }
+            log.debug("Cache is full, evicted key {} according to eviction policy", victim);
+        }
+    }
+}
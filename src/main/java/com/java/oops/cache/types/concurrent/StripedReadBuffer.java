@@ -0,0 +1,112 @@
+package com.java.oops.cache.types.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped, lossy, multi-producer / single-consumer ring buffers used to record read events.
+ *
+ * <p>
+ * Producers pick a stripe by their thread id and claim a slot with a single CAS; when the stripe
+ * is full or the CAS is lost the event is simply dropped. Losing a few access events only makes
+ * the eviction policy slightly less precise, which is a much better trade than blocking readers.
+ * Draining is performed by exactly one thread at a time (the maintenance task holding the eviction lock).
+ * </p>
+ *
+ * @param <E> the type of buffered events
+ * @author sathwick
+ */
+final class StripedReadBuffer<E> {
+    private static final int BUFFER_SIZE = 16;
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+
+    private final RingBuffer<E>[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Creates the buffer with a stripe count rounded up to the next power of two.
+     *
+     * @param stripeCount the requested number of stripes
+     */
+    StripedReadBuffer(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1) << 1);
+        @SuppressWarnings("unchecked")
+        RingBuffer<E>[] buffers = (RingBuffer<E>[]) new RingBuffer<?>[size];
+        this.stripes = buffers;
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new RingBuffer<>();
+        }
+        this.stripeMask = size - 1;
+    }
+
+    /**
+     * Offers an event to the stripe owned by the calling thread.
+     *
+     * @param event the event to record
+     * @return {@code true} if recorded, {@code false} if the stripe was full or contended and the event was dropped
+     */
+    boolean offer(E event) {
+        long id = Thread.currentThread().getId();
+        int index = (int) (id ^ (id >>> 16)) * 0x9E3779B9;
+        return stripes[(index >>> 16) & stripeMask].offer(event);
+    }
+
+    /**
+     * Drains every stripe into the consumer. Must only be called by a single thread at a time.
+     *
+     * @param consumer receives each buffered event
+     * @return the number of drained events
+     */
+    int drainTo(Consumer<E> consumer) {
+        int drained = 0;
+        for (RingBuffer<E> stripe : stripes) {
+            drained += stripe.drainTo(consumer);
+        }
+        return drained;
+    }
+
+    /**
+     * Single bounded ring of event slots.
+     *
+     * @param <E> the type of buffered events
+     */
+    private static final class RingBuffer<E> {
+        private final AtomicReferenceArray<E> slots = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(E event) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            if (tail - head >= BUFFER_SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                slots.lazySet((int) (tail & BUFFER_MASK), event);
+                return true;
+            }
+            return false;
+        }
+
+        int drainTo(Consumer<E> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            int drained = 0;
+            while (head < tail) {
+                int index = (int) (head & BUFFER_MASK);
+                E event = slots.get(index);
+                if (event == null) {
+                    // slot claimed but not yet published; pick it up on the next drain
+                    break;
+                }
+                slots.lazySet(index, null);
+                consumer.accept(event);
+                head++;
+                drained++;
+            }
+            readCounter = head;
+            return drained;
+        }
+    }
+}
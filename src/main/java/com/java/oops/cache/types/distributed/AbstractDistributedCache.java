@@ -8,6 +8,7 @@ import lombok.RequiredArgsConstructor;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -72,6 +73,16 @@ public interface AbstractDistributedCache<K, V> extends AbstractCache<K, V> {
         return "lock:" + key;
     }
 
+    /**
+     * Returns how long the entry of the key still lives.
+     *
+     * @param key the key
+     * @return remaining time-to-live, empty if the key is absent, never expires or the cache cannot tell
+     */
+    default Optional<Duration> remainingTtl(K key) {
+        return Optional.empty();
+    }
+
     /**
      * Removes all entries from the cache.
      * <p>
@@ -80,21 +91,32 @@ public interface AbstractDistributedCache<K, V> extends AbstractCache<K, V> {
     void clear();
 
     /**
-     * Inserts or updates multiple entries in the cache in a single bulk operation.
+     * Inserts or updates multiple entries, each with its own optional TTL, in a single bulk operation.
+     *
+     * @param entries a map of keys to the values and TTLs to be inserted or updated in the cache
+     */
+    void putAllWithTtl(Map<K, CacheEntry<V>> entries);
+
+    /**
+     * Inserts or updates multiple entries without TTL in a single bulk operation.
      *
      * @param entries a map of key-value pairs to be inserted or updated in the cache
-     * @throws Exception if an error occurs during the operation
      */
-    void putAll(Map<K, CacheEntry<V>> entries) throws Exception;
+    @Override
+    default void putAll(Map<K, V> entries) {
+        Map<K, CacheEntry<V>> cacheEntries = new HashMap<>();
+        entries.forEach((key, value) -> cacheEntries.put(key, new CacheEntry<>(value)));
+        putAllWithTtl(cacheEntries);
+    }
 
     /**
      * Retrieves the values associated with the specified keys.
      *
      * @param keys a collection of keys whose associated values are to be returned
      * @return a map of keys to {@link Optional} values; if a key is not present, its value will be {@link Optional#empty()}
-     * @throws Exception if an error occurs during the operation
      */
-    Map<K, Optional<V>> getAll(Collection<K> keys) throws Exception;
+    @Override
+    Map<K, Optional<V>> getAll(Collection<K> keys);
 
     /***
      * Distributed cache entry
@@ -0,0 +1,175 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.types.AsyncCache;
+import com.java.oops.cache.types.AsyncExecutors;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link AsyncCache} over a distributed cache that batches concurrent lookups into bulk reads.
+ *
+ * <pre>
+ * - get only enqueues the key and returns a future; no thread waits per lookup.
+ * - A single drain task takes every queued key (up to maxBatchSize), reads them with one
+ *   {@link AbstractDistributedCache#getAll(Collection)} call (an MGET for Redis) and completes the futures.
+ *   Lookups issued while a batch is in flight are served by the next batch, so hundreds of concurrent
+ *   lookups cost a few round-trips instead of one blocked thread each.
+ * - Duplicate keys within a batch are read once.
+ * - put / evict are not batched and run on the executor.
+ * </pre>
+ *
+ * <p>The wrapped cache is called from the executor threads and must be thread-safe
+ * (e.g. {@link PooledRedisDistributedCache}).</p>
+ *
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
+ * @author sathwick
+ */
+@Slf4j
+public class BatchingAsyncCache<K, V> implements AsyncCache<K, V> {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 1_000;
+
+    private final AbstractDistributedCache<K, V> delegateCache;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final ConcurrentLinkedQueue<PendingGet<K, V>> pendingGets = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    /**
+     * Creates the batching cache.
+     *
+     * @param delegateCache thread-safe distributed cache
+     * @param executor      executor running the batches and the writes
+     * @param maxBatchSize  maximum number of keys read by one bulk call
+     */
+    public BatchingAsyncCache(AbstractDistributedCache<K, V> delegateCache, Executor executor, int maxBatchSize) {
+        if (delegateCache == null || executor == null) {
+            throw new NullPointerException("Delegate cache and executor cannot be null");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.delegateCache = delegateCache;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Creates the batching cache with batches of up to 1000 keys, running on the shared blocking task executor.
+     *
+     * @param delegateCache thread-safe distributed cache
+     */
+    public BatchingAsyncCache(AbstractDistributedCache<K, V> delegateCache) {
+        this(delegateCache, AsyncExecutors.blockingTaskExecutor(), DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Enqueues the lookup; it is served by the next batch.
+     *
+     * @param key Cache key
+     * @return future of the cached value, completed exceptionally if the bulk read throws
+     *         or the executor rejects the batch
+     */
+    @Override
+    public CompletableFuture<Optional<V>> get(K key) {
+        CompletableFuture<Optional<V>> future = new CompletableFuture<>();
+        pendingGets.add(new PendingGet<>(key, future));
+        scheduleDrain();
+        return future;
+    }
+
+    @Override
+    public CompletableFuture<Void> put(K key, V value) {
+        return CompletableFuture.runAsync(() -> delegateCache.put(key, value), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> evict(K key) {
+        return CompletableFuture.runAsync(() -> delegateCache.evict(key), executor);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return delegateCache.stats();
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                log.error("Executor rejected the batch of queued lookups", e);
+                draining.set(false);
+                failPending(e);
+            }
+        }
+    }
+
+    private void failPending(Exception cause) {
+        PendingGet<K, V> pending;
+        while ((pending = pendingGets.poll()) != null) {
+            pending.future.completeExceptionally(cause);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            List<PendingGet<K, V>> batch = new ArrayList<>();
+            PendingGet<K, V> pending;
+            while (batch.size() < maxBatchSize && (pending = pendingGets.poll()) != null) {
+                batch.add(pending);
+            }
+            if (batch.isEmpty()) {
+                draining.set(false);
+                // A lookup enqueued after the poll but before the flag reset would otherwise wait forever
+                if (pendingGets.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            completeBatch(batch);
+        }
+    }
+
+    private void completeBatch(List<PendingGet<K, V>> batch) {
+        Set<K> keys = new LinkedHashSet<>();
+        for (PendingGet<K, V> pending : batch) {
+            keys.add(pending.key);
+        }
+        try {
+            Map<K, Optional<V>> values = delegateCache.getAll(keys);
+            for (PendingGet<K, V> pending : batch) {
+                pending.future.complete(values.getOrDefault(pending.key, Optional.empty()));
+            }
+            log.debug("Served {} lookups with a bulk read of {} keys", batch.size(), keys.size());
+        } catch (Exception e) {
+            log.error("Bulk read of {} keys failed", keys.size(), e);
+            for (PendingGet<K, V> pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class PendingGet<K, V> {
+        private final K key;
+        private final CompletableFuture<Optional<V>> future;
+
+        private PendingGet(K key, CompletableFuture<Optional<V>> future) {
+            this.key = key;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.java.oops.cache.types.distributed;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Consistent-hash ring mapping keys to nodes through virtual nodes.
+ *
+ * <pre>
+ * - Every node is placed on a 64-bit ring {@code virtualNodes} times, at the hashes of "nodeId#i".
+ * - A key belongs to the first virtual node at or after its hash, wrapping around.
+ * - Adding or removing one of N nodes only moves the keys of its own virtual nodes, about 1/N of the
+ *   key space; more virtual nodes give a more even split.
+ * - The ring is copy-on-write: lookups read an immutable sorted array with a binary search and never
+ *   lock, membership changes rebuild it.
+ * - Hashing is FNV-1a over the key bytes followed by the MurmurHash3 finalizer, so placements are the
+ *   same in every JVM and language using the same scheme.
+ * </pre>
+ *
+ * @param <N> the type of nodes
+ * @author sathwick
+ */
+public final class ConsistentHashRing<N> {
+    private final int virtualNodes;
+    private volatile Snapshot<N> snapshot;
+
+    /**
+     * Creates an empty ring.
+     *
+     * @param virtualNodes number of positions of every node on the ring
+     */
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("Virtual nodes must be positive");
+        }
+        this.virtualNodes = virtualNodes;
+        this.snapshot = new Snapshot<>(Collections.emptyMap(), virtualNodes);
+    }
+
+    /**
+     * Adds a node, or replaces the node registered under the same id.
+     *
+     * @param nodeId stable identifier of the node, deciding its positions on the ring
+     * @param node   the node
+     */
+    public synchronized void addNode(String nodeId, N node) {
+        Map<String, N> nodes = new LinkedHashMap<>(snapshot.nodes);
+        nodes.put(nodeId, node);
+        snapshot = new Snapshot<>(nodes, virtualNodes);
+    }
+
+    /**
+     * Removes a node; its keys move to the following nodes on the ring.
+     *
+     * @param nodeId identifier of the node
+     * @return the removed node, or null if unknown
+     */
+    public synchronized N removeNode(String nodeId) {
+        Map<String, N> nodes = new LinkedHashMap<>(snapshot.nodes);
+        N removed = nodes.remove(nodeId);
+        snapshot = new Snapshot<>(nodes, virtualNodes);
+        return removed;
+    }
+
+    /**
+     * Returns the nodes by id.
+     *
+     * @return unmodifiable view of the nodes
+     */
+    public Map<String, N> nodes() {
+        return snapshot.nodes;
+    }
+
+    /**
+     * Returns the node owning the key.
+     *
+     * @param keyBytes binary form of the key
+     * @return the owning node
+     * @throws IllegalStateException if the ring is empty
+     */
+    public N nodeFor(byte[] keyBytes) {
+        return snapshot.nodeFor(hash(keyBytes));
+    }
+
+    /**
+     * Returns the 64-bit ring position of the bytes.
+     *
+     * @param bytes bytes to hash
+     * @return ring position
+     */
+    static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Immutable sorted ring positions and their owners.
+     */
+    private static final class Snapshot<N> {
+        private final Map<String, N> nodes;
+        private final long[] positions;
+        private final Object[] owners;
+
+        private Snapshot(Map<String, N> nodes, int virtualNodes) {
+            this.nodes = Collections.unmodifiableMap(nodes);
+            int size = nodes.size() * virtualNodes;
+            long[][] entries = new long[size][];
+            Object[] byIndex = nodes.values().toArray();
+            int i = 0;
+            int nodeIndex = 0;
+            for (String nodeId : nodes.keySet()) {
+                for (int v = 0; v < virtualNodes; v++) {
+                    long position = hash((nodeId + "#" + v).getBytes(StandardCharsets.UTF_8));
+                    entries[i++] = new long[]{position, nodeIndex};
+                }
+                nodeIndex++;
+            }
+            Arrays.sort(entries, (a, b) -> Long.compare(a[0], b[0]));
+            this.positions = new long[size];
+            this.owners = new Object[size];
+            for (int j = 0; j < size; j++) {
+                positions[j] = entries[j][0];
+                owners[j] = byIndex[(int) entries[j][1]];
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private N nodeFor(long hash) {
+            if (positions.length == 0) {
+                throw new IllegalStateException("Consistent hash ring has no node");
+            }
+            int index = Arrays.binarySearch(positions, hash);
+            if (index < 0) {
+                index = -index - 1;
+                if (index == positions.length) {
+                    index = 0;
+                }
+            }
+            return (N) owners[index];
+        }
+    }
+}
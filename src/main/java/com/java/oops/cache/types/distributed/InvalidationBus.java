@@ -0,0 +1,57 @@
+package com.java.oops.cache.types.distributed;
+
+/**
+ * Broadcasts cache invalidations between the nodes sharing a distributed cache.
+ * <p>
+ * Used by {@link TieredCache} so a write on one node drops the stale local copies held by the others.
+ * Implementations must not deliver a node's own messages back to it.
+ *
+ * @param <K> the type of keys being invalidated
+ * @author sathwick
+ */
+public interface InvalidationBus<K> extends AutoCloseable {
+
+    /**
+     * Tells the other nodes that the key changed.
+     *
+     * @param key the changed key
+     */
+    void publishInvalidation(K key);
+
+    /**
+     * Tells the other nodes that every key changed.
+     */
+    void publishClear();
+
+    /**
+     * Registers the listener receiving the invalidations published by the other nodes.
+     *
+     * @param listener the listener to call
+     */
+    void subscribe(InvalidationListener<K> listener);
+
+    /**
+     * Stops listening and releases the underlying resources.
+     */
+    @Override
+    void close();
+
+    /**
+     * Receives invalidations published by other nodes.
+     *
+     * @param <K> the type of keys being invalidated
+     */
+    interface InvalidationListener<K> {
+        /**
+         * Called when another node changed the key.
+         *
+         * @param key the changed key
+         */
+        void onInvalidate(K key);
+
+        /**
+         * Called when every key must be considered stale, e.g. after a clear or when messages may have been lost.
+         */
+        void onClear();
+    }
+}
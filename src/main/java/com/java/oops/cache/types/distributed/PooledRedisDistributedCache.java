@@ -0,0 +1,256 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.CacheCodec;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Thread-safe {@link RedisDistributedCache} borrowing a connection from a {@link JedisPool} for every operation.
+ *
+ * <pre>
+ * - Each command (or pipeline) borrows a connection and returns it right after, so any number of
+ *   threads can share one cache instance; throughput scales up to the pool size.
+ * - When every connection is busy, callers wait up to the configured max wait and then fail with a
+ *   JedisException, handled like any other Redis error of the base class.
+ * - Broken connections are discarded by the pool instead of being returned.
+ * - {@link #poolMetrics()} reports active / idle connections, waiting threads and borrow wait times,
+ *   which tells whether the pool is undersized.
+ * - Bulk chunks (getAll / putAll / streamAll) run in parallel on up to {@code bulkParallelism} pooled
+ *   connections, half of the pool by default so single key operations still find a free connection.
+ * </pre>
+ *
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
+ * @author sathwick
+ */
+@Slf4j
+public class PooledRedisDistributedCache<K, V> extends RedisDistributedCache<K, V> implements AutoCloseable {
+    private final JedisPool jedisPool;
+    @Getter
+    private final int maxTotal;
+    private final boolean ownsPool;
+    private final ExecutorService bulkExecutor;
+    private volatile int bulkParallelism;
+
+    /**
+     * Creates a cache with its own connection pool.
+     *
+     * @param host       Redis host
+     * @param port       Redis port
+     * @param maxTotal   maximum number of connections
+     * @param minIdle    number of idle connections kept open
+     * @param maxWait    how long a caller waits for a free connection
+     * @param keyCodec   codec used to convert keys to Redis keys
+     * @param valueCodec codec used to convert values to Redis values
+     */
+    public PooledRedisDistributedCache(String host, int port, int maxTotal, int minIdle, Duration maxWait,
+                                       CacheCodec<K> keyCodec, CacheCodec<V> valueCodec) {
+        this(new JedisPool(poolConfig(maxTotal, minIdle, maxWait), host, port), maxTotal, true, keyCodec, valueCodec);
+        log.info("Created Redis connection pool to {}:{} with {} connections and {} ms max wait",
+                host, port, maxTotal, maxWait.toMillis());
+    }
+
+    /**
+     * Creates a cache over an existing pool, which stays owned by the caller.
+     *
+     * @param jedisPool  connection pool to borrow from
+     * @param maxTotal   maximum number of connections the pool was configured with, used to report utilization
+     * @param keyCodec   codec used to convert keys to Redis keys
+     * @param valueCodec codec used to convert values to Redis values
+     */
+    public PooledRedisDistributedCache(JedisPool jedisPool, int maxTotal, CacheCodec<K> keyCodec,
+                                       CacheCodec<V> valueCodec) {
+        this(jedisPool, maxTotal, false, keyCodec, valueCodec);
+    }
+
+    private PooledRedisDistributedCache(JedisPool jedisPool, int maxTotal, boolean ownsPool, CacheCodec<K> keyCodec,
+                                        CacheCodec<V> valueCodec) {
+        super(keyCodec, valueCodec);
+        if (jedisPool == null) {
+            throw new NullPointerException("Jedis pool cannot be null");
+        }
+        if (maxTotal <= 0) {
+            throw new IllegalArgumentException("Max total connections must be positive");
+        }
+        this.jedisPool = jedisPool;
+        this.maxTotal = maxTotal;
+        this.ownsPool = ownsPool;
+        this.bulkParallelism = Math.max(1, maxTotal / 2);
+        this.bulkExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "PooledRedisDistributedCache-Bulk");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Sets how many chunks of a bulk operation run at the same time, each on its own pooled connection.
+     * A parallelism of 1 runs the chunks one after the other on the calling thread.
+     *
+     * @param bulkParallelism maximum number of chunks in flight
+     */
+    public void setBulkParallelism(int bulkParallelism) {
+        if (bulkParallelism <= 0) {
+            throw new IllegalArgumentException("Bulk parallelism must be positive");
+        }
+        this.bulkParallelism = bulkParallelism;
+    }
+
+    /**
+     * Returns how many chunks of a bulk operation run at the same time.
+     *
+     * @return maximum number of chunks in flight
+     */
+    public int getBulkParallelism() {
+        return bulkParallelism;
+    }
+
+    /**
+     * Runs up to {@code bulkParallelism} chunks at a time on the bulk threads. The next chunk is only taken from
+     * the input once a slot is free, so a lazy input is never buffered beyond the chunks in flight.
+     * Results are handed to the sink one at a time as chunks complete. After {@link #close()} the chunks run one
+     * after the other on the calling thread.
+     *
+     * @param chunks chunks of the input
+     * @param work   Redis work done per chunk
+     * @param sink   receives the result of every chunk
+     * @param <T>    type of the input elements
+     * @param <R>    type of a chunk result
+     * @throws JedisException the first chunk failure, once the started chunks completed
+     */
+    @Override
+    protected <T, R> void forEachChunk(Iterator<List<T>> chunks, Function<List<T>, R> work, Consumer<R> sink) {
+        int parallelism = bulkParallelism;
+        if (parallelism == 1 || bulkExecutor.isShutdown()) {
+            super.forEachChunk(chunks, work, sink);
+            return;
+        }
+        Semaphore slots = new Semaphore(parallelism);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Object sinkLock = new Object();
+        try {
+            while (chunks.hasNext() && failure.get() == null) {
+                slots.acquire();
+                List<T> chunk = chunks.next();
+                try {
+                    bulkExecutor.execute(() -> {
+                        try {
+                            R result = work.apply(chunk);
+                            synchronized (sinkLock) {
+                                sink.accept(result);
+                            }
+                        } catch (RuntimeException e) {
+                            failure.compareAndSet(null, e);
+                        } finally {
+                            slots.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    // close() stopped the bulk threads while this operation was running
+                    slots.release();
+                    failure.compareAndSet(null, new JedisException("Bulk threads stopped by close()", e));
+                }
+            }
+            slots.acquire(parallelism);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException("Interrupted while waiting for bulk chunks", e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    /**
+     * Borrows a connection, runs the command and returns the connection to the pool.
+     *
+     * @param command the Redis command(s) to run
+     * @param <T>     type of the command result
+     * @return the command result
+     */
+    @Override
+    protected <T> T execute(Function<Jedis, T> command) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            return command.apply(jedis);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the pool usage.
+     *
+     * @return pool metrics
+     */
+    public PoolMetrics poolMetrics() {
+        return new PoolMetrics(jedisPool.getNumActive(), jedisPool.getNumIdle(), jedisPool.getNumWaiters(),
+                maxTotal, jedisPool.getMeanBorrowWaitTimeMillis(), jedisPool.getMaxBorrowWaitTimeMillis());
+    }
+
+    /**
+     * Stops the bulk threads and closes the pool if it was created by this cache.
+     */
+    @Override
+    public void close() {
+        bulkExecutor.shutdown();
+        if (ownsPool) {
+            jedisPool.close();
+            log.info("Redis connection pool closed.");
+        }
+    }
+
+    private static JedisPoolConfig poolConfig(int maxTotal, int minIdle, Duration maxWait) {
+        JedisPoolConfig config = new JedisPoolConfig();
+        config.setMaxTotal(maxTotal);
+        config.setMaxIdle(maxTotal);
+        config.setMinIdle(minIdle);
+        config.setBlockWhenExhausted(true);
+        config.setMaxWaitMillis(maxWait.toMillis());
+        return config;
+    }
+
+    /**
+     * Point in time view of the connection pool.
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class PoolMetrics {
+        private final int activeConnections;
+        private final int idleConnections;
+        private final int waitingThreads;
+        private final int maxTotal;
+        private final long meanBorrowWaitMillis;
+        private final long maxBorrowWaitMillis;
+
+        /**
+         * Returns the share of the pool capacity currently borrowed.
+         *
+         * @return utilization between 0.0 and 1.0
+         */
+        public double utilization() {
+            return (double) activeConnections / maxTotal;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PoolMetrics{active=%d, idle=%d, waiting=%d, maxTotal=%d, utilization=%.2f, "
+                            + "meanBorrowWait=%dms, maxBorrowWait=%dms}", activeConnections, idleConnections,
+                    waitingThreads, maxTotal, utilization(), meanBorrowWaitMillis, maxBorrowWaitMillis);
+        }
+    }
+}
@@ -1,36 +1,101 @@
 package com.java.oops.cache.types.distributed;
 
+import com.java.oops.cache.codec.CacheCodec;
+import com.java.oops.cache.codec.CodecException;
+import com.java.oops.cache.codec.JavaSerializationCodec;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.RemovalCause;
+import com.java.oops.cache.stats.StatsCounter;
 import lombok.extern.slf4j.Slf4j;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.Pipeline;
-import redis.clients.jedis.Response;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.params.SetParams;
 
-import java.io.*;
 import java.time.Duration;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * Redis-based implementation of AbstractDistributedCache.
  * Provides distributed caching capabilities using Redis.
+ * <p>
+ * Keys and values are converted with pluggable {@link CacheCodec}s, e.g. {@code StringCodec} keys stay
+ * readable from {@code redis-cli} and other services. Without codecs, Java serialization is used.
+ * </p>
+ * <p>
+ * This class runs every command on the single {@link Jedis} connection it was given, which is not thread-safe;
+ * use {@link PooledRedisDistributedCache} to share a cache between threads.
+ * </p>
+ * <p>
+ * Statistics are local to this client: hits and misses of its own lookups and the keys it deleted.
+ * Expirations and evictions happen inside Redis and are not visible here (see {@code INFO stats}).
+ * </p>
  *
- * @param <K> Type of cache key (must be Serializable)
- * @param <V> Type of cache value (must be Serializable)
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
  * @author sathwick
  */
 @Slf4j
-public class RedisDistributedCache<K extends Serializable, V extends Serializable> implements AbstractDistributedCache<K, V> {
+public class RedisDistributedCache<K, V> implements AbstractDistributedCache<K, V> {
+    private static final int DEFAULT_BULK_CHUNK_SIZE = 1_000;
 
     private final Jedis redisClient;
+    private final CacheCodec<K> keyCodec;
+    private final CacheCodec<V> valueCodec;
+    private final StatsCounter statsCounter = new StatsCounter();
+    private volatile int bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
 
     /**
-     * Constructs a RedisDistributedCache instance with provided Jedis client.
+     * Constructs a RedisDistributedCache instance with provided Jedis client and codecs.
      *
      * @param redisClient Jedis client instance
+     * @param keyCodec    codec used to convert keys to Redis keys
+     * @param valueCodec  codec used to convert values to Redis values
      */
-    public RedisDistributedCache(Jedis redisClient) {
+    public RedisDistributedCache(Jedis redisClient, CacheCodec<K> keyCodec, CacheCodec<V> valueCodec) {
+        if (keyCodec == null || valueCodec == null) {
+            throw new NullPointerException("Key and value codecs cannot be null");
+        }
         this.redisClient = redisClient;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+    }
+
+    /**
+     * Constructs a RedisDistributedCache instance with provided Jedis client,
+     * using Java serialization for keys and values (both must then be Serializable).
+     *
+     * @param redisClient Jedis client instance
+     */
+    public RedisDistributedCache(Jedis redisClient) {
+        this(redisClient, new JavaSerializationCodec<>(), new JavaSerializationCodec<>());
+    }
+
+    /**
+     * Constructor for subclasses that obtain their connections elsewhere and override {@link #execute(Function)}.
+     *
+     * @param keyCodec   codec used to convert keys to Redis keys
+     * @param valueCodec codec used to convert values to Redis values
+     */
+    protected RedisDistributedCache(CacheCodec<K> keyCodec, CacheCodec<V> valueCodec) {
+        this(null, keyCodec, valueCodec);
+    }
+
+    /**
+     * Runs a command against Redis. Every operation of this cache goes through this method,
+     * so subclasses can change how connections are obtained.
+     * <p>
+     * This implementation uses the single Jedis client given at construction, which is not thread-safe.
+     *
+     * @param command the Redis command(s) to run
+     * @param <T>     type of the command result
+     * @return the command result
+     * @throws JedisException if Redis operation fails
+     */
+    protected <T> T execute(Function<Jedis, T> command) {
+        return command.apply(redisClient);
     }
 
     /**
@@ -42,11 +107,11 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
     @Override
     public void put(K key, V value) {
         try {
-            byte[] serializedKey = serialize(key);
+            byte[] serializedKey = serializeKey(key);
             byte[] serializedValue = serialize(value);
-            redisClient.set(serializedKey, serializedValue);
+            execute(jedis -> jedis.set(serializedKey, serializedValue));
             log.debug("Successfully cached data for key: {}", key);
-        } catch (IOException | JedisException e) {
+        } catch (CodecException | JedisException e) {
             log.error("Failed to put data into Redis cache for key: {}", key, e);
         }
     }
@@ -60,17 +125,20 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
     @Override
     public Optional<V> get(K key) {
         try {
-            byte[] serializedKey = serialize(key);
-            byte[] result = redisClient.get(serializedKey);
+            byte[] serializedKey = serializeKey(key);
+            byte[] result = execute(jedis -> jedis.get(serializedKey));
             if (result == null) {
                 log.debug("Cache miss for key: {}", key);
+                statsCounter.recordMiss();
                 return Optional.empty();
             }
             V value = deserialize(result);
             log.debug("Cache hit for key: {}", key);
+            statsCounter.recordHit();
             return Optional.ofNullable(value);
-        } catch (IOException | ClassNotFoundException | JedisException e) {
+        } catch (CodecException | JedisException e) {
             log.error("Failed to retrieve data from Redis cache for key: {}", key, e);
+            statsCounter.recordMiss();
             return Optional.empty();
         }
     }
@@ -83,43 +151,73 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
     @Override
     public void evict(K key) {
         try {
-            byte[] serializedKey = serialize(key);
-            redisClient.del(serializedKey);
+            byte[] serializedKey = serializeKey(key);
+            if (execute(jedis -> jedis.del(serializedKey)) > 0) {
+                statsCounter.recordEviction(RemovalCause.EXPLICIT);
+            }
             log.debug("Successfully evicted cache entry for key: {}", key);
-        } catch (IOException | JedisException e) {
+        } catch (CodecException | JedisException e) {
             log.error("Failed to evict data from Redis cache for key: {}", key, e);
         }
     }
 
     /**
-     * Serializes an object into a byte array.
+     * Returns the remaining time-to-live of the key with {@code PTTL}.
      *
-     * @param obj Object to serialize
-     * @return Serialized byte array representation of the object
-     * @throws IOException If serialization fails
+     * @param key Cache key
+     * @return remaining TTL, empty if the key is absent, has no expiry or Redis fails
      */
-    private byte[] serialize(Object obj) throws IOException {
-        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
-             ObjectOutputStream out = new ObjectOutputStream(bos)) {
-            out.writeObject(obj);
-            return bos.toByteArray();
+    @Override
+    public Optional<Duration> remainingTtl(K key) {
+        try {
+            byte[] serializedKey = serializeKey(key);
+            Long remainingMillis = execute(jedis -> jedis.pttl(serializedKey));
+            return remainingMillis == null || remainingMillis < 0
+                    ? Optional.empty() : Optional.of(Duration.ofMillis(remainingMillis));
+        } catch (CodecException | JedisException e) {
+            log.error("Failed to read the TTL of key: {}", key, e);
+            return Optional.empty();
         }
     }
 
     /**
-     * Deserializes an object from a byte array.
+     * Returns a snapshot of the lookups and deletions made through this client.
      *
-     * @param bytes Byte array to deserialize from
-     * @return Deserialized object of type V
-     * @throws IOException If deserialization fails due to I/O issues
-     * @throws ClassNotFoundException If the class of the deserialized object cannot be found
+     * @return current statistics
      */
-    @SuppressWarnings("unchecked")
-    private V deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
-        try (ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
-             ObjectInputStream in = new ObjectInputStream(bis)) {
-            return (V) in.readObject();
-        }
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * Encodes a key with the key codec.
+     *
+     * @param key Cache key
+     * @return Redis key bytes
+     */
+    private byte[] serializeKey(K key) {
+        return keyCodec.encode(key);
+    }
+
+    /**
+     * Encodes a value with the value codec.
+     *
+     * @param value Cache value
+     * @return Redis value bytes
+     */
+    private byte[] serialize(V value) {
+        return valueCodec.encode(value);
+    }
+
+    /**
+     * Decodes a value with the value codec.
+     *
+     * @param bytes Redis value bytes
+     * @return Deserialized value
+     */
+    private V deserialize(byte[] bytes) {
+        return valueCodec.decode(bytes);
     }
 
     /**
@@ -128,17 +226,17 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
      * @param key   Cache key
      * @param value Cache value
      * @param ttl   Time-to-live duration
-     * @throws JedisException if Redis operation fails
-     * @throws IOException    if serialization fails
+     * @throws JedisException  if Redis operation fails
+     * @throws CodecException  if the key or value cannot be encoded
      */
     @Override
-    public void put(K key, V value, Duration ttl) throws JedisException, IOException {
+    public void put(K key, V value, Duration ttl) throws JedisException {
         try {
-            byte[] serializedKey = serialize(key);
+            byte[] serializedKey = serializeKey(key);
             byte[] serializedValue = serialize(value);
-            redisClient.psetex(serializedKey, ttl.toMillis(), serializedValue);
+            execute(jedis -> jedis.psetex(serializedKey, ttl.toMillis(), serializedValue));
             log.debug("Successfully cached data for key {} with TTL: {}", key, ttl);
-        } catch (IOException | JedisException e) {
+        } catch (CodecException | JedisException e) {
             log.error("Failed to put data into Redis cache for key: {}", key, e);
             throw e;
         }
@@ -155,7 +253,7 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
     @Override
     public Boolean acquireLock(String key, String lockValue, Duration timeout) throws JedisException {
         try {
-            String result = redisClient.set(key, lockValue, SetParams.setParams().nx().px(timeout.toMillis()));
+            String result = execute(jedis -> jedis.set(key, lockValue, SetParams.setParams().nx().px(timeout.toMillis())));
             if ("OK".equals(result)) {
                 log.debug("Lock acquired for key: {}", key);
                 return true;
@@ -179,7 +277,7 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
     @Override
     public Boolean releaseLock(String key) throws JedisException {
         try {
-            Long result = redisClient.del(key);
+            Long result = execute(jedis -> jedis.del(key));
             if (result != null && result > 0) {
                 log.debug("Lock released for key: {}", key);
                 return true;
@@ -201,7 +299,7 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
      */
     @Override
     public String fetchLockValue(String key) {
-        return redisClient.get(key);
+        return execute(jedis -> jedis.get(key));
     }
 
 
@@ -213,7 +311,7 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
     @Override
     public void clear() {
         try {
-            redisClient.flushDB();
+            execute(Jedis::flushDB);
             log.warn("All cache entries cleared from Redis.");
         } catch (JedisException e) {
             log.error("Failed to clear Redis cache.", e);
@@ -221,47 +319,100 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
     }
 
     /**
-     * <p>Inserts or updates multiple entries in the cache in a single bulk operation.</p>
+     * Sets how many keys {@link #getAll(Collection)}, {@link #streamAll(Iterable, Consumer)} and
+     * {@link #putAllWithTtl(Map)} and {@link #evictAll(Collection)} send to Redis per command or pipeline.
+     * <p>
+     * Smaller chunks bound the memory buffered per round-trip and how long a connection is held;
+     * larger chunks save round-trips. Defaults to 1000.
      *
-     * <p>Bulk operations in Redis is efficient by using pipelining i.e., a feature that allows you to send
-     * multiple commands to the server without waiting for individual responses.
-     * This reduces network round-trips and can significantly improve performance for batch operations.</p>
+     * @param bulkChunkSize number of keys per chunk
+     */
+    public void setBulkChunkSize(int bulkChunkSize) {
+        if (bulkChunkSize <= 0) {
+            throw new IllegalArgumentException("Bulk chunk size must be positive");
+        }
+        this.bulkChunkSize = bulkChunkSize;
+    }
+
+    /**
+     * Returns the number of keys sent to Redis per bulk command or pipeline.
+     *
+     * @return keys per chunk
+     */
+    public int getBulkChunkSize() {
+        return bulkChunkSize;
+    }
+
+    /**
+     * Runs the work on every chunk and hands each result to the sink.
+     * <p>
+     * This implementation runs the chunks one after the other on the calling thread, since the single
+     * Jedis client cannot be shared. Subclasses with several connections may run chunks in parallel, as long
+     * as the sink is never called concurrently and failures are rethrown once the started chunks completed.
+     *
+     * @param chunks chunks of the input
+     * @param work   Redis work done per chunk
+     * @param sink   receives the result of every chunk
+     * @param <T>    type of the input elements
+     * @param <R>    type of a chunk result
+     * @throws JedisException if Redis operation fails
+     */
+    protected <T, R> void forEachChunk(Iterator<List<T>> chunks, Function<List<T>, R> work, Consumer<R> sink) {
+        while (chunks.hasNext()) {
+            sink.accept(work.apply(chunks.next()));
+        }
+    }
+
+    /**
+     * <p>Inserts or updates multiple entries in the cache in bulk operations.</p>
+     *
+     * <p>The entries are sent in chunks of {@link #getBulkChunkSize()}. Within a chunk, entries without TTL
+     * are written with a single native {@code MSET}, and entries with a TTL are pipelined {@code PSETEX}
+     * commands in the same round-trip. Pipelining sends multiple commands to the server without waiting for
+     * individual responses, which reduces network round-trips for batch operations.</p>
      *
      * @param entries a map of key-value pairs to be inserted or updated in the cache
      */
     @Override
-    public void putAll(Map<K, CacheEntry<V>> entries) {
+    public void putAllWithTtl(Map<K, CacheEntry<V>> entries) {
         if (entries == null || entries.isEmpty()) {
             log.debug("No entries provided to putAll.");
             return;
         }
         try {
-            Pipeline pipeline = redisClient.pipelined();
-            for (Map.Entry<K, CacheEntry<V>> entry : entries.entrySet()) {
-                K key = entry.getKey();
-                CacheEntry<V> cacheEntry = entry.getValue();
-                try {
-                    byte[] serializedKey = serialize(key);
-                    byte[] serializedValue = serialize(cacheEntry.getValue());
-                    if (cacheEntry.getTtl() != null) {
-                        pipeline.psetex(serializedKey, cacheEntry.getTtl().toMillis(), serializedValue);
-                    } else {
-                        pipeline.set(serializedKey, serializedValue);
-                    }
-                } catch (IOException e) {
-                    log.error("Failed to serialize entry for key: {} in putAll", key, e);
-                }
-            }
-            pipeline.sync(); // Executes all commands in the pipeline
+            forEachChunk(chunked(entries.entrySet().iterator()), this::putChunk, written -> { });
             log.info("Bulk putAll operation completed for {} entries.", entries.size());
         } catch (JedisException e) {
             log.error("Redis error during putAll operation.", e);
         }
     }
 
+    /**
+     * Removes the keys with one multi-key {@code DEL} per chunk of {@link #getBulkChunkSize()} keys.
+     *
+     * @param keys keys to remove
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        if (keys == null || keys.isEmpty()) {
+            log.debug("No keys provided to evictAll.");
+            return;
+        }
+        try {
+            forEachChunk(chunked(keys.iterator()), this::evictChunk, deleted -> {
+                for (long i = 0; i < deleted; i++) {
+                    statsCounter.recordEviction(RemovalCause.EXPLICIT);
+                }
+            });
+            log.info("Bulk evictAll operation completed for {} keys.", keys.size());
+        } catch (JedisException e) {
+            log.error("Redis error during evictAll operation.", e);
+        }
+    }
 
     /**
-     * Retrieves the values associated with the specified keys.
+     * Retrieves the values associated with the specified keys, with one {@code MGET} per chunk of
+     * {@link #getBulkChunkSize()} keys.
      *
      * @param keys a collection of keys whose associated values are to be returned
      * @return a map of keys to {@link Optional} values; if a key is not present, its value will be {@link Optional#empty()}
@@ -274,40 +425,143 @@ public class RedisDistributedCache<K extends Serializable, V extends Serializabl
             return result;
         }
         try {
-            Pipeline pipeline = redisClient.pipelined();
-            Map<K, Response<byte[]>> responses = new HashMap<>();
-            for (K key : keys) {
-                try {
-                    byte[] serializedKey = serialize(key);
-                    responses.put(key, pipeline.get(serializedKey));
-                } catch (IOException e) {
-                    log.error("Failed to serialize key: {} in getAll", key, e);
-                    result.put(key, Optional.empty());
+            streamAll(keys, result::putAll);
+            log.info("Bulk getAll operation completed for {} keys.", keys.size());
+        } catch (JedisException e) {
+            log.error("Redis error during getAll operation.", e);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the values of the keys chunk by chunk, handing the values of every chunk to the consumer as soon
+     * as its {@code MGET} completes. Only the chunks in flight are held in memory, so the keys can come from a
+     * lazy source (e.g. a cursor over millions of keys for a cache warm-up).
+     * <p>
+     * The consumer is never called concurrently, but chunks may complete out of order.
+     *
+     * @param keys          keys whose values are to be returned
+     * @param chunkConsumer receives, per chunk, the keys mapped to their {@link Optional} values
+     * @throws JedisException if Redis operation fails; chunks already delivered stay delivered
+     */
+    public void streamAll(Iterable<K> keys, Consumer<Map<K, Optional<V>>> chunkConsumer) {
+        forEachChunk(chunked(keys.iterator()), this::getChunk, chunkConsumer);
+    }
+
+    private Void putChunk(List<Map.Entry<K, CacheEntry<V>>> chunk) {
+        List<byte[]> keysAndValues = new ArrayList<>(chunk.size() * 2);
+        List<byte[]> ttlKeys = new ArrayList<>();
+        List<byte[]> ttlValues = new ArrayList<>();
+        List<Long> ttlMillis = new ArrayList<>();
+        for (Map.Entry<K, CacheEntry<V>> entry : chunk) {
+            K key = entry.getKey();
+            CacheEntry<V> cacheEntry = entry.getValue();
+            try {
+                byte[] serializedKey = serializeKey(key);
+                byte[] serializedValue = serialize(cacheEntry.getValue());
+                if (cacheEntry.getTtl() != null) {
+                    ttlKeys.add(serializedKey);
+                    ttlValues.add(serializedValue);
+                    ttlMillis.add(cacheEntry.getTtl().toMillis());
+                } else {
+                    keysAndValues.add(serializedKey);
+                    keysAndValues.add(serializedValue);
                 }
+            } catch (CodecException e) {
+                log.error("Failed to serialize entry for key: {} in putAll", key, e);
+            }
+        }
+        byte[][] msetArgs = keysAndValues.toArray(new byte[0][]);
+        if (ttlKeys.isEmpty()) {
+            if (msetArgs.length > 0) {
+                execute(jedis -> jedis.mset(msetArgs));
+            }
+            return null;
+        }
+        return execute(jedis -> {
+            Pipeline pipeline = jedis.pipelined();
+            if (msetArgs.length > 0) {
+                pipeline.mset(msetArgs);
+            }
+            for (int i = 0; i < ttlKeys.size(); i++) {
+                pipeline.psetex(ttlKeys.get(i), ttlMillis.get(i), ttlValues.get(i));
             }
             pipeline.sync(); // Executes all commands in the pipeline
+            return null;
+        });
+    }
+
+    private Long evictChunk(List<K> chunk) {
+        List<byte[]> serializedKeys = new ArrayList<>(chunk.size());
+        for (K key : chunk) {
+            try {
+                serializedKeys.add(serializeKey(key));
+            } catch (CodecException e) {
+                log.error("Failed to serialize key: {} in evictAll", key, e);
+            }
+        }
+        if (serializedKeys.isEmpty()) {
+            return 0L;
+        }
+        byte[][] delArgs = serializedKeys.toArray(new byte[0][]);
+        return execute(jedis -> jedis.del(delArgs));
+    }
 
-            for (Map.Entry<K, Response<byte[]>> entry : responses.entrySet()) {
-                K key = entry.getKey();
+    private Map<K, Optional<V>> getChunk(List<K> chunk) {
+        Map<K, Optional<V>> result = new HashMap<>();
+        List<K> encodedKeys = new ArrayList<>(chunk.size());
+        List<byte[]> serializedKeys = new ArrayList<>(chunk.size());
+        for (K key : chunk) {
+            try {
+                serializedKeys.add(serializeKey(key));
+                encodedKeys.add(key);
+            } catch (CodecException e) {
+                log.error("Failed to serialize key: {} in getAll", key, e);
+                result.put(key, Optional.empty());
+            }
+        }
+        if (!serializedKeys.isEmpty()) {
+            byte[][] mgetArgs = serializedKeys.toArray(new byte[0][]);
+            List<byte[]> values = execute(jedis -> jedis.mget(mgetArgs));
+            for (int i = 0; i < encodedKeys.size(); i++) {
+                K key = encodedKeys.get(i);
+                byte[] valueBytes = values.get(i);
                 try {
-                    byte[] valueBytes = entry.getValue().get();
-                    if (valueBytes == null) {
-                        result.put(key, Optional.empty());
-                    } else {
-                        V value = deserialize(valueBytes);
-                        result.put(key, Optional.ofNullable(value));
-                    }
-                } catch (Exception e) {
+                    result.put(key, valueBytes == null ? Optional.empty() : Optional.ofNullable(deserialize(valueBytes)));
+                } catch (CodecException e) {
                     log.error("Failed to deserialize value for key: {} in getAll", key, e);
                     result.put(key, Optional.empty());
                 }
             }
-            log.info("Bulk getAll operation completed for {} keys.", keys.size());
-        } catch (JedisException e) {
-            log.error("Redis error during getAll operation.", e);
         }
+        int hits = (int) result.values().stream().filter(Optional::isPresent).count();
+        statsCounter.recordHits(hits);
+        statsCounter.recordMisses(result.size() - hits);
         return result;
     }
 
+    /**
+     * Lazily splits the elements into lists of {@link #getBulkChunkSize()} elements.
+     */
+    private <T> Iterator<List<T>> chunked(Iterator<T> elements) {
+        int chunkSize = bulkChunkSize;
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return elements.hasNext();
+            }
 
+            @Override
+            public List<T> next() {
+                if (!elements.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<T> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && elements.hasNext()) {
+                    chunk.add(elements.next());
+                }
+                return chunk;
+            }
+        };
+    }
 }
@@ -0,0 +1,190 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.BinaryInput;
+import com.java.oops.cache.codec.BinaryOutput;
+import com.java.oops.cache.codec.CacheCodec;
+import com.java.oops.cache.codec.CodecException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.BinaryJedisPubSub;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * {@link InvalidationBus} over Redis pub/sub.
+ *
+ * <pre>
+ * - Messages are published on a single channel: [node id][type][length-prefixed key], the key encoded
+ *   with the same codec as the cache keys. Messages from this node are ignored on receipt.
+ * - A daemon thread keeps one pooled connection subscribed. When the subscription drops it reconnects
+ *   with a backoff and, since messages may have been missed meanwhile, reports a clear to the listener.
+ * - Pub/sub is fire-and-forget: a node that is down misses messages, which is why local copies should
+ *   also carry a TTL.
+ * </pre>
+ *
+ * @param <K> the type of keys being invalidated
+ * @author sathwick
+ */
+@Slf4j
+public class RedisInvalidationBus<K> implements InvalidationBus<K> {
+    private static final byte INVALIDATE = 1;
+    private static final byte CLEAR = 2;
+    private static final long MAX_BACKOFF_MILLIS = 5_000;
+
+    private final JedisPool jedisPool;
+    private final byte[] channel;
+    private final CacheCodec<K> keyCodec;
+    @Getter
+    private final String nodeId;
+    private volatile boolean running = true;
+    private volatile BinaryJedisPubSub subscription;
+    private Thread subscriberThread;
+
+    /**
+     * Creates the bus.
+     *
+     * @param jedisPool pool providing the publishing connections and the subscribed connection
+     * @param channel   pub/sub channel shared by every node of the cache
+     * @param keyCodec  codec used to encode the keys in messages
+     */
+    public RedisInvalidationBus(JedisPool jedisPool, String channel, CacheCodec<K> keyCodec) {
+        if (jedisPool == null || channel == null || keyCodec == null) {
+            throw new NullPointerException("Jedis pool, channel and key codec cannot be null");
+        }
+        this.jedisPool = jedisPool;
+        this.channel = channel.getBytes(StandardCharsets.UTF_8);
+        this.keyCodec = keyCodec;
+        this.nodeId = UUID.randomUUID().toString();
+    }
+
+    /**
+     * Publishes the invalidation of the key.
+     *
+     * @param key the changed key
+     */
+    @Override
+    public void publishInvalidation(K key) {
+        try (BinaryOutput out = BinaryOutput.pooled()) {
+            out.writeString(nodeId);
+            out.writeByte(INVALIDATE);
+            out.writeLengthPrefixed(keyCodec.encode(key));
+            publish(out.toByteArray());
+        }
+    }
+
+    /**
+     * Publishes the invalidation of every key.
+     */
+    @Override
+    public void publishClear() {
+        try (BinaryOutput out = BinaryOutput.pooled()) {
+            out.writeString(nodeId);
+            out.writeByte(CLEAR);
+            publish(out.toByteArray());
+        }
+    }
+
+    /**
+     * Starts the subscriber thread delivering messages to the listener.
+     *
+     * @param listener the listener to call
+     * @throws IllegalStateException if a listener is already subscribed
+     */
+    @Override
+    public synchronized void subscribe(InvalidationListener<K> listener) {
+        if (subscriberThread != null) {
+            throw new IllegalStateException("A listener is already subscribed");
+        }
+        subscriberThread = new Thread(() -> subscribeLoop(listener), "RedisInvalidationBus-Subscriber");
+        subscriberThread.setDaemon(true);
+        subscriberThread.start();
+    }
+
+    /**
+     * Unsubscribes and stops the subscriber thread. The pool stays owned by the caller.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        BinaryJedisPubSub current = subscription;
+        if (current != null && current.isSubscribed()) {
+            current.unsubscribe();
+        }
+        if (subscriberThread != null) {
+            subscriberThread.interrupt();
+        }
+        log.info("Invalidation bus of node {} closed.", nodeId);
+    }
+
+    private void publish(byte[] message) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            jedis.publish(channel, message);
+        } catch (JedisException e) {
+            log.error("Failed to publish invalidation message", e);
+        }
+    }
+
+    private void subscribeLoop(InvalidationListener<K> listener) {
+        long backoffMillis = 100;
+        boolean resubscribing = false;
+        while (running) {
+            boolean clearOnSubscribe = resubscribing;
+            BinaryJedisPubSub pubSub = new BinaryJedisPubSub() {
+                @Override
+                public void onSubscribe(byte[] subscribedChannel, int subscribedChannels) {
+                    log.info("Node {} subscribed to invalidation channel", nodeId);
+                    if (clearOnSubscribe) {
+                        listener.onClear();
+                    }
+                }
+
+                @Override
+                public void onMessage(byte[] messageChannel, byte[] message) {
+                    dispatch(message, listener);
+                }
+            };
+            subscription = pubSub;
+            try (Jedis jedis = jedisPool.getResource()) {
+                jedis.subscribe(pubSub, channel);
+                backoffMillis = 100;
+            } catch (JedisException e) {
+                if (!running) {
+                    break;
+                }
+                log.warn("Invalidation subscription lost, retrying in {} ms", backoffMillis, e);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            }
+            resubscribing = true;
+        }
+    }
+
+    private void dispatch(byte[] message, InvalidationListener<K> listener) {
+        try {
+            BinaryInput in = new BinaryInput(ByteBuffer.wrap(message));
+            if (nodeId.equals(in.readString())) {
+                return;
+            }
+            byte type = in.readByte();
+            if (type == CLEAR) {
+                listener.onClear();
+            } else if (type == INVALIDATE) {
+                listener.onInvalidate(keyCodec.decode(in.readLengthPrefixed()));
+            } else {
+                log.warn("Ignoring invalidation message of unknown type {}", type);
+            }
+        } catch (CodecException e) {
+            log.error("Failed to decode invalidation message", e);
+        }
+    }
+}
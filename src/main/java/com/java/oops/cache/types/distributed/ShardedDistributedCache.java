@@ -0,0 +1,345 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.CacheCodec;
+import com.java.oops.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Callable;
+
+/**
+ * Distributed cache spreading its keys over several shards (e.g. one {@link PooledRedisDistributedCache}
+ * per Redis server) with a {@link ConsistentHashRing}.
+ *
+ * <pre>
+ * - Single key operations are routed to the shard owning the key; the key is hashed from its
+ *   codec encoding, so every client using the same codec agrees on the placement.
+ * - getAll / putAll / evictAll split the keys by shard and run one bulk (pipelined) call per shard in parallel.
+ * - clear runs on every shard in parallel; locks are routed by their lock key.
+ * - Shards can be added or removed at runtime; only about 1/N of the keys change owner. Entries are not
+ *   migrated: keys that moved simply miss once and get reloaded on their new shard.
+ * </pre>
+ *
+ * <p>Shards are called from several threads at once, so they must be thread-safe (use the pooled Redis cache).</p>
+ *
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
+ * @author sathwick
+ */
+@Slf4j
+public class ShardedDistributedCache<K, V> implements AbstractDistributedCache<K, V>, AutoCloseable {
+    private static final int DEFAULT_VIRTUAL_NODES = 160;
+
+    private final ConsistentHashRing<AbstractDistributedCache<K, V>> ring;
+    private final CacheCodec<K> keyCodec;
+    private final ExecutorService executorService;
+    private final boolean ownsExecutor;
+
+    /**
+     * Creates a sharded cache.
+     *
+     * @param shards          shards by stable id (e.g. "host:port"), the id decides the shard's ring positions
+     * @param keyCodec        codec whose encoding of a key is hashed to pick its shard
+     * @param virtualNodes    number of ring positions per shard
+     * @param executorService executor running the per-shard bulk calls in parallel
+     */
+    public ShardedDistributedCache(Map<String, ? extends AbstractDistributedCache<K, V>> shards, CacheCodec<K> keyCodec,
+                                   int virtualNodes, ExecutorService executorService) {
+        this(shards, keyCodec, virtualNodes, executorService, false);
+    }
+
+    /**
+     * Creates a sharded cache with 160 virtual nodes per shard and its own thread pool for bulk calls.
+     *
+     * @param shards   shards by stable id (e.g. "host:port")
+     * @param keyCodec codec whose encoding of a key is hashed to pick its shard
+     */
+    public ShardedDistributedCache(Map<String, ? extends AbstractDistributedCache<K, V>> shards, CacheCodec<K> keyCodec) {
+        this(shards, keyCodec, DEFAULT_VIRTUAL_NODES, Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "ShardedDistributedCache-Worker");
+            thread.setDaemon(true);
+            return thread;
+        }), true);
+    }
+
+    private ShardedDistributedCache(Map<String, ? extends AbstractDistributedCache<K, V>> shards,
+                                    CacheCodec<K> keyCodec, int virtualNodes, ExecutorService executorService,
+                                    boolean ownsExecutor) {
+        if (shards == null || keyCodec == null || executorService == null) {
+            throw new NullPointerException("Shards, key codec and executor service cannot be null");
+        }
+        this.ring = new ConsistentHashRing<>(virtualNodes);
+        shards.forEach(ring::addNode);
+        this.keyCodec = keyCodec;
+        this.executorService = executorService;
+        this.ownsExecutor = ownsExecutor;
+        log.info("Created sharded cache over {} shards with {} virtual nodes each", shards.size(), virtualNodes);
+    }
+
+    /**
+     * Adds a shard; about 1/N of the keys move to it.
+     *
+     * @param shardId stable id of the shard
+     * @param shard   the shard
+     */
+    public void addShard(String shardId, AbstractDistributedCache<K, V> shard) {
+        ring.addNode(shardId, shard);
+        log.info("Added shard {}", shardId);
+    }
+
+    /**
+     * Removes a shard; its keys move to the remaining shards.
+     *
+     * @param shardId id of the shard
+     * @return the removed shard, or null if unknown
+     */
+    public AbstractDistributedCache<K, V> removeShard(String shardId) {
+        AbstractDistributedCache<K, V> removed = ring.removeNode(shardId);
+        log.info("Removed shard {}", shardId);
+        return removed;
+    }
+
+    /**
+     * Returns the shard owning the key.
+     *
+     * @param key Cache key
+     * @return the owning shard
+     */
+    public AbstractDistributedCache<K, V> shardFor(K key) {
+        return ring.nodeFor(keyCodec.encode(key));
+    }
+
+    /**
+     * Stores the value on the shard owning the key.
+     *
+     * @param key   Cache key
+     * @param value Cache value
+     */
+    @Override
+    public void put(K key, V value) {
+        shardFor(key).put(key, value);
+    }
+
+    /**
+     * Stores the value with a TTL on the shard owning the key.
+     *
+     * @param key   Cache key
+     * @param value Cache value
+     * @param ttl   time-to-live of the entry
+     * @throws Exception if the shard operation fails
+     */
+    @Override
+    public void put(K key, V value, Duration ttl) throws Exception {
+        shardFor(key).put(key, value, ttl);
+    }
+
+    /**
+     * Reads the key from the shard owning it.
+     *
+     * @param key Cache key
+     * @return the cached value, empty if the owning shard misses
+     */
+    @Override
+    public Optional<V> get(K key) {
+        return shardFor(key).get(key);
+    }
+
+    /**
+     * Evicts the key from the shard owning it.
+     *
+     * @param key Cache key
+     */
+    @Override
+    public void evict(K key) {
+        shardFor(key).evict(key);
+    }
+
+    /**
+     * Returns the remaining TTL of the key on the shard owning it.
+     *
+     * @param key Cache key
+     * @return remaining TTL, empty if absent or without expiry
+     */
+    @Override
+    public Optional<Duration> remainingTtl(K key) {
+        return shardFor(key).remainingTtl(key);
+    }
+
+    /**
+     * Acquires a distributed lock on the shard owning the lock key.
+     *
+     * @param key     the key for which the lock is to be acquired
+     * @param value   the value to be associated with the lock
+     * @param timeout the maximum time to wait for the lock to become available
+     * @return {@code true} if the lock was acquired
+     * @throws Exception if the shard operation fails
+     */
+    @Override
+    public Boolean acquireLock(String key, String value, Duration timeout) throws Exception {
+        return lockShard(key).acquireLock(key, value, timeout);
+    }
+
+    /**
+     * Releases a distributed lock on the shard owning the lock key.
+     *
+     * @param key the key for which the lock is to be released
+     * @return {@code true} if the lock was released
+     * @throws Exception if the shard operation fails
+     */
+    @Override
+    public Boolean releaseLock(String key) throws Exception {
+        return lockShard(key).releaseLock(key);
+    }
+
+    /**
+     * Returns the lock value from the shard owning the lock key.
+     *
+     * @param key key
+     * @return lock value if lock is held and not expired
+     */
+    @Override
+    public String fetchLockValue(String key) {
+        return lockShard(key).fetchLockValue(key);
+    }
+
+    /**
+     * Clears every shard in parallel.
+     */
+    @Override
+    public void clear() {
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        for (AbstractDistributedCache<K, V> shard : ring.nodes().values()) {
+            calls.add(runAsync(() -> {
+                shard.clear();
+                return null;
+            }));
+        }
+        awaitAll(calls);
+    }
+
+    /**
+     * Splits the entries by shard and runs one bulk put per shard in parallel.
+     *
+     * @param entries a map of keys to the values and TTLs to be inserted or updated in the cache
+     */
+    @Override
+    public void putAllWithTtl(Map<K, CacheEntry<V>> entries) {
+        Map<AbstractDistributedCache<K, V>, Map<K, CacheEntry<V>>> byShard = new IdentityHashMap<>();
+        entries.forEach((key, entry) -> byShard.computeIfAbsent(shardFor(key), shard -> new HashMap<>()).put(key, entry));
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        byShard.forEach((shard, shardEntries) -> calls.add(runAsync(() -> {
+            shard.putAllWithTtl(shardEntries);
+            return null;
+        })));
+        awaitAll(calls);
+    }
+
+    /**
+     * Splits the keys by shard and runs one bulk get per shard in parallel.
+     *
+     * @param keys a collection of keys whose associated values are to be returned
+     * @return a map of keys to {@link Optional} values
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        Map<AbstractDistributedCache<K, V>, List<K>> byShard = groupByShard(keys);
+        List<CompletableFuture<Map<K, Optional<V>>>> calls = new ArrayList<>();
+        byShard.forEach((shard, shardKeys) -> calls.add(runAsync(() -> shard.getAll(shardKeys))));
+        awaitAll(calls);
+        Map<K, Optional<V>> result = new HashMap<>();
+        for (CompletableFuture<Map<K, Optional<V>>> call : calls) {
+            result.putAll(call.join());
+        }
+        return result;
+    }
+
+    /**
+     * Splits the keys by shard and runs one bulk evict per shard in parallel.
+     *
+     * @param keys Cache keys to evict
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        List<CompletableFuture<Void>> calls = new ArrayList<>();
+        groupByShard(keys).forEach((shard, shardKeys) -> calls.add(runAsync(() -> {
+            shard.evictAll(shardKeys);
+            return null;
+        })));
+        awaitAll(calls);
+    }
+
+    /**
+     * Returns the sum of the statistics of every shard.
+     *
+     * @return combined statistics
+     */
+    @Override
+    public CacheStats stats() {
+        CacheStats stats = CacheStats.empty();
+        for (AbstractDistributedCache<K, V> shard : ring.nodes().values()) {
+            stats = stats.plus(shard.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Shuts down the executor if it was created by this cache. Shards stay owned by the caller.
+     */
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executorService.shutdown();
+        }
+    }
+
+    private Map<AbstractDistributedCache<K, V>, List<K>> groupByShard(Collection<K> keys) {
+        Map<AbstractDistributedCache<K, V>, List<K>> byShard = new IdentityHashMap<>();
+        for (K key : keys) {
+            byShard.computeIfAbsent(shardFor(key), shard -> new ArrayList<>()).add(key);
+        }
+        return byShard;
+    }
+
+    private AbstractDistributedCache<K, V> lockShard(String lockKey) {
+        return ring.nodeFor(lockKey.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private <T> CompletableFuture<T> runAsync(Callable<T> call) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return call.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        }, executorService);
+    }
+
+    /**
+     * Waits for every call and rethrows the first failure.
+     */
+    private void awaitAll(List<? extends CompletableFuture<?>> calls) {
+        try {
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture<?>[0])).join();
+        } catch (CompletionException e) {
+            log.error("Sharded bulk operation failed", e.getCause());
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.StatsCounter;
+import com.java.oops.cache.types.ttl.InMemoryTTLCache;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Near cache: a bounded in-process L1 in front of a distributed L2 (typically Redis).
+ *
+ * <pre>
+ * Reads:
+ * - Served from the L1 {@link InMemoryTTLCache} when present, without a network round-trip.
+ * - On an L1 miss the L2 is queried and a hit is copied into the L1.
+ *
+ * Writes (put / evict / clear):
+ * - Applied to the L2 first, then to the local L1.
+ * - Announced on the {@link InvalidationBus}, so every other node drops its L1 copy of the key.
+ *
+ * Staleness:
+ * - Local copies live at most {@code localTtl} (or the entry TTL if shorter), which bounds the staleness
+ *   when an invalidation message is lost.
+ * - Every write or invalidation of a key bumps a generation counter (striped by key hash). A read copies
+ *   an L2 value into the L1 only if the generation did not change since before the L2 read, and drops the
+ *   copy if it changed while copying, so a slow read never overwrites a newer write with an older value.
+ * - Distributed locks are not cached and always go to the L2.
+ * </pre>
+ *
+ * @param <K> Type of cache key
+ * @param <V> Type of cache value
+ * @author sathwick
+ */
+@Slf4j
+public class TieredCache<K, V> implements AbstractDistributedCache<K, V>, AutoCloseable {
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final InMemoryTTLCache<K, V> localCache;
+    private final AbstractDistributedCache<K, V> remoteCache;
+    private final InvalidationBus<K> invalidationBus;
+    private final Duration localTtl;
+    private final StatsCounter statsCounter = new StatsCounter();
+    private final AtomicLongArray keyGenerations = new AtomicLongArray(GENERATION_STRIPES);
+    private final AtomicLong clearGeneration = new AtomicLong();
+
+    /**
+     * Creates the tiered cache and subscribes the L1 to the invalidation bus.
+     *
+     * @param localCache      bounded in-process cache (L1)
+     * @param remoteCache     distributed cache (L2), the source of truth between nodes
+     * @param invalidationBus bus shared by every node of this cache
+     * @param localTtl        maximum time a value stays in the L1
+     */
+    public TieredCache(InMemoryTTLCache<K, V> localCache, AbstractDistributedCache<K, V> remoteCache,
+                       InvalidationBus<K> invalidationBus, Duration localTtl) {
+        if (localCache == null || remoteCache == null || invalidationBus == null || localTtl == null) {
+            throw new NullPointerException("Local cache, remote cache, invalidation bus and local TTL cannot be null");
+        }
+        if (localTtl.isNegative() || localTtl.isZero()) {
+            throw new IllegalArgumentException("Local TTL must be positive");
+        }
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.invalidationBus = invalidationBus;
+        this.localTtl = localTtl;
+        invalidationBus.subscribe(new InvalidationBus.InvalidationListener<>() {
+            @Override
+            public void onInvalidate(K key) {
+                log.debug("Dropping local copy of key {} changed on another node", key);
+                invalidateLocal(key);
+            }
+
+            @Override
+            public void onClear() {
+                log.info("Dropping every local copy after a remote clear or lost invalidations");
+                clearLocal();
+            }
+        });
+    }
+
+    /**
+     * Stores the value in the L2 and the L1, and invalidates the other nodes' copies.
+     *
+     * @param key   Cache key
+     * @param value Cache value
+     */
+    @Override
+    public void put(K key, V value) {
+        remoteCache.put(key, value);
+        keyGenerations.incrementAndGet(stripe(key));
+        localCache.put(key, value, localTtl);
+        invalidationBus.publishInvalidation(key);
+    }
+
+    /**
+     * Stores the value with a TTL in the L2 and the L1, and invalidates the other nodes' copies.
+     *
+     * @param key   Cache key
+     * @param value Cache value
+     * @param ttl   Time-to-live duration of the entry
+     * @throws Exception if the L2 write fails; the L1 is then left untouched
+     */
+    @Override
+    public void put(K key, V value, Duration ttl) throws Exception {
+        remoteCache.put(key, value, ttl);
+        keyGenerations.incrementAndGet(stripe(key));
+        localCache.put(key, value, localTtlFor(ttl));
+        invalidationBus.publishInvalidation(key);
+    }
+
+    /**
+     * Returns the L1 copy if present, otherwise the L2 value (then copied into the L1).
+     *
+     * @param key Cache key
+     * @return Optional containing the cached value if present; otherwise Optional.empty()
+     */
+    @Override
+    public Optional<V> get(K key) {
+        Optional<V> local = localCache.get(key);
+        if (local.isPresent()) {
+            statsCounter.recordHit();
+            return local;
+        }
+        long generation = generation(key);
+        Optional<V> remote = remoteCache.get(key);
+        if (remote.isPresent()) {
+            statsCounter.recordHit();
+            fillLocal(key, remote.get(), generation);
+        } else {
+            statsCounter.recordMiss();
+        }
+        return remote;
+    }
+
+    /**
+     * Removes the key from the L2 and the L1, and invalidates the other nodes' copies.
+     *
+     * @param key Cache key to evict
+     */
+    @Override
+    public void evict(K key) {
+        remoteCache.evict(key);
+        invalidateLocal(key);
+        invalidationBus.publishInvalidation(key);
+    }
+
+    /**
+     * Returns the remaining TTL of the L2 entry, which outlives the local copy.
+     *
+     * @param key Cache key
+     * @return remaining TTL of the L2 entry
+     */
+    @Override
+    public Optional<Duration> remainingTtl(K key) {
+        return remoteCache.remainingTtl(key);
+    }
+
+    /**
+     * Acquires a distributed lock through the L2.
+     *
+     * @param key     the key for which the lock is to be acquired
+     * @param value   the value to be associated with the lock
+     * @param timeout the maximum time to wait for the lock to become available
+     * @return {@code true} if the lock was acquired
+     * @throws Exception if the L2 operation fails
+     */
+    @Override
+    public Boolean acquireLock(String key, String value, Duration timeout) throws Exception {
+        return remoteCache.acquireLock(key, value, timeout);
+    }
+
+    /**
+     * Releases a distributed lock through the L2.
+     *
+     * @param key the key for which the lock is to be released
+     * @return {@code true} if the lock was released
+     * @throws Exception if the L2 operation fails
+     */
+    @Override
+    public Boolean releaseLock(String key) throws Exception {
+        return remoteCache.releaseLock(key);
+    }
+
+    /**
+     * Returns the lock value from the L2.
+     *
+     * @param key key
+     * @return lock value if lock is held and not expired
+     */
+    @Override
+    public String fetchLockValue(String key) {
+        return remoteCache.fetchLockValue(key);
+    }
+
+    /**
+     * Clears the L2 and the L1, and tells the other nodes to drop their L1.
+     */
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        clearLocal();
+        invalidationBus.publishClear();
+    }
+
+    /**
+     * Stores every entry in the L2 and the L1, and invalidates the other nodes' copies.
+     *
+     * @param entries a map of keys to the values and TTLs to be inserted or updated in the cache
+     */
+    @Override
+    public void putAllWithTtl(Map<K, CacheEntry<V>> entries) {
+        remoteCache.putAllWithTtl(entries);
+        for (Map.Entry<K, CacheEntry<V>> entry : entries.entrySet()) {
+            keyGenerations.incrementAndGet(stripe(entry.getKey()));
+            localCache.put(entry.getKey(), entry.getValue().getValue(), localTtlFor(entry.getValue().getTtl()));
+            invalidationBus.publishInvalidation(entry.getKey());
+        }
+    }
+
+    /**
+     * Returns the L1 copies of the keys and fetches the others from the L2 in a single bulk call.
+     *
+     * @param keys a collection of keys whose associated values are to be returned
+     * @return a map of keys to {@link Optional} values
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        Map<K, Optional<V>> result = new HashMap<>();
+        List<K> localMisses = new ArrayList<>();
+        for (K key : keys) {
+            Optional<V> local = localCache.get(key);
+            if (local.isPresent()) {
+                result.put(key, local);
+            } else {
+                localMisses.add(key);
+            }
+        }
+        statsCounter.recordHits(result.size());
+        if (!localMisses.isEmpty()) {
+            long[] generations = new long[localMisses.size()];
+            for (int i = 0; i < generations.length; i++) {
+                generations[i] = generation(localMisses.get(i));
+            }
+            Map<K, Optional<V>> remote = remoteCache.getAll(localMisses);
+            for (int i = 0; i < generations.length; i++) {
+                K key = localMisses.get(i);
+                Optional<V> value = remote.getOrDefault(key, Optional.empty());
+                if (value.isPresent()) {
+                    statsCounter.recordHit();
+                    fillLocal(key, value.get(), generations[i]);
+                } else {
+                    statsCounter.recordMiss();
+                }
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes the keys from the L2 in a single bulk call and from the L1, and invalidates the other nodes' copies.
+     *
+     * @param keys Cache keys to evict
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        remoteCache.evictAll(keys);
+        keys.forEach(key -> keyGenerations.incrementAndGet(stripe(key)));
+        localCache.evictAll(keys);
+        keys.forEach(invalidationBus::publishInvalidation);
+    }
+
+    /**
+     * Returns the statistics of the tiered cache as a whole: a hit is a value found in either tier.
+     *
+     * @return current statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * Returns the statistics of the L1, whose hit rate tells how many reads avoided the network.
+     *
+     * @return L1 statistics
+     */
+    public CacheStats localStats() {
+        return localCache.stats();
+    }
+
+    /**
+     * Stops listening for invalidations and closes the L1. The L2 stays owned by the caller.
+     */
+    @Override
+    public void close() {
+        invalidationBus.close();
+        localCache.close();
+    }
+
+    /**
+     * Copies an L2 value into the L1 unless the key was written or invalidated since {@code generation} was read.
+     */
+    private void fillLocal(K key, V value, long generation) {
+        if (generation(key) != generation) {
+            log.debug("Key {} changed while it was read from the remote cache, not caching it locally", key);
+            return;
+        }
+        localCache.put(key, value, localTtl);
+        if (generation(key) != generation) {
+            // a write or invalidation raced with the copy, which may have overwritten the newer value
+            localCache.evict(key);
+        }
+    }
+
+    private void invalidateLocal(K key) {
+        keyGenerations.incrementAndGet(stripe(key));
+        localCache.evict(key);
+    }
+
+    private void clearLocal() {
+        clearGeneration.incrementAndGet();
+        localCache.clear();
+    }
+
+    /**
+     * Returns a value that changes whenever the key (or another key of its stripe) is written or invalidated.
+     */
+    private long generation(K key) {
+        return clearGeneration.get() + keyGenerations.get(stripe(key));
+    }
+
+    private static int stripe(Object key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+
+    private Duration localTtlFor(Duration ttl) {
+        return ttl == null || ttl.isZero() || ttl.compareTo(localTtl) > 0 ? localTtl : ttl;
+    }
+}
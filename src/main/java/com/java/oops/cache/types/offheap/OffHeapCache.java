@@ -0,0 +1,385 @@
+package com.java.oops.cache.types.offheap;
+
+import com.java.oops.cache.codec.BinaryOutput;
+import com.java.oops.cache.codec.CacheCodec;
+import com.java.oops.cache.eviction.EvictionPolicy;
+import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.RemovalCause;
+import com.java.oops.cache.stats.StatsCounter;
+import com.java.oops.cache.types.ttl.AbstractTTLCache;
+import com.java.oops.cache.types.ttl.TimerWheel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TTL cache storing its values serialized in direct memory, outside the Java heap.
+ *
+ * <pre>
+ * Features:
+ * - Values are encoded with a pluggable {@link CacheCodec} into the thread's pooled {@link BinaryOutput},
+ *   then copied into chunks handed out by a slab allocator over direct ByteBuffer pages, so several GB
+ *   of cached data do not inflate the old generation or GC pause times.
+ * - The heap only keeps an index of key to chunk address (a long); the keys themselves stay on heap
+ *   because the {@link EvictionPolicy} tracks them anyway.
+ * - Chunk layout: [int value length][long expiry millis][value bytes].
+ * - Capacity is bounded by both entry count and memory. When memory runs out, entries are evicted
+ *   through the eviction policy until the new value fits.
+ * - TTL expiry uses a {@link TimerWheel} advanced on every write, plus a lazy check on read.
+ * - All operations are guarded by a single lock; decoding happens outside of it.
+ * - Hits, misses, evictions and expirations are recorded and exposed through {@link #stats()}.
+ * </pre>
+ *
+ * <p>Note: as with any slab allocator, memory of a size class is not handed to another class, so a
+ * sudden change in value sizes may evict more entries than strictly necessary.</p>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ * @author sathwick
+ */
+@Slf4j
+public class OffHeapCache<K, V> implements AbstractTTLCache<K, V>, AutoCloseable {
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int DEFAULT_PAGE_SIZE = 1 << 20;
+    private static final Duration NO_EXPIRY = Duration.ZERO;
+
+    private final Map<K, Long> index = new HashMap<>();
+    private final TimerWheel<K> timerWheel = new TimerWheel<>(System.currentTimeMillis());
+    private final ReentrantLock lock = new ReentrantLock();
+    private final StatsCounter statsCounter = new StatsCounter();
+    private final SlabAllocator allocator;
+    private final CacheCodec<V> codec;
+    @Getter
+    private final EvictionPolicy<K> evictionPolicy;
+    @Getter
+    private final int capacity;
+
+    /**
+     * Creates an off-heap cache.
+     *
+     * @param evictionPolicy the eviction policy to use for capacity management
+     * @param capacity       the maximum number of entries
+     * @param maxMemoryBytes the maximum direct memory used for values
+     * @param pageSizeBytes  size of each slab page, also the largest storable encoded value
+     * @param codec          codec used to (de)serialize values
+     */
+    public OffHeapCache(EvictionPolicy<K> evictionPolicy, int capacity, long maxMemoryBytes, int pageSizeBytes,
+                        CacheCodec<V> codec) {
+        if (evictionPolicy == null || codec == null) {
+            throw new NullPointerException("Eviction policy and codec cannot be null");
+        }
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.allocator = new SlabAllocator(maxMemoryBytes, pageSizeBytes);
+        this.evictionPolicy = evictionPolicy;
+        this.capacity = capacity;
+        this.codec = codec;
+        log.info("Created off-heap cache with capacity {} and {} bytes of direct memory", capacity, maxMemoryBytes);
+    }
+
+    /**
+     * Creates an off-heap cache with 1 MiB slab pages.
+     *
+     * @param evictionPolicy the eviction policy to use for capacity management
+     * @param capacity       the maximum number of entries
+     * @param maxMemoryBytes the maximum direct memory used for values
+     * @param codec          codec used to (de)serialize values
+     */
+    public OffHeapCache(EvictionPolicy<K> evictionPolicy, int capacity, long maxMemoryBytes, CacheCodec<V> codec) {
+        this(evictionPolicy, capacity, maxMemoryBytes, DEFAULT_PAGE_SIZE, codec);
+    }
+
+    /**
+     * Creates an off-heap cache with a default LRU eviction policy and 1 MiB slab pages.
+     *
+     * @param capacity       the maximum number of entries
+     * @param maxMemoryBytes the maximum direct memory used for values
+     * @param codec          codec used to (de)serialize values
+     */
+    public OffHeapCache(int capacity, long maxMemoryBytes, CacheCodec<V> codec) {
+        this(new LRUEvictionPolicy<>(capacity), capacity, maxMemoryBytes, codec);
+    }
+
+    /**
+     * Encodes the value and stores it off-heap with the given TTL.
+     * Values whose encoded form does not fit in a slab page are not cached.
+     *
+     * @param key   the cache key
+     * @param value the cache value
+     * @param ttl   time-to-live duration; Duration.ZERO means no expiry
+     */
+    @Override
+    public void put(K key, V value, Duration ttl) {
+        try (BinaryOutput encoded = BinaryOutput.pooled()) {
+            codec.encodeTo(value, encoded);
+            put(key, encoded, ttl);
+        }
+    }
+
+    /**
+     * Copies the encoded value into a slab chunk, evicting as needed.
+     */
+    private void put(K key, BinaryOutput encoded, Duration ttl) {
+        int length = encoded.size();
+        int size = HEADER_SIZE + length;
+        long expiryTime = ttl.isZero() ? CacheEntry.NO_EXPIRY : System.currentTimeMillis() + ttl.toMillis();
+        lock.lock();
+        try {
+            expireEntries();
+            boolean isNewKey = !index.containsKey(key);
+            if (size > allocator.maxChunkSize()) {
+                log.warn("Value for key '{}' is {} bytes, larger than the slab page; not caching it", key, length);
+                if (!isNewKey) {
+                    remove(key);
+                }
+                return;
+            }
+            if (isNewKey && index.size() == capacity) {
+                if (!evictionPolicy.admit(key)) {
+                    log.debug("Eviction policy rejected admission of key '{}'", key);
+                    statsCounter.recordEviction(RemovalCause.SIZE);
+                    return;
+                }
+                evictVictim();
+            }
+            if (!isNewKey) {
+                release(index.remove(key));
+            }
+            long address = allocator.allocate(size);
+            while (address == SlabAllocator.NO_MEMORY) {
+                if (!evictVictim()) {
+                    log.warn("Unable to free off-heap memory for key '{}'", key);
+                    evictionPolicy.evict(key);
+                    timerWheel.deschedule(key);
+                    return;
+                }
+                address = allocator.allocate(size);
+            }
+            ByteBuffer page = allocator.page(address);
+            int offset = SlabAllocator.offset(address);
+            page.putInt(offset, length);
+            page.putLong(offset + Integer.BYTES, expiryTime);
+            encoded.copyTo(page, offset + HEADER_SIZE);
+            index.put(key, address);
+            if (ttl.isZero()) {
+                timerWheel.deschedule(key);
+            } else {
+                timerWheel.schedule(key, expiryTime);
+            }
+            evictionPolicy.recordAccess(key);
+            log.debug("Put key '{}' ({} bytes) with TTL {} ms", key, length, ttl.toMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stores the value off-heap with no expiry.
+     *
+     * @param key   the cache key
+     * @param value the cache value
+     */
+    @Override
+    public void put(K key, V value) {
+        put(key, value, NO_EXPIRY);
+    }
+
+    /**
+     * Copies the value out of direct memory and decodes it, if present and not expired.
+     *
+     * @param key the cache key
+     * @return Optional containing the value if present and not expired, otherwise empty
+     */
+    @Override
+    public Optional<V> get(K key) {
+        byte[] bytes;
+        lock.lock();
+        try {
+            Long address = index.get(key);
+            if (address == null) {
+                log.debug("Cache miss for key '{}'", key);
+                statsCounter.recordMiss();
+                return Optional.empty();
+            }
+            ByteBuffer page = allocator.page(address);
+            int offset = SlabAllocator.offset(address);
+            long expiryTime = page.getLong(offset + Integer.BYTES);
+            if (expiryTime > 0 && System.currentTimeMillis() > expiryTime) {
+                log.debug("Cache entry for key '{}' expired, evicting", key);
+                remove(key);
+                statsCounter.recordEviction(RemovalCause.EXPIRED);
+                statsCounter.recordMiss();
+                return Optional.empty();
+            }
+            statsCounter.recordHit();
+            bytes = new byte[page.getInt(offset)];
+            page.get(offset + HEADER_SIZE, bytes);
+            evictionPolicy.recordAccess(key);
+        } finally {
+            lock.unlock();
+        }
+        log.debug("Cache hit for key '{}'", key);
+        return Optional.of(codec.decode(bytes));
+    }
+
+    /**
+     * Returns the remaining time-to-live of the key, read from the chunk header, without touching the
+     * eviction policy or the statistics.
+     *
+     * @param key the cache key
+     * @return remaining TTL, empty if absent, expired or without expiry
+     */
+    @Override
+    public Optional<Duration> remainingTtl(K key) {
+        lock.lock();
+        try {
+            Long address = index.get(key);
+            if (address == null) {
+                return Optional.empty();
+            }
+            long expiryTime = allocator.page(address).getLong(SlabAllocator.offset(address) + Integer.BYTES);
+            long remainingMillis = expiryTime - System.currentTimeMillis();
+            return expiryTime <= 0 || remainingMillis < 0
+                    ? Optional.empty() : Optional.of(Duration.ofMillis(remainingMillis));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evicts the specified key and frees its off-heap chunk.
+     *
+     * @param key the cache key to evict
+     */
+    @Override
+    public void evict(K key) {
+        lock.lock();
+        try {
+            if (index.containsKey(key)) {
+                statsCounter.recordEviction(RemovalCause.EXPLICIT);
+            }
+            remove(key);
+            log.debug("Manually evicted key '{}'", key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, eviction and expiration counts.
+     *
+     * @return current statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return number of entries
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the direct memory currently occupied by chunks holding entries.
+     *
+     * @return used bytes
+     */
+    public long usedBytes() {
+        lock.lock();
+        try {
+            return allocator.usedBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the direct memory reserved from the operating system so far.
+     *
+     * @return reserved bytes
+     */
+    public long reservedBytes() {
+        lock.lock();
+        try {
+            return allocator.reservedBytes();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops every entry and the slab pages backing them.
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            for (K key : index.keySet()) {
+                evictionPolicy.evict(key);
+                timerWheel.deschedule(key);
+            }
+            index.clear();
+            allocator.release();
+            log.info("Off-heap cache closed, direct memory released.");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void expireEntries() {
+        timerWheel.advance(System.currentTimeMillis(), key -> {
+            log.debug("Removing expired key '{}'", key);
+            release(index.remove(key));
+            evictionPolicy.evict(key);
+            statsCounter.recordEviction(RemovalCause.EXPIRED);
+        });
+    }
+
+    /**
+     * Evicts the policy's victim.
+     *
+     * @return {@code false} if the policy had nothing left to evict
+     */
+    private boolean evictVictim() {
+        K victim = evictionPolicy.evict();
+        if (victim == null) {
+            return false;
+        }
+        release(index.remove(victim));
+        timerWheel.deschedule(victim);
+        statsCounter.recordEviction(RemovalCause.SIZE);
+        log.debug("Evicted key '{}' to make room", victim);
+        return true;
+    }
+
+    private void remove(K key) {
+        release(index.remove(key));
+        timerWheel.deschedule(key);
+        evictionPolicy.evict(key);
+    }
+
+    private void release(Long address) {
+        if (address != null) {
+            int length = allocator.page(address).getInt(SlabAllocator.offset(address));
+            allocator.free(address, HEADER_SIZE + length);
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.java.oops.cache.types.offheap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Memcached-style slab allocator carving direct {@link ByteBuffer} pages into fixed-size chunks.
+ *
+ * <pre>
+ * - Memory is reserved lazily, one page (direct ByteBuffer) at a time, up to the configured maximum.
+ * - Chunk sizes form size classes growing by a factor of 1.25 (8-byte aligned) up to the page size.
+ *   A page belongs to a single size class and is cut into chunks of that class.
+ * - Freed chunks go to a per-class free list (a primitive long stack), so steady-state allocation
+ *   reuses memory without touching the Java heap.
+ * - Once every page is reserved, a page whose chunks are all free is reassigned to the size class
+ *   that ran out of memory, so the allocator follows changes in value sizes.
+ * - A chunk is addressed by a long: page index in the high 32 bits, offset within the page in the low 32 bits.
+ * </pre>
+ *
+ * <p>Not thread-safe; the owning cache guards it with its own lock.</p>
+ *
+ * @author sathwick
+ */
+@Slf4j
+final class SlabAllocator {
+    static final long NO_MEMORY = -1L;
+    private static final int MIN_CHUNK_SIZE = 64;
+    private static final double GROWTH_FACTOR = 1.25;
+
+    private final int pageSize;
+    private final int maxPages;
+    private final int[] chunkSizes;
+    private final List<ByteBuffer> pages;
+    private final long[][] freeLists;
+    private final int[] freeCounts;
+    /**
+     * Page currently being carved for each size class, or -1.
+     */
+    private final int[] carvingPage;
+    private final int[] carvingOffset;
+    private final int[] pageSizeClass;
+    private final int[] pageLiveChunks;
+    private long usedBytes;
+
+    /**
+     * Creates an allocator.
+     *
+     * @param maxMemoryBytes upper bound of direct memory reserved by this allocator
+     * @param pageSize       size of each direct buffer page; also the largest allocatable chunk
+     */
+    SlabAllocator(long maxMemoryBytes, int pageSize) {
+        if (pageSize < MIN_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Page size must be at least " + MIN_CHUNK_SIZE + " bytes");
+        }
+        if (maxMemoryBytes < pageSize) {
+            throw new IllegalArgumentException("Max memory must hold at least one page");
+        }
+        this.pageSize = pageSize;
+        this.maxPages = (int) Math.min(Integer.MAX_VALUE, maxMemoryBytes / pageSize);
+        this.chunkSizes = buildSizeClasses(pageSize);
+        this.pages = new ArrayList<>();
+        this.freeLists = new long[chunkSizes.length][];
+        this.freeCounts = new int[chunkSizes.length];
+        this.carvingPage = new int[chunkSizes.length];
+        this.carvingOffset = new int[chunkSizes.length];
+        this.pageSizeClass = new int[maxPages];
+        this.pageLiveChunks = new int[maxPages];
+        for (int i = 0; i < chunkSizes.length; i++) {
+            freeLists[i] = new long[16];
+        }
+        Arrays.fill(carvingPage, -1);
+    }
+
+    /**
+     * Allocates a chunk able to hold {@code size} bytes.
+     *
+     * @param size number of bytes needed
+     * @return the chunk address, or {@link #NO_MEMORY} if no chunk of that class is free and no page can be added
+     */
+    long allocate(int size) {
+        int sizeClass = sizeClassOf(size);
+        if (sizeClass < 0) {
+            return NO_MEMORY;
+        }
+        long address;
+        if (freeCounts[sizeClass] > 0) {
+            address = freeLists[sizeClass][--freeCounts[sizeClass]];
+        } else {
+            address = carve(sizeClass);
+            if (address == NO_MEMORY) {
+                return NO_MEMORY;
+            }
+        }
+        usedBytes += chunkSizes[sizeClass];
+        pageLiveChunks[(int) (address >>> 32)]++;
+        return address;
+    }
+
+    /**
+     * Returns a chunk to the free list of its size class.
+     *
+     * @param address the chunk address returned by {@link #allocate(int)}
+     * @param size    the size that was requested when allocating the chunk
+     */
+    void free(long address, int size) {
+        int sizeClass = sizeClassOf(size);
+        long[] freeList = freeLists[sizeClass];
+        if (freeCounts[sizeClass] == freeList.length) {
+            freeList = Arrays.copyOf(freeList, freeList.length * 2);
+            freeLists[sizeClass] = freeList;
+        }
+        freeList[freeCounts[sizeClass]++] = address;
+        usedBytes -= chunkSizes[sizeClass];
+        pageLiveChunks[(int) (address >>> 32)]--;
+    }
+
+    /**
+     * Returns the page holding the chunk.
+     *
+     * @param address chunk address
+     * @return the direct buffer page
+     */
+    ByteBuffer page(long address) {
+        return pages.get((int) (address >>> 32));
+    }
+
+    /**
+     * Returns the offset of the chunk inside its page.
+     *
+     * @param address chunk address
+     * @return byte offset inside the page
+     */
+    static int offset(long address) {
+        return (int) address;
+    }
+
+    /**
+     * Returns the largest size that can be allocated.
+     *
+     * @return maximum chunk size in bytes
+     */
+    int maxChunkSize() {
+        return chunkSizes[chunkSizes.length - 1];
+    }
+
+    /**
+     * Returns the bytes currently handed out as chunks.
+     *
+     * @return used bytes
+     */
+    long usedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Returns the direct memory reserved so far.
+     *
+     * @return reserved bytes
+     */
+    long reservedBytes() {
+        return (long) pages.size() * pageSize;
+    }
+
+    /**
+     * Drops every page; the direct memory is released once the buffers are garbage collected.
+     */
+    void release() {
+        pages.clear();
+        Arrays.fill(pageLiveChunks, 0);
+        Arrays.fill(freeCounts, 0);
+        Arrays.fill(carvingPage, -1);
+        usedBytes = 0;
+    }
+
+    private long carve(int sizeClass) {
+        int chunkSize = chunkSizes[sizeClass];
+        int page = carvingPage[sizeClass];
+        if (page < 0 || carvingOffset[sizeClass] + chunkSize > pageSize) {
+            if (pages.size() < maxPages) {
+                pages.add(ByteBuffer.allocateDirect(pageSize));
+                page = pages.size() - 1;
+            } else {
+                page = reclaimEmptyPage();
+                if (page < 0) {
+                    return NO_MEMORY;
+                }
+            }
+            pageSizeClass[page] = sizeClass;
+            carvingPage[sizeClass] = page;
+            carvingOffset[sizeClass] = 0;
+            log.debug("Assigned page {} to size class {} ({} byte chunks)", page, sizeClass, chunkSize);
+        }
+        int offset = carvingOffset[sizeClass];
+        carvingOffset[sizeClass] = offset + chunkSize;
+        return ((long) page << 32) | offset;
+    }
+
+    /**
+     * Finds a reserved page without live chunks and detaches it from its previous size class.
+     *
+     * @return the reclaimed page index, or -1 if every page holds live chunks
+     */
+    private int reclaimEmptyPage() {
+        for (int page = 0; page < pages.size(); page++) {
+            if (pageLiveChunks[page] != 0) {
+                continue;
+            }
+            int previousClass = pageSizeClass[page];
+            if (carvingPage[previousClass] == page) {
+                carvingPage[previousClass] = -1;
+            }
+            long[] freeList = freeLists[previousClass];
+            int kept = 0;
+            for (int i = 0; i < freeCounts[previousClass]; i++) {
+                if ((int) (freeList[i] >>> 32) != page) {
+                    freeList[kept++] = freeList[i];
+                }
+            }
+            freeCounts[previousClass] = kept;
+            log.debug("Reclaimed empty page {} from size class {}", page, previousClass);
+            return page;
+        }
+        return -1;
+    }
+
+    private int sizeClassOf(int size) {
+        int low = 0;
+        int high = chunkSizes.length - 1;
+        if (size > chunkSizes[high]) {
+            return -1;
+        }
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (chunkSizes[mid] < size) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int[] buildSizeClasses(int pageSize) {
+        List<Integer> sizes = new ArrayList<>();
+        int size = MIN_CHUNK_SIZE;
+        while (size < pageSize) {
+            sizes.add(size);
+            size = Math.min(pageSize, ((int) (size * GROWTH_FACTOR) + 7) & ~7);
+        }
+        sizes.add(pageSize);
+        return sizes.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
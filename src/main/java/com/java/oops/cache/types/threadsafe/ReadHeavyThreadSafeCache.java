@@ -3,6 +3,8 @@ package com.java.oops.cache.types.threadsafe;
 import com.java.oops.cache.types.AbstractCache;
 import com.java.oops.cache.types.NullSafeCache;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -12,7 +14,10 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * This implementation extends NullSafeCache and adds thread safety for concurrent operations.
  * It is optimized for read-heavy workloads where reads significantly outnumber writes.
  *
- * <p>Multiple threads can read from the cache simultaneously, but writes are exclusive.</p>
+ * <p>Multiple threads can read from the cache simultaneously, but writes are exclusive.
+ * Since a hit records its access under the shared read lock, pair it with an eviction policy whose hits are
+ * thread-safe ({@code ClockEvictionPolicy}, {@code SieveEvictionPolicy}) rather than one reordering a list on
+ * every hit (LRU).</p>
  * <p>This implementation also ensures null values are not stored in the cache.</p>
  *
  * @param <K> The type of keys maintained by this cache
@@ -98,4 +103,67 @@ public class ReadHeavyThreadSafeCache<K, V> extends NullSafeCache<K, V> {
             readWriteLock.writeLock().unlock();
         }
     }
+
+    /**
+     * Retrieves the values associated with the specified keys from the cache.
+     * This operation acquires the read lock once for the whole batch.
+     *
+     * @param keys The keys whose associated values are to be returned
+     * @return A Map of every key to its Optional value
+     * @throws NullPointerException if a key is null
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        requireNonNullKeys(keys);
+        readWriteLock.readLock().lock();
+        try {
+            return super.getAll(keys);
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores every key-value pair whose value is not null.
+     * This operation acquires the write lock once for the whole batch.
+     *
+     * @param entries The key-value pairs to be stored
+     * @throws NullPointerException if a key is null
+     */
+    @Override
+    public void putAll(Map<K, V> entries) {
+        requireNonNullKeys(entries.keySet());
+        readWriteLock.writeLock().lock();
+        try {
+            super.putAll(entries);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the mappings for the specified keys from the cache.
+     * This operation acquires the write lock once for the whole batch.
+     *
+     * @param keys The keys whose mappings are to be removed from the cache
+     * @throws NullPointerException if a key is null
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        requireNonNullKeys(keys);
+        readWriteLock.writeLock().lock();
+        try {
+            super.evictAll(keys);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    private void requireNonNullKeys(Collection<K> keys) {
+        for (K key : keys) {
+            if (key == null) {
+                throw new NullPointerException("Cache key cannot be null");
+            }
+        }
+    }
 }
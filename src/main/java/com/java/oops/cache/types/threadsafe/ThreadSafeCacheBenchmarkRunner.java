@@ -16,6 +16,10 @@ import java.util.concurrent.atomic.AtomicInteger;
 /**
  * Test runner to benchmark performance of different cache implementations
  * with a focus on write-heavy workloads.
+ * <p>
+ * Quick smoke run only: there is no warmup and time is measured with the wall clock.
+ * Use the JMH benchmarks ({@code ./gradlew jmh}) for numbers worth comparing.
+ * </p>
  */
 class ThreadSafeCacheBenchmarkRunner {
 
@@ -1,8 +1,14 @@
 package com.java.oops.cache.types.threadsafe;
 
+import com.java.oops.cache.stats.CacheStats;
 import com.java.oops.cache.types.AbstractCache;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -72,10 +78,38 @@ public class WriteHeavyThreadSafeCache<K, V> implements AbstractCache<K, V> {
      * @return The lock associated with the key's hash segment
      */
     private Lock getLockForKey(K key) {
+        return locks[getStripeForKey(key)];
+    }
+
+    /**
+     * Returns the index of the lock segment of the specified key.
+     *
+     * @param key The key to get the segment for
+     * @return The segment index, between 0 and the concurrency level (excluded)
+     */
+    private int getStripeForKey(K key) {
         int hashCode = key.hashCode();
         // Ensure non-negative hash code
         hashCode = hashCode < 0 ? -hashCode : hashCode;
-        return locks[hashCode % concurrencyLevel];
+        return hashCode % concurrencyLevel;
+    }
+
+    /**
+     * Groups the keys by lock segment.
+     *
+     * @param keys The keys to group
+     * @return The keys of every non-empty segment
+     * @throws NullPointerException if a key is null
+     */
+    private Map<Integer, List<K>> groupByStripe(Collection<K> keys) {
+        Map<Integer, List<K>> keysByStripe = new HashMap<>();
+        for (K key : keys) {
+            if(key == null) {
+                throw new NullPointerException("Key cannot be null");
+            }
+            keysByStripe.computeIfAbsent(getStripeForKey(key), stripe -> new ArrayList<>()).add(key);
+        }
+        return keysByStripe;
     }
 
     /**
@@ -144,4 +178,80 @@ public class WriteHeavyThreadSafeCache<K, V> implements AbstractCache<K, V> {
             lock.unlock();
         }
     }
+
+    /**
+     * Retrieves the values associated with the specified keys from the cache.
+     * The keys are grouped by lock segment and every segment lock is acquired once for all its keys.
+     *
+     * @param keys The keys whose associated values are to be returned
+     * @return A Map of every key to its Optional value
+     * @throws NullPointerException if a key is null
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        Map<K, Optional<V>> result = new HashMap<>();
+        groupByStripe(keys).forEach((stripe, stripeKeys) -> {
+            Lock lock = locks[stripe];
+            lock.lock();
+            try {
+                result.putAll(delegateCache.getAll(stripeKeys));
+            } finally {
+                lock.unlock();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Stores the key-value pairs in the cache.
+     * The entries are grouped by lock segment and every segment lock is acquired once for all its entries.
+     *
+     * @param entries The key-value pairs to be stored
+     * @throws NullPointerException if a key is null
+     */
+    @Override
+    public void putAll(Map<K, V> entries) {
+        groupByStripe(entries.keySet()).forEach((stripe, stripeKeys) -> {
+            Map<K, V> stripeEntries = new HashMap<>();
+            stripeKeys.forEach(key -> stripeEntries.put(key, entries.get(key)));
+            Lock lock = locks[stripe];
+            lock.lock();
+            try {
+                delegateCache.putAll(stripeEntries);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Removes the mappings for the specified keys from the cache.
+     * The keys are grouped by lock segment and every segment lock is acquired once for all its keys.
+     *
+     * @param keys The keys whose mappings are to be removed from the cache
+     * @throws NullPointerException if a key is null
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        groupByStripe(keys).forEach((stripe, stripeKeys) -> {
+            Lock lock = locks[stripe];
+            lock.lock();
+            try {
+                delegateCache.evictAll(stripeKeys);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Returns the statistics of the delegate cache.
+     * No lock is needed: the delegate is expected to record them in thread-safe counters.
+     *
+     * @return CacheStats of the delegate
+     */
+    @Override
+    public CacheStats stats() {
+        return delegateCache.stats();
+    }
 }
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.Optional;
 
 /**
  * TTL Support Cache interface
@@ -23,6 +24,16 @@ public interface AbstractTTLCache<K, V> extends AbstractCache<K, V> {
      */
     void put(K key, V value, Duration ttl);
 
+    /**
+     * Returns how long the entry of the key still lives, without counting as an access
+     *
+     * @param key Of type K
+     * @return remaining time-to-live, empty if the key is absent, expired or never expires
+     */
+    default Optional<Duration> remainingTtl(K key) {
+        return Optional.empty();
+    }
+
     /**
      * Represents a single cache entry, holding the value and its expiry time (if any).
      *
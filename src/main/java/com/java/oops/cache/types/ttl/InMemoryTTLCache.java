@@ -2,13 +2,21 @@ package com.java.oops.cache.types.ttl;
 
 import com.java.oops.cache.eviction.EvictionPolicy;
 import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.stats.CacheStats;
+import com.java.oops.cache.stats.RemovalCause;
+import com.java.oops.cache.stats.StatsCounter;
+import com.java.oops.cache.types.Weigher;
+import com.java.oops.cache.types.WeightedCapacity;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * In-memory cache implementation supporting TTL (Time-To-Live) for entries and pluggable eviction policy.
@@ -17,8 +25,15 @@ import java.util.Optional;
  * - Stores key-value pairs with optional expiry (TTL).
  * - Integrates with a pluggable eviction policy for capacity management.
  * - Provides methods for insertion, retrieval, eviction, and cleanup of expired entries.
+ * - Expiration is driven by a hierarchical {@link TimerWheel}: scheduling is O(1) per put and each
+ *   cleanup tick only touches the buckets that are due instead of scanning the whole map.
+ * - All operations, including the cleaner thread, are guarded by a single lock.
+ * - Hits, misses, evictions and expirations are recorded and exposed through {@link #stats()}.
+ * - Capacity is either an entry count or a maximum total weight computed by a {@link Weigher}; in the
+ *   latter mode a put evicts keys of the eviction policy until the new entry fits, and an entry weighing
+ *   more than a fraction of the maximum weight (10% by default) is rejected.
  *
- * Note: It includes a background thread for periodic cleanup of expired entries (every 2 minutes).
+ * Note: It includes a background thread that advances the timer wheel (every second by default).
  * </pre>
  * @param <K> Key type
  * @param <V> Value type
@@ -31,6 +46,15 @@ public class InMemoryTTLCache<K, V> implements AbstractTTLCache<K, V>, AutoClose
     private final EvictionPolicy<K> evictionPolicy;
     private final int capacity;
     private static final Duration NO_EXPIRY = Duration.ZERO;
+    private static final Duration DEFAULT_CLEANUP_INTERVAL = Duration.ofSeconds(1);
+    @Getter(AccessLevel.NONE)
+    private final WeightedCapacity<K, V> weightedCapacity;
+    @Getter(AccessLevel.NONE)
+    private final TimerWheel<K> timerWheel = new TimerWheel<>(System.currentTimeMillis());
+    @Getter(AccessLevel.NONE)
+    private final ReentrantLock lock = new ReentrantLock();
+    @Getter(AccessLevel.NONE)
+    private final StatsCounter statsCounter = new StatsCounter();
 
     // Cleaner thread fields
     private final Thread cleanerThread;
@@ -43,7 +67,7 @@ public class InMemoryTTLCache<K, V> implements AbstractTTLCache<K, V>, AutoClose
      * @param capacity       the maximum number of entries that can be stored in the cache
      */
     public InMemoryTTLCache(EvictionPolicy<K> evictionPolicy, int capacity) {
-        this(evictionPolicy, capacity, Duration.ofSeconds(120));
+        this(evictionPolicy, capacity, DEFAULT_CLEANUP_INTERVAL);
     }
 
     /**
@@ -60,16 +84,50 @@ public class InMemoryTTLCache<K, V> implements AbstractTTLCache<K, V>, AutoClose
      *
      * @param evictionPolicy   the eviction policy to use for capacity management
      * @param capacity         the maximum number of entries that can be stored in the cache
-     * @param cleanupInterval  the interval at which expired entries should be cleaned up
+     * @param cleanupInterval  the interval at which the timer wheel is advanced to clean up expired entries
      */
     public InMemoryTTLCache(EvictionPolicy<K> evictionPolicy, int capacity, Duration cleanupInterval) {
+        this(evictionPolicy, capacity, null, cleanupInterval);
+    }
+
+    /**
+     * Creates an InMemoryTTLCache bounded by the total weight of its entries rather than their count.
+     *
+     * @param evictionPolicy         the eviction policy asked for victims until a new entry fits
+     * @param maximumWeight          the maximum total weight of the entries
+     * @param weigher                computes the weight of an entry
+     * @param maxEntryWeightFraction fraction of the maximum weight above which an entry is rejected, in (0, 1]
+     * @param cleanupInterval        the interval at which the timer wheel is advanced to clean up expired entries
+     */
+    public InMemoryTTLCache(EvictionPolicy<K> evictionPolicy, long maximumWeight, Weigher<? super K, ? super V> weigher,
+                            double maxEntryWeightFraction, Duration cleanupInterval) {
+        this(evictionPolicy, Integer.MAX_VALUE, new WeightedCapacity<>(weigher, maximumWeight, maxEntryWeightFraction),
+                cleanupInterval);
+    }
+
+    /**
+     * Creates an InMemoryTTLCache bounded by the total weight of its entries, rejecting entries heavier than
+     * 10% of the maximum weight.
+     *
+     * @param evictionPolicy the eviction policy asked for victims until a new entry fits
+     * @param maximumWeight  the maximum total weight of the entries
+     * @param weigher        computes the weight of an entry
+     */
+    public InMemoryTTLCache(EvictionPolicy<K> evictionPolicy, long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        this(evictionPolicy, maximumWeight, weigher, WeightedCapacity.DEFAULT_MAX_ENTRY_WEIGHT_FRACTION,
+                DEFAULT_CLEANUP_INTERVAL);
+    }
+
+    private InMemoryTTLCache(EvictionPolicy<K> evictionPolicy, int capacity, WeightedCapacity<K, V> weightedCapacity,
+                             Duration cleanupInterval) {
         this.evictionPolicy = evictionPolicy;
         this.capacity = capacity;
+        this.weightedCapacity = weightedCapacity;
         // Start the cleaner thread
         this.cleanerThread = new Thread(() -> cleanerLoop(cleanupInterval.toMillis()), "InMemoryTTLCache-Cleaner");
         this.cleanerThread.setDaemon(true);
         this.cleanerThread.start();
-        log.info("Started cache cleaner thread with interval {} seconds", cleanupInterval.toSeconds());
+        log.info("Started cache cleaner thread with interval {} ms", cleanupInterval.toMillis());
     }
 
     /**
@@ -82,20 +140,40 @@ public class InMemoryTTLCache<K, V> implements AbstractTTLCache<K, V>, AutoClose
      */
     @Override
     public void put(K key, V value, Duration ttl) {
-        boolean isNewKey = !cache.containsKey(key);
-        if (isNewKey && cache.size() == capacity) {
-            K toBeEvicted = evictionPolicy.evict();
-            cache.remove(toBeEvicted);
-            log.debug("Evicted key '{}' due to capacity limit", toBeEvicted);
+        lock.lock();
+        try {
+            if (weightedCapacity != null && !weightedCapacity.reserve(key, value, evictionPolicy, statsCounter,
+                    this::removeEntry)) {
+                return;
+            }
+            boolean isNewKey = !cache.containsKey(key);
+            if (isNewKey && cache.size() == capacity) {
+                statsCounter.recordEviction(RemovalCause.SIZE);
+                if (!evictionPolicy.admit(key)) {
+                    log.debug("Eviction policy rejected admission of key '{}'", key);
+                    return;
+                }
+                K toBeEvicted = evictionPolicy.evict();
+                cache.remove(toBeEvicted);
+                timerWheel.deschedule(toBeEvicted);
+                log.debug("Evicted key '{}' due to capacity limit", toBeEvicted);
+            }
+            long expiryTime = ttl.isZero() ? -1L : System.currentTimeMillis() + ttl.toMillis();
+            CacheEntry<V> cacheEntry = ttl.isZero()
+                    ? new CacheEntry<>(value)
+                    : new CacheEntry<>(value, expiryTime);
+            cache.put(key, cacheEntry);
+            if (ttl.isZero()) {
+                timerWheel.deschedule(key);
+            } else {
+                timerWheel.schedule(key, expiryTime);
+            }
+            evictionPolicy.recordAccess(key);
+            log.debug("Put key '{}' with TTL {} ms (expiry at {})", key, ttl.toMillis(),
+                    ttl.isZero() ? "NO_EXPIRY" : expiryTime);
+        } finally {
+            lock.unlock();
         }
-        long expiryTime = ttl.isZero() ? -1L : System.currentTimeMillis() + ttl.toMillis();
-        CacheEntry<V> cacheEntry = ttl.isZero()
-                ? new CacheEntry<>(value)
-                : new CacheEntry<>(value, expiryTime);
-        cache.put(key, cacheEntry);
-        evictionPolicy.recordAccess(key);
-        log.info("Put key '{}' with TTL {} ms (expiry at {})", key, ttl.toMillis(),
-                ttl.isZero() ? "NO_EXPIRY" : expiryTime);
     }
 
     /**
@@ -118,19 +196,52 @@ public class InMemoryTTLCache<K, V> implements AbstractTTLCache<K, V>, AutoClose
      */
     @Override
     public Optional<V> get(K key) {
-        CacheEntry<V> cacheEntry = cache.get(key);
-        if (cacheEntry == null) {
-            log.debug("Cache miss for key '{}'", key);
-            return Optional.empty();
+        lock.lock();
+        try {
+            CacheEntry<V> cacheEntry = cache.get(key);
+            if (cacheEntry == null) {
+                log.debug("Cache miss for key '{}'", key);
+                statsCounter.recordMiss();
+                return Optional.empty();
+            }
+            if (cacheEntry.isExpired()) {
+                log.info("Cache entry for key '{}' expired, evicting", key);
+                cache.remove(key);
+                removeWeight(key);
+                timerWheel.deschedule(key);
+                evictionPolicy.evict(key);
+                statsCounter.recordEviction(RemovalCause.EXPIRED);
+                statsCounter.recordMiss();
+                return Optional.empty();
+            }
+            statsCounter.recordHit();
+            evictionPolicy.recordAccess(key);
+            log.debug("Cache hit for key '{}'", key);
+            return Optional.of(cacheEntry.getValue());
+        } finally {
+            lock.unlock();
         }
-        if (cacheEntry.isExpired()) {
-            log.info("Cache entry for key '{}' expired, evicting", key);
-            evict(key);
-            return Optional.empty();
+    }
+
+    /**
+     * Returns the remaining time-to-live of the key without touching the eviction policy or the statistics.
+     *
+     * @param key the cache key
+     * @return remaining TTL, empty if absent, expired or without expiry
+     */
+    @Override
+    public Optional<Duration> remainingTtl(K key) {
+        lock.lock();
+        try {
+            CacheEntry<V> cacheEntry = cache.get(key);
+            if (cacheEntry == null || cacheEntry.getExpiryInMillis() == CacheEntry.NO_EXPIRY) {
+                return Optional.empty();
+            }
+            long remainingMillis = cacheEntry.getExpiryInMillis() - System.currentTimeMillis();
+            return remainingMillis < 0 ? Optional.empty() : Optional.of(Duration.ofMillis(remainingMillis));
+        } finally {
+            lock.unlock();
         }
-        evictionPolicy.recordAccess(key);
-        log.debug("Cache hit for key '{}'", key);
-        return Optional.of(cacheEntry.getValue());
     }
 
     /**
@@ -140,27 +251,173 @@ public class InMemoryTTLCache<K, V> implements AbstractTTLCache<K, V>, AutoClose
      */
     @Override
     public void evict(K key) {
-        cache.remove(key);
-        evictionPolicy.evict(key);
-        log.info("Manually evicted key '{}'", key);
+        lock.lock();
+        try {
+            if (cache.remove(key) != null) {
+                statsCounter.recordEviction(RemovalCause.EXPLICIT);
+            }
+            removeWeight(key);
+            timerWheel.deschedule(key);
+            evictionPolicy.evict(key);
+            log.info("Manually evicted key '{}'", key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the values of the given keys, acquiring the lock once for the whole batch.
+     *
+     * @param keys the cache keys
+     * @return Map of every key to its Optional value, empty if absent or expired
+     */
+    @Override
+    public Map<K, Optional<V>> getAll(Collection<K> keys) {
+        lock.lock();
+        try {
+            return AbstractTTLCache.super.getAll(keys);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts the key-value pairs with no expiry, acquiring the lock once for the whole batch.
+     *
+     * @param entries the key-value pairs
+     */
+    @Override
+    public void putAll(Map<K, V> entries) {
+        lock.lock();
+        try {
+            AbstractTTLCache.super.putAll(entries);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Evicts the given keys, acquiring the lock once for the whole batch.
+     *
+     * @param keys the cache keys to evict
+     */
+    @Override
+    public void evictAll(Collection<K> keys) {
+        lock.lock();
+        try {
+            AbstractTTLCache.super.evictAll(keys);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every entry from the cache and notifies the eviction policy.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            for (K key : cache.keySet()) {
+                timerWheel.deschedule(key);
+                evictionPolicy.evict(key);
+                statsCounter.recordEviction(RemovalCause.EXPLICIT);
+            }
+            log.info("Cleared {} entries", cache.size());
+            cache.clear();
+            if (weightedCapacity != null) {
+                weightedCapacity.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss, eviction and expiration counts.
+     *
+     * @return current statistics
+     */
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot();
     }
 
     /**
-     * Removes all expired entries from the cache.
+     * Removes the expired entries by advancing the timer wheel to the current time.
+     * Only the wheel buckets that became due since the previous run are visited.
      * For each expired entry, logs the removal and notifies the eviction policy.
      */
     private void cleanUpExpiredEntries() {
-        log.debug("Starting cleanup of expired entries");
-        cache.entrySet().removeIf(entry -> {
-            if (entry.getValue().isExpired()) {
-                K key = entry.getKey();
-                log.info("Cleaner thread: Removing expired key '{}'", key);
+        lock.lock();
+        try {
+            int expired = timerWheel.advance(System.currentTimeMillis(), key -> {
+                log.debug("Cleaner thread: Removing expired key '{}'", key);
+                cache.remove(key);
+                removeWeight(key);
                 evictionPolicy.evict(key);
-                return true;
+                statsCounter.recordEviction(RemovalCause.EXPIRED);
+            });
+            if (expired > 0) {
+                log.info("Cleaner thread: Removed {} expired entries", expired);
             }
-            return false;
-        });
-        log.debug("Completed cleanup of expired entries");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the weigher of a weight-bounded cache.
+     *
+     * @return the weigher, null if the cache is bounded by an entry count
+     */
+    public Weigher<? super K, ? super V> getWeigher() {
+        return weightedCapacity == null ? null : weightedCapacity.getWeigher();
+    }
+
+    /**
+     * Returns the maximum total weight of the entries.
+     *
+     * @return the maximum weight, 0 if the cache is bounded by an entry count
+     */
+    public long getMaximumWeight() {
+        return weightedCapacity == null ? 0 : weightedCapacity.getMaximumWeight();
+    }
+
+    /**
+     * Returns the weight above which an entry is rejected.
+     *
+     * @return the max entry weight, 0 if the cache is bounded by an entry count
+     */
+    public long getMaxEntryWeight() {
+        return weightedCapacity == null ? 0 : weightedCapacity.getMaxEntryWeight();
+    }
+
+    /**
+     * Returns the total weight of the entries.
+     *
+     * @return the total weight, 0 if the cache is bounded by an entry count
+     */
+    public long getTotalWeight() {
+        lock.lock();
+        try {
+            return weightedCapacity == null ? 0 : weightedCapacity.getTotalWeight();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes an entry evicted or rejected by the weight bookkeeping. Called with the lock held.
+     */
+    private void removeEntry(K key) {
+        cache.remove(key);
+        timerWheel.deschedule(key);
+    }
+
+    private void removeWeight(K key) {
+        if (weightedCapacity != null) {
+            weightedCapacity.release(key);
+        }
     }
 
     /**
@@ -0,0 +1,217 @@
+package com.java.oops.cache.types.ttl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel used to expire cache entries without scanning the whole cache.
+ *
+ * <pre>
+ * The wheel is made of levels of buckets with power-of-two spans:
+ *
+ *  level | bucket span     | buckets | covers
+ *  ------+-----------------+---------+-----------
+ *    0   | 2^10 ms (~1s)   |   64    | ~65 seconds
+ *    1   | 2^16 ms (~65s)  |   64    | ~70 minutes
+ *    2   | 2^22 ms (~70m)  |   32    | ~37 hours
+ *    3   | 2^27 ms (~37h)  |    4    | ~6 days
+ *    4   | overflow        |    1    | everything beyond
+ *
+ * - schedule / deschedule link or unlink a node in its bucket in O(1).
+ * - advance only visits the buckets whose ticks elapsed since the previous advance. Entries of a
+ *   higher level bucket that are not due yet cascade down into a finer level, so each entry is
+ *   touched a handful of times over its lifetime: O(expired) amortized cleanup.
+ * </pre>
+ *
+ * <p>Not thread-safe; the owning cache guards it with its own lock.</p>
+ *
+ * @param <K> the type of keys being scheduled
+ * @author sathwick
+ */
+@Slf4j
+public class TimerWheel<K> {
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final int[] SHIFT = {10, 16, 22, 27, 29};
+    private static final long[] SPANS = {1L << 10, 1L << 16, 1L << 22, 1L << 27, 1L << 29};
+
+    private final Node<K>[][] wheel;
+    private final Map<K, Node<K>> nodes;
+    private long currentTimeMillis;
+
+    /**
+     * Creates an empty wheel positioned at the given time.
+     *
+     * @param nowMillis the current time in milliseconds since epoch
+     */
+    @SuppressWarnings("unchecked")
+    public TimerWheel(long nowMillis) {
+        this.wheel = (Node<K>[][]) new Node<?>[BUCKETS.length][];
+        for (int level = 0; level < BUCKETS.length; level++) {
+            wheel[level] = (Node<K>[]) new Node<?>[BUCKETS[level]];
+            for (int bucket = 0; bucket < BUCKETS[level]; bucket++) {
+                wheel[level][bucket] = Node.sentinel();
+            }
+        }
+        this.nodes = new HashMap<>();
+        this.currentTimeMillis = nowMillis;
+    }
+
+    /**
+     * Schedules (or re-schedules) the key to expire at the given time.
+     *
+     * @param key          the key to expire
+     * @param expiryMillis the absolute expiry time in milliseconds since epoch
+     */
+    public void schedule(K key, long expiryMillis) {
+        Node<K> node = nodes.get(key);
+        if (node == null) {
+            node = new Node<>(key);
+            nodes.put(key, node);
+        } else {
+            node.unlink();
+        }
+        node.expiryMillis = expiryMillis;
+        findBucket(expiryMillis).link(node);
+    }
+
+    /**
+     * Removes the key from the wheel, if scheduled.
+     *
+     * @param key the key to forget
+     */
+    public void deschedule(K key) {
+        Node<K> node = nodes.remove(key);
+        if (node != null) {
+            node.unlink();
+        }
+    }
+
+    /**
+     * Returns the number of scheduled keys.
+     *
+     * @return number of scheduled keys
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Moves the wheel forward to the given time, handing every key that expired to the consumer.
+     *
+     * @param nowMillis the current time in milliseconds since epoch
+     * @param onExpired receives each expired key; the key is no longer scheduled when called
+     * @return the number of expired keys
+     */
+    public int advance(long nowMillis, Consumer<K> onExpired) {
+        long previousTimeMillis = currentTimeMillis;
+        if (nowMillis <= previousTimeMillis) {
+            return 0;
+        }
+        currentTimeMillis = nowMillis;
+        int expired = 0;
+        for (int level = 0; level < SHIFT.length; level++) {
+            long previousTicks = previousTimeMillis >>> SHIFT[level];
+            long currentTicks = nowMillis >>> SHIFT[level];
+            if (currentTicks - previousTicks <= 0) {
+                break;
+            }
+            expired += expire(level, previousTicks, currentTicks - previousTicks, onExpired);
+        }
+        if (expired > 0) {
+            log.debug("Timer wheel advanced to {} and expired {} keys", nowMillis, expired);
+        }
+        return expired;
+    }
+
+    /**
+     * Expires or cascades the entries of every bucket whose tick elapsed at the given level.
+     */
+    private int expire(int level, long previousTicks, long delta, Consumer<K> onExpired) {
+        Node<K>[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        int start = (int) (previousTicks & mask);
+        int end = start + (int) Math.min(delta, buckets.length);
+        int expired = 0;
+        for (int i = start; i < end; i++) {
+            Node<K> sentinel = buckets[i & mask];
+            Node<K> node = sentinel.next;
+            sentinel.next = sentinel;
+            sentinel.prev = sentinel;
+            while (node != sentinel) {
+                Node<K> next = node.next;
+                node.next = null;
+                node.prev = null;
+                if (node.expiryMillis <= currentTimeMillis) {
+                    nodes.remove(node.key);
+                    onExpired.accept(node.key);
+                    expired++;
+                } else {
+                    findBucket(node.expiryMillis).link(node);
+                }
+                node = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the bucket the given expiry time belongs to, relative to the current wheel time.
+     * Buckets above level 0 are keyed one tick early so their entries cascade down before they are due.
+     */
+    private Node<K> findBucket(long expiryMillis) {
+        long time = Math.max(expiryMillis, currentTimeMillis);
+        long duration = time - currentTimeMillis;
+        for (int level = 0; level < BUCKETS.length - 1; level++) {
+            if (duration < SPANS[level + 1]) {
+                long ticks = time >>> SHIFT[level];
+                if (level > 0) {
+                    ticks--;
+                }
+                return wheel[level][(int) (ticks & (BUCKETS[level] - 1))];
+            }
+        }
+        return wheel[BUCKETS.length - 1][0];
+    }
+
+    /**
+     * Doubly linked bucket node; every bucket starts with a sentinel node pointing to itself.
+     *
+     * @param <K> the type of keys being scheduled
+     */
+    private static final class Node<K> {
+        private final K key;
+        private long expiryMillis;
+        private Node<K> prev;
+        private Node<K> next;
+
+        private Node(K key) {
+            this.key = key;
+        }
+
+        private static <K> Node<K> sentinel() {
+            Node<K> sentinel = new Node<>(null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        private void link(Node<K> node) {
+            node.prev = prev;
+            node.next = this;
+            prev.next = node;
+            prev = node;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.java.oops.cache.codec;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+public class CacheCodecTest {
+
+    @Test
+    public void testStringCodecWritesRawUtf8() {
+        byte[] bytes = StringCodec.INSTANCE.encode("user:42:\u00e9");
+        assertArrayEquals("user:42:\u00e9".getBytes(StandardCharsets.UTF_8), bytes);
+        assertEquals("user:42:\u00e9", StringCodec.INSTANCE.decode(bytes));
+        assertEquals("user:42:\u00e9", StringCodec.INSTANCE.decode(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    public void testPrimitiveCodecsRoundTrip() {
+        assertEquals(4, PrimitiveCodecs.INTEGER.encode(-7).length);
+        assertEquals(-7, PrimitiveCodecs.INTEGER.decode(PrimitiveCodecs.INTEGER.encode(-7)));
+        assertEquals(Long.MIN_VALUE, PrimitiveCodecs.LONG.decode(PrimitiveCodecs.LONG.encode(Long.MIN_VALUE)));
+        assertEquals(Math.PI, PrimitiveCodecs.DOUBLE.decode(PrimitiveCodecs.DOUBLE.encode(Math.PI)));
+        assertTrue(PrimitiveCodecs.BOOLEAN.decode(PrimitiveCodecs.BOOLEAN.encode(true)));
+    }
+
+    @Test
+    public void testCompactBinaryCodecIsSmallerThanJavaSerialization() {
+        CacheCodec<List<Object>> compact = new CompactBinaryCodec<>(
+                (user, out) -> {
+                    out.writeVarLong((Long) user.get(0));
+                    out.writeString((String) user.get(1));
+                    out.writeLengthPrefixed((byte[]) user.get(2));
+                },
+                in -> List.of(in.readVarLong(), in.readString(), in.readLengthPrefixed()));
+        List<Object> user = List.of(-3L, "sathwick", new byte[]{1, 2, 3});
+
+        byte[] bytes = compact.encode(user);
+        assertEquals(1 + 9 + 4, bytes.length);
+        List<Object> decoded = compact.decode(bytes);
+        assertEquals(-3L, decoded.get(0));
+        assertEquals("sathwick", decoded.get(1));
+        assertArrayEquals(new byte[]{1, 2, 3}, (byte[]) decoded.get(2));
+        assertTrue(bytes.length < new JavaSerializationCodec<List<Object>>().encode(user).length);
+        assertThrows(CodecException.class, () -> compact.decode(new byte[]{0, 20}));
+    }
+
+    @Test
+    public void testPooledOutputIsReusedAndNestingIsSafe() {
+        BinaryOutput outer = BinaryOutput.pooled();
+        try {
+            outer.writeUnsignedVarInt(300);
+            try (BinaryOutput nested = BinaryOutput.pooled()) {
+                assertNotSame(outer, nested);
+                nested.writeInt(1);
+            }
+            assertEquals(2, outer.size());
+            assertEquals(300, new BinaryInput(outer.asByteBuffer()).readUnsignedVarInt());
+        } finally {
+            outer.close();
+        }
+        try (BinaryOutput again = BinaryOutput.pooled()) {
+            assertSame(outer, again);
+            assertEquals(0, again.size());
+        }
+    }
+
+    @Test
+    public void testJavaSerializationCodecRoundTrip() {
+        JavaSerializationCodec<String> codec = new JavaSerializationCodec<>();
+        assertEquals("value", codec.decode(codec.encode("value")));
+    }
+
+    @Test
+    public void testJavaSerializationCodecConsumesHeapAndDirectBuffers() {
+        JavaSerializationCodec<String> codec = new JavaSerializationCodec<>();
+        byte[] bytes = codec.encode("value");
+        ByteBuffer heap = ByteBuffer.wrap(bytes);
+        assertEquals("value", codec.decode(heap));
+        assertFalse(heap.hasRemaining());
+        ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        assertEquals("value", codec.decode(direct));
+        assertFalse(direct.hasRemaining());
+    }
+}
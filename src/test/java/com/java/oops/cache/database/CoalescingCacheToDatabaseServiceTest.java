@@ -0,0 +1,101 @@
+package com.java.oops.cache.database;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CoalescingCacheToDatabaseServiceTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ExecutorService executor;
+
+    private final CacheToDatabaseService<String, String> slowDatabase = new CacheToDatabaseService<>() {
+        @Override
+        public String load(String key) {
+            loads.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value-" + key;
+        }
+
+        @Override
+        public void save(String key, String val) {
+        }
+    };
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(16);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        CoalescingCacheToDatabaseService<String, String> service = new CoalescingCacheToDatabaseService<>(slowDatabase);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            results.add(executor.submit(() -> service.load("hot")));
+        }
+        while (loads.get() == 0) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(50);
+        release.countDown();
+        for (Future<String> result : results) {
+            assertEquals("value-hot", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        assertEquals(0, service.inFlightLoadCount());
+    }
+
+    @Test
+    public void testWaiterTimesOut() throws Exception {
+        CoalescingCacheToDatabaseService<String, String> service =
+                new CoalescingCacheToDatabaseService<>(slowDatabase, Duration.ofMillis(50));
+        Future<String> leader = executor.submit(() -> service.load("hot"));
+        while (loads.get() == 0) {
+            Thread.sleep(1);
+        }
+        assertThrows(CompletionException.class, () -> service.load("hot"));
+        release.countDown();
+        assertEquals("value-hot", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testLoadAllJoinsInFlightLoadsAndLoadsTheRest() throws Exception {
+        CoalescingCacheToDatabaseService<String, String> service = new CoalescingCacheToDatabaseService<>(slowDatabase);
+        Future<String> leader = executor.submit(() -> service.load("hot"));
+        while (loads.get() == 0) {
+            Thread.sleep(1);
+        }
+        Future<Map<String, String>> batch = executor.submit(() -> service.loadAll(List.of("hot", "a", "b")));
+        Thread.sleep(50);
+        release.countDown();
+
+        assertEquals(Map.of("hot", "value-hot", "a", "value-a", "b", "value-b"), batch.get(5, TimeUnit.SECONDS));
+        assertEquals("value-hot", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(3, loads.get());
+        assertEquals(0, service.inFlightLoadCount());
+    }
+}
@@ -0,0 +1,93 @@
+package com.java.oops.cache.database;
+
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyLimitedCacheToDatabaseServiceTest {
+
+    private final AtomicInteger concurrentLoads = new AtomicInteger();
+    private final AtomicInteger maxConcurrentLoads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final CacheToDatabaseService<String, String> slowDatabase = new CacheToDatabaseService<>() {
+        @Override
+        public String load(String key) {
+            maxConcurrentLoads.accumulateAndGet(concurrentLoads.incrementAndGet(), Math::max);
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrentLoads.decrementAndGet();
+            }
+            return "value-" + key;
+        }
+
+        @Override
+        public void save(String key, String val) {
+        }
+    };
+
+    @Test
+    public void testConcurrencyIsBoundedAndReported() throws Exception {
+        ConcurrencyLimitedCacheToDatabaseService<String, String> service =
+                new ConcurrencyLimitedCacheToDatabaseService<>(slowDatabase, 3);
+        ExecutorService callers = Executors.newFixedThreadPool(10);
+        List<Future<String>> loads = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            String key = "key-" + i;
+            loads.add(callers.submit(() -> service.load(key)));
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((service.metrics().getWaitingCallers() < 7 || concurrentLoads.get() < 3)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        ConcurrencyLimitedCacheToDatabaseService.Metrics busy = service.metrics();
+        assertEquals(3, busy.getInFlightCalls());
+        assertEquals(7, busy.getWaitingCallers());
+        assertEquals(1.0, busy.utilization());
+
+        release.countDown();
+        for (int i = 0; i < 10; i++) {
+            assertEquals("value-key-" + i, loads.get(i).get(5, TimeUnit.SECONDS));
+        }
+        callers.shutdown();
+
+        assertEquals(3, maxConcurrentLoads.get());
+        assertEquals(10, service.metrics().getCompletedCalls());
+        assertEquals(0, service.metrics().getInFlightCalls());
+        assertTrue(service.metrics().getMaxPermitWaitNanos() > 0);
+    }
+
+    @Test
+    public void testCallerIsRejectedAfterMaxPermitWait() throws Exception {
+        ConcurrencyLimitedCacheToDatabaseService<String, String> service =
+                new ConcurrencyLimitedCacheToDatabaseService<>(slowDatabase, 1, Duration.ofMillis(50));
+        ExecutorService holder = Executors.newSingleThreadExecutor();
+        Future<String> blocking = holder.submit(() -> service.load("held"));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (service.metrics().getInFlightCalls() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        assertThrows(RejectedExecutionException.class, () -> service.load("rejected"));
+        assertEquals(1, service.metrics().getRejectedCalls());
+
+        release.countDown();
+        assertEquals("value-held", blocking.get(5, TimeUnit.SECONDS));
+        holder.shutdown();
+    }
+}
@@ -0,0 +1,170 @@
+package com.java.oops.cache.database;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class NegativeCachingCacheToDatabaseServiceTest {
+
+    private final Map<String, String> database = new HashMap<>();
+    private final List<String> loadedKeys = new ArrayList<>();
+
+    private final CacheToDatabaseService<String, String> databaseService = new CacheToDatabaseService<>() {
+        @Override
+        public String load(String key) {
+            loadedKeys.add(key);
+            return database.get(key);
+        }
+
+        @Override
+        public Map<String, String> loadAll(Collection<String> keys) {
+            loadedKeys.addAll(keys);
+            Map<String, String> loaded = new HashMap<>();
+            keys.stream().filter(database::containsKey).forEach(key -> loaded.put(key, database.get(key)));
+            return loaded;
+        }
+
+        @Override
+        public void save(String key, String val) {
+            database.put(key, val);
+        }
+    };
+
+    private NegativeCachingCacheToDatabaseService<String, String> service;
+
+    @BeforeEach
+    public void setUp() {
+        service = new NegativeCachingCacheToDatabaseService<>(databaseService, Duration.ofMillis(200), 100);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        service.close();
+    }
+
+    @Test
+    public void testAbsentKeyQueriedOnceUntilMarkExpires() throws InterruptedException {
+        assertNull(service.load("missing"));
+        assertNull(service.load("missing"));
+        assertNull(service.load("missing"));
+
+        assertEquals(List.of("missing"), loadedKeys);
+        assertEquals(2, service.negativeHitCount());
+
+        Thread.sleep(300);
+        assertNull(service.load("missing"));
+        assertEquals(2, loadedKeys.size(), "expired mark queries the database again");
+    }
+
+    @Test
+    public void testSaveClearsAbsentMark() {
+        assertNull(service.load("key"));
+        service.save("key", "value");
+
+        assertEquals("value", service.load("key"));
+        assertEquals(2, loadedKeys.size());
+    }
+
+    @Test
+    public void testLoadAllSkipsMarkedKeys() {
+        database.put("present", "value");
+        assertEquals(Map.of("present", "value"), service.loadAll(List.of("present", "missing-1", "missing-2")));
+        loadedKeys.clear();
+
+        assertEquals(Map.of("present", "value"), service.loadAll(List.of("present", "missing-1", "missing-2")));
+        assertEquals(List.of("present"), loadedKeys);
+        assertNull(service.load("missing-2"));
+        assertEquals(List.of("present"), loadedKeys);
+        assertEquals(3, service.negativeHitCount());
+    }
+
+    @Test
+    public void testLoadRacingWithASaveDoesNotMarkTheSavedKey() throws InterruptedException {
+        GatedDatabase gated = new GatedDatabase();
+        try (NegativeCachingCacheToDatabaseService<String, String> racing =
+                     new NegativeCachingCacheToDatabaseService<>(gated, Duration.ofMinutes(1), 100)) {
+            // the save is in flight but not committed yet
+            Thread saver = new Thread(() -> racing.save("key", "value"));
+            saver.start();
+            assertTrue(gated.saveEntered.await(5, TimeUnit.SECONDS));
+
+            // the load reads the row before the commit and is held before marking it
+            Thread loader = new Thread(() -> racing.load("key"));
+            loader.start();
+            assertTrue(gated.loadEntered.await(5, TimeUnit.SECONDS));
+
+            gated.saveGate.countDown();
+            saver.join(5_000);
+            gated.loadGate.countDown();
+            loader.join(5_000);
+
+            assertEquals("value", racing.load("key"));
+            assertEquals(0, racing.negativeHitCount());
+        }
+    }
+
+    @Test
+    public void testSaveOfAnotherKeyDoesNotPreventMarking() throws InterruptedException {
+        GatedDatabase gated = new GatedDatabase();
+        gated.saveGate.countDown();
+        try (NegativeCachingCacheToDatabaseService<String, String> racing =
+                     new NegativeCachingCacheToDatabaseService<>(gated, Duration.ofMinutes(1), 100)) {
+            Thread loader = new Thread(() -> racing.load("a"));
+            loader.start();
+            assertTrue(gated.loadEntered.await(5, TimeUnit.SECONDS));
+
+            // "b" hashes to another generation stripe than "a"
+            racing.save("b", "value");
+            gated.loadGate.countDown();
+            loader.join(5_000);
+
+            assertNull(racing.load("a"));
+            assertEquals(1, racing.negativeHitCount());
+        }
+    }
+
+    /**
+     * Database whose first load and every save wait for the test to release them.
+     */
+    private static class GatedDatabase implements CacheToDatabaseService<String, String> {
+        private final Map<String, String> rows = new ConcurrentHashMap<>();
+        private final CountDownLatch saveEntered = new CountDownLatch(1);
+        private final CountDownLatch saveGate = new CountDownLatch(1);
+        private final CountDownLatch loadEntered = new CountDownLatch(1);
+        private final CountDownLatch loadGate = new CountDownLatch(1);
+
+        @Override
+        public String load(String key) {
+            String value = rows.get(key);
+            if (loadEntered.getCount() > 0) {
+                loadEntered.countDown();
+                await(loadGate);
+            }
+            return value;
+        }
+
+        @Override
+        public void save(String key, String val) {
+            saveEntered.countDown();
+            await(saveGate);
+            rows.put(key, val);
+        }
+
+        private static void await(CountDownLatch latch) {
+            try {
+                latch.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
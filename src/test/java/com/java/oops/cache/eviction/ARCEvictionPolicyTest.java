@@ -0,0 +1,62 @@
+package com.java.oops.cache.eviction;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ARCEvictionPolicyTest {
+
+    private ARCEvictionPolicy<String> policy;
+
+    @BeforeEach
+    public void setUp() {
+        policy = new ARCEvictionPolicy<>(3);
+    }
+
+    @Test
+    public void testKeysSeenOnceAreEvictedBeforeKeysSeenTwice() {
+        policy.recordAccess("a");
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("c");
+        // target T1 size starts at 0, so the recency list goes first
+        assertEquals("b", policy.evict());
+        assertEquals("c", policy.evict());
+        assertEquals("a", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testGhostHitsAdaptTarget() {
+        policy.recordAccess("a");
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("c");
+
+        assertEquals("b", policy.evict());
+        policy.recordAccess("d");
+        assertEquals("c", policy.evict());
+        // "b" was evicted too early from T1: recency deserves more room
+        policy.recordAccess("b");
+        assertEquals(1, policy.getTargetT1Size());
+
+        // T1 = {d} is at its target, so the LRU key of T2 goes and is ghosted in B2
+        assertEquals("a", policy.evict());
+        policy.recordAccess("e");
+        assertEquals("d", policy.evict());
+        // "a" was evicted too early from T2: frequency deserves more room
+        policy.recordAccess("a");
+        assertEquals(0, policy.getTargetT1Size());
+        assertEquals("e", policy.evict());
+    }
+
+    @Test
+    public void testEvictSpecificKeyLeavesNoGhost() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.evict("a");
+        policy.recordAccess("a");
+        assertEquals(0, policy.getTargetT1Size());
+        assertEquals("b", policy.evict());
+        assertEquals("a", policy.evict());
+    }
+}
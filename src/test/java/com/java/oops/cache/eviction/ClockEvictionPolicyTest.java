@@ -0,0 +1,53 @@
+package com.java.oops.cache.eviction;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClockEvictionPolicyTest {
+
+    private ClockEvictionPolicy<String> policy;
+
+    @BeforeEach
+    public void setUp() {
+        policy = new ClockEvictionPolicy<>(3);
+    }
+
+    @Test
+    public void testVisitedKeysGetASecondChance() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("c");
+        policy.recordAccess("a");
+
+        assertEquals("b", policy.evict());
+        policy.recordAccess("d");
+        // the hand cleared a's bit on the previous sweep
+        assertEquals("c", policy.evict());
+        assertEquals("a", policy.evict());
+        assertEquals("d", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testLockFreeHitOnlyMarksTrackedKeys() {
+        assertFalse(policy.tryRecordAccessLockFree("a"));
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        assertTrue(policy.tryRecordAccessLockFree("a"));
+        assertEquals("b", policy.evict());
+    }
+
+    @Test
+    public void testGrowsBeyondCapacity() {
+        for (int i = 0; i < 5; i++) {
+            policy.recordAccess("key-" + i);
+        }
+        policy.evict("key-2");
+        for (int i = 0; i < 5; i++) {
+            if (i != 2) {
+                assertEquals("key-" + i, policy.evict());
+            }
+        }
+        assertNull(policy.evict());
+    }
+}
@@ -0,0 +1,69 @@
+package com.java.oops.cache.eviction;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LFUEvictionPolicyTest {
+
+    private LFUEvictionPolicy<String> policy;
+
+    @BeforeEach
+    public void setUp() {
+        policy = new LFUEvictionPolicy<>();
+    }
+
+    @Test
+    public void testEvictLeastFrequentlyUsed() {
+        policy.recordAccess("a");
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("c");
+        policy.recordAccess("c");
+        policy.recordAccess("c");
+        assertEquals("b", policy.evict());
+        assertEquals("a", policy.evict());
+        assertEquals("c", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testTiesAreEvictedOldestFirst() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("c");
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        // a and b share frequency 2, a reached it first
+        assertEquals("c", policy.evict());
+        assertEquals("a", policy.evict());
+        assertEquals("b", policy.evict());
+    }
+
+    @Test
+    public void testEvictSpecificKeyUpdatesMinimumFrequency() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("b");
+        policy.evict("a");
+        policy.evict("missing");
+        policy.recordAccess("c");
+        policy.recordAccess("c");
+        policy.recordAccess("c");
+        assertEquals("b", policy.evict());
+        assertEquals("c", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testReinsertedKeyStartsFromFrequencyOne() {
+        for (int i = 0; i < 5; i++) {
+            policy.recordAccess("hot");
+        }
+        policy.recordAccess("cold");
+        policy.evict("hot");
+        policy.recordAccess("hot");
+        policy.recordAccess("cold");
+        assertEquals("hot", policy.evict());
+        assertEquals("cold", policy.evict());
+    }
+}
@@ -0,0 +1,54 @@
+package com.java.oops.cache.eviction;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class S3FIFOEvictionPolicyTest {
+
+    private S3FIFOEvictionPolicy<String> policy;
+
+    @BeforeEach
+    public void setUp() {
+        // small queue of 1 key, main and ghost of 9
+        policy = new S3FIFOEvictionPolicy<>(10);
+    }
+
+    @Test
+    public void testScanKeysLeaveThroughSmallQueue() {
+        policy.recordAccess("hot");
+        policy.recordAccess("hot");
+        policy.recordAccess("scan-1");
+
+        // hot was hit in small, so it is promoted to main instead of being evicted
+        assertEquals("scan-1", policy.evict());
+        policy.recordAccess("scan-2");
+        assertEquals("scan-2", policy.evict());
+        assertEquals("hot", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testGhostKeyReturnsIntoMain() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("b");
+        assertEquals("a", policy.evict());
+
+        // a comes back while still remembered in ghost: it skips small
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        // b was hit in small: it is promoted to main behind a
+        assertEquals("a", policy.evict());
+        assertEquals("b", policy.evict());
+    }
+
+    @Test
+    public void testEvictSpecificKey() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.evict("a");
+        policy.evict("missing");
+        assertEquals("b", policy.evict());
+        assertNull(policy.evict());
+    }
+}
@@ -0,0 +1,113 @@
+package com.java.oops.cache.eviction;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class SampledEvictionPolicyTest {
+
+    // with 64 samples over a handful of keys every key is sampled, so the choice is deterministic
+    private static final int SAMPLE_SIZE = 64;
+
+    @Test
+    public void testLruModeEvictsLeastRecentlyUsed() throws InterruptedException {
+        SampledEvictionPolicy<String> policy = new SampledEvictionPolicy<>(4, SampledEvictionPolicy.Mode.LRU,
+                SAMPLE_SIZE, 0);
+        for (String key : new String[]{"a", "b", "c"}) {
+            policy.recordAccess(key);
+            Thread.sleep(5);
+        }
+        policy.recordAccess("a");
+
+        assertEquals("b", policy.evict());
+        assertEquals("c", policy.evict());
+        assertEquals("a", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testLfuModeEvictsLeastFrequentlyUsed() {
+        SampledEvictionPolicy<String> policy = new SampledEvictionPolicy<>(4, SampledEvictionPolicy.Mode.LFU,
+                SAMPLE_SIZE, 16);
+        policy.recordAccess("cold");
+        policy.recordAccess("hot");
+        // the first increments above the initial value are certain, the log counter then slows down
+        for (int i = 0; i < 1_000; i++) {
+            policy.recordAccess("hot");
+        }
+
+        assertEquals("cold", policy.evict());
+        assertEquals("hot", policy.evict());
+    }
+
+    @Test
+    public void testEvictionDrainsEveryKeyOnce() {
+        SampledEvictionPolicy<Integer> policy = new SampledEvictionPolicy<>(100, SampledEvictionPolicy.Mode.LRU);
+        for (int i = 0; i < 150; i++) {
+            policy.recordAccess(i);
+        }
+        policy.evict(7);
+        Set<Integer> evicted = new HashSet<>();
+        for (int i = 0; i < 149; i++) {
+            assertTrue(evicted.add(policy.evict()));
+        }
+        assertFalse(evicted.contains(7));
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testTableStaysBoundedUnderChurn() {
+        SampledEvictionPolicy<Integer> policy = new SampledEvictionPolicy<>(1_000, SampledEvictionPolicy.Mode.LFU);
+        assertEquals(2_048, policy.tableLength());
+        // tombstones left by evictions are dropped by rebuilds instead of growing the table
+        for (int i = 0; i < 100_000; i++) {
+            if (i >= 1_000) {
+                assertNotNull(policy.evict());
+            }
+            policy.recordAccess(i);
+        }
+        assertEquals(2_048, policy.tableLength());
+        policy.evict(99_999);
+        assertTrue(policy.tryRecordAccessLockFree(99_998));
+        assertFalse(policy.tryRecordAccessLockFree(99_999));
+    }
+
+    @Test
+    public void testFootprintIsWellBelowLruPerKey() throws InterruptedException {
+        int keyCount = 200_000;
+        List<Integer> keys = new ArrayList<>(keyCount);
+        for (int i = 0; i < keyCount; i++) {
+            keys.add(i);
+        }
+
+        long before = usedHeapAfterGc();
+        LRUEvictionPolicy<Integer> lru = new LRUEvictionPolicy<>(keyCount);
+        keys.forEach(lru::recordAccess);
+        long lruBytes = usedHeapAfterGc() - before;
+        assertEquals(0, lru.evict());
+        lru = null;
+
+        before = usedHeapAfterGc();
+        SampledEvictionPolicy<Integer> sampled = new SampledEvictionPolicy<>(keyCount, SampledEvictionPolicy.Mode.LRU);
+        keys.forEach(sampled::recordAccess);
+        long sampledBytes = usedHeapAfterGc() - before;
+        assertTrue(sampled.tryRecordAccessLockFree(0));
+
+        // about 50 bytes per key for the linked map against 16 bytes per slot pair at most half full
+        assertTrue(sampledBytes * 2 < lruBytes, "sampled policy used " + sampledBytes / keyCount
+                + " B/key, LRU policy " + lruBytes / keyCount + " B/key");
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
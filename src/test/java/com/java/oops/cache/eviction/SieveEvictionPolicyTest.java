@@ -0,0 +1,47 @@
+package com.java.oops.cache.eviction;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SieveEvictionPolicyTest {
+
+    private SieveEvictionPolicy<String> policy;
+
+    @BeforeEach
+    public void setUp() {
+        policy = new SieveEvictionPolicy<>(4);
+    }
+
+    @Test
+    public void testHandKeepsItsPositionBetweenEvictions() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("c");
+        policy.recordAccess("d");
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+
+        // a and b lose their flags, c is evicted and the hand stops on d
+        assertEquals("c", policy.evict());
+        policy.recordAccess("e");
+        assertEquals("d", policy.evict());
+        policy.recordAccess("f");
+        // the hand keeps moving towards the head: the new key e is sifted out while a and b stay behind it
+        assertEquals("e", policy.evict());
+        // only once the head is passed does the hand restart from the tail
+        assertEquals("f", policy.evict());
+        assertEquals("a", policy.evict());
+    }
+
+    @Test
+    public void testEvictSpecificKeyUnderTheHand() {
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.recordAccess("c");
+        assertEquals("a", policy.evict());
+        policy.evict("b");
+        assertEquals("c", policy.evict());
+        assertNull(policy.evict());
+        assertFalse(policy.tryRecordAccessLockFree("c"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.java.oops.cache.eviction;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WTinyLFUEvictionPolicyTest {
+
+    @Test
+    public void testWindowCandidateLosesToMoreFrequentVictim() {
+        // capacity 100 keeps a window of a single key
+        WTinyLFUEvictionPolicy<String> policy = new WTinyLFUEvictionPolicy<>(100);
+        policy.recordAccess("victim");
+        policy.recordAccess("victim");
+        policy.recordAccess("candidate");
+        // "victim" spills from the window into probation and wins the duel against the new key
+        assertEquals("candidate", policy.evict());
+        assertEquals("victim", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testWindowCandidateBeatsLessFrequentVictim() {
+        WTinyLFUEvictionPolicy<String> policy = new WTinyLFUEvictionPolicy<>(100);
+        policy.recordAccess("victim");
+        policy.recordAccess("candidate");
+        policy.recordAccess("candidate");
+        policy.recordAccess("candidate");
+        // the candidate is admitted into probation and the victim evicted in its place
+        assertEquals("victim", policy.evict());
+        assertEquals("candidate", policy.evict());
+    }
+
+    @Test
+    public void testAdmitRejectsColdKeyWithoutWindow() {
+        WTinyLFUEvictionPolicy<String> policy = new WTinyLFUEvictionPolicy<>(10, 0);
+        policy.recordAccess("hot");
+        policy.recordAccess("hot");
+        policy.recordAccess("hot");
+        assertFalse(policy.admit("cold"));
+        assertFalse(policy.admit("cold"));
+        assertFalse(policy.admit("cold"));
+        // each rejected request was still counted, so the key finally outweighs the victim
+        assertTrue(policy.admit("cold"));
+    }
+
+    @Test
+    public void testAdmitAcceptsEveryKeyWithWindow() {
+        WTinyLFUEvictionPolicy<String> policy = new WTinyLFUEvictionPolicy<>(100);
+        policy.recordAccess("hot");
+        policy.recordAccess("hot");
+        assertTrue(policy.admit("cold"));
+    }
+
+    @Test
+    public void testProtectedSegmentDemotesBeyondEightyPercent() {
+        // no window: the whole capacity is main space and protected holds at most 8 keys
+        WTinyLFUEvictionPolicy<String> policy = new WTinyLFUEvictionPolicy<>(10, 0);
+        for (int i = 0; i < 10; i++) {
+            policy.recordAccess("k" + i);
+        }
+        // the second access promotes k0..k8 from probation to protected
+        for (int i = 0; i < 9; i++) {
+            policy.recordAccess("k" + i);
+        }
+        // promoting k8 overflowed protected, so its LRU key k0 went back to probation behind k9
+        assertEquals("k9", policy.evict());
+        assertEquals("k0", policy.evict());
+        // probation is empty, victims now come from protected in LRU order
+        assertEquals("k1", policy.evict());
+        assertEquals("k2", policy.evict());
+    }
+
+    @Test
+    public void testEvictSpecificKey() {
+        WTinyLFUEvictionPolicy<String> policy = new WTinyLFUEvictionPolicy<>(10, 0);
+        policy.recordAccess("a");
+        policy.recordAccess("b");
+        policy.evict("a");
+        assertEquals("b", policy.evict());
+        assertNull(policy.evict());
+    }
+
+    @Test
+    public void testSketchSaturatesAtFifteen() {
+        FrequencySketch<String> sketch = new FrequencySketch<>(100);
+        assertEquals(0, sketch.frequency("key"));
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("key");
+        }
+        assertEquals(15, sketch.frequency("key"));
+    }
+
+    @Test
+    public void testSketchHalvesAfterSampleSizeIncrements() {
+        // sample size is 10 x 8 = 80 increments
+        FrequencySketch<String> sketch = new FrequencySketch<>(8);
+        for (int i = 0; i < 20; i++) {
+            sketch.increment("hot");
+        }
+        // only the 15 increments below saturation count towards the sample
+        for (int i = 0; i < 64; i++) {
+            sketch.increment("other" + i);
+        }
+        assertEquals(15, sketch.frequency("hot"));
+        sketch.increment("other64");
+        assertEquals(7, sketch.frequency("hot"));
+    }
+}
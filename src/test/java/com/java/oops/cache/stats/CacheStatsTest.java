@@ -0,0 +1,56 @@
+package com.java.oops.cache.stats;
+
+import com.java.oops.cache.types.InMemoryCache;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheStatsTest {
+
+    @Test
+    public void testEmptyStats() {
+        CacheStats stats = CacheStats.empty();
+        assertEquals(0, stats.requestCount());
+        assertEquals(1.0, stats.hitRate());
+        assertEquals(0.0, stats.missRate());
+        assertEquals(0.0, stats.averageLoadPenalty());
+        assertEquals(0, stats.evictionCount());
+    }
+
+    @Test
+    public void testInMemoryCacheRecordsHitsMissesAndEvictions() {
+        InMemoryCache<Integer, String> cache = new InMemoryCache<>(2);
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.get(1);
+        cache.get(3);
+        cache.put(3, "three"); // evicts 2
+        cache.evict(1);
+        cache.evict(42);
+
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.hitRate());
+        assertEquals(1, stats.evictionCount(RemovalCause.SIZE));
+        assertEquals(1, stats.evictionCount(RemovalCause.EXPLICIT));
+        assertEquals(0, stats.expirationCount());
+    }
+
+    @Test
+    public void testLoadsAndPlus() {
+        StatsCounter counter = new StatsCounter();
+        assertEquals("value", counter.recordLoad(() -> "value"));
+        assertNull(counter.recordLoad(() -> null));
+        assertThrows(IllegalStateException.class, () -> counter.recordLoad(() -> {
+            throw new IllegalStateException("database down");
+        }));
+        counter.recordEviction(RemovalCause.EXPIRED);
+
+        CacheStats stats = counter.snapshot().plus(counter.snapshot());
+        assertEquals(2, stats.getLoadSuccessCount());
+        assertEquals(4, stats.getLoadFailureCount());
+        assertEquals(6, stats.loadCount());
+        assertEquals(2, stats.expirationCount());
+        assertTrue(stats.averageLoadPenalty() >= 0.0);
+    }
+}
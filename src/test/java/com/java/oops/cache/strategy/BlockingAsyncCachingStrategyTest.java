@@ -0,0 +1,87 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.types.InMemoryCache;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class BlockingAsyncCachingStrategyTest {
+
+    private final Map<String, Integer> database = new ConcurrentHashMap<>();
+    private final Map<String, String> loadThreads = new ConcurrentHashMap<>();
+
+    private final CacheToDatabaseService<String, Integer> databaseService = new CacheToDatabaseService<>() {
+        @Override
+        public Integer load(String key) {
+            loadThreads.put(key, Thread.currentThread().getName());
+            return database.get(key);
+        }
+
+        @Override
+        public void save(String key, Integer val) {
+            database.put(key, val);
+        }
+    };
+
+    private ExecutorService executor;
+    private BlockingAsyncCachingStrategy<String, Integer> strategy;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "async-strategy-test"));
+        strategy = new BlockingAsyncCachingStrategy<>(
+                new ReadThroughStrategy<>(new InMemoryCache<>(100), databaseService), executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReadLoadsOnTheExecutorAndCaches() throws Exception {
+        database.put("key1", 1);
+        assertEquals(1, strategy.read("key1").get(5, TimeUnit.SECONDS));
+        assertEquals("async-strategy-test", loadThreads.get("key1"));
+
+        database.put("key1", 2);
+        // the second read is a cache hit
+        assertEquals(1, strategy.read("key1").get(5, TimeUnit.SECONDS));
+        assertEquals(1, strategy.stats().getHitCount());
+        assertNull(strategy.read("missing").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testWriteGoesThroughTheDelegate() throws Exception {
+        strategy.write("key1", 7).get(5, TimeUnit.SECONDS);
+        assertEquals(7, database.get("key1"));
+        assertEquals(7, strategy.read("key1").get(5, TimeUnit.SECONDS));
+        assertFalse(loadThreads.containsKey("key1"));
+    }
+
+    @Test
+    public void testDelegateFailureCompletesTheFutureExceptionally() {
+        BlockingAsyncCachingStrategy<String, Integer> failing = new BlockingAsyncCachingStrategy<>(
+                new CachingStrategy<>() {
+                    @Override
+                    public Integer read(String key) {
+                        throw new IllegalStateException("database unavailable");
+                    }
+
+                    @Override
+                    public void write(String key, Integer value) {
+                    }
+                }, executor);
+        CompletableFuture<Integer> read = failing.read("key1");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> read.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+}
@@ -0,0 +1,61 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.types.InMemoryCache;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ReadThroughStrategyTest {
+
+    private final Map<String, Integer> database = new HashMap<>();
+    private final List<Collection<String>> bulkLoads = new ArrayList<>();
+
+    private final CacheToDatabaseService<String, Integer> databaseService = new CacheToDatabaseService<>() {
+        @Override
+        public Integer load(String key) {
+            fail("Bulk reads should only use loadAll");
+            return null;
+        }
+
+        @Override
+        public Map<String, Integer> loadAll(Collection<String> keys) {
+            bulkLoads.add(new ArrayList<>(keys));
+            Map<String, Integer> loaded = new HashMap<>();
+            keys.stream().filter(database::containsKey).forEach(key -> loaded.put(key, database.get(key)));
+            return loaded;
+        }
+
+        @Override
+        public void save(String key, Integer val) {
+            database.put(key, val);
+        }
+    };
+
+    @Test
+    public void testReadAllLoadsEveryMissInOneCall() {
+        InMemoryCache<String, Integer> cache = new InMemoryCache<>(100);
+        ReadThroughStrategy<String, Integer> strategy = new ReadThroughStrategy<>(cache, databaseService);
+        for (int i = 0; i < 10; i++) {
+            database.put("key-" + i, i);
+        }
+        cache.put("key-0", 0);
+
+        Map<String, Integer> values = strategy.readAll(List.of("key-0", "key-1", "key-2", "key-3", "missing"));
+
+        assertEquals(Map.of("key-0", 0, "key-1", 1, "key-2", 2, "key-3", 3), values);
+        assertEquals(1, bulkLoads.size());
+        assertEquals(4, bulkLoads.get(0).size());
+        assertEquals(Optional.of(2), cache.get("key-2"));
+        assertEquals(1, strategy.stats().loadCount());
+
+        strategy.readAll(List.of("key-1", "key-2"));
+        assertEquals(1, bulkLoads.size(), "second read is served from cache");
+    }
+}
@@ -0,0 +1,180 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.types.ttl.InMemoryTTLCache;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RefreshAheadStrategyTest {
+
+    private final Map<String, Integer> database = new HashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicBoolean databaseDown = new AtomicBoolean();
+    private final List<Runnable> refreshTasks = new ArrayList<>();
+    private Runnable duringNextLoad;
+
+    private final CacheToDatabaseService<String, Integer> databaseService = new CacheToDatabaseService<>() {
+        @Override
+        public Integer load(String key) {
+            loads.incrementAndGet();
+            if (databaseDown.get()) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            Integer value = database.get(key);
+            if (duringNextLoad != null) {
+                Runnable action = duringNextLoad;
+                duringNextLoad = null;
+                action.run();
+            }
+            return value;
+        }
+
+        @Override
+        public void save(String key, Integer val) {
+            database.put(key, val);
+        }
+    };
+
+    private RefreshAheadStrategy<String, Integer> strategy(InMemoryTTLCache<String, Integer> cache) {
+        return new RefreshAheadStrategy<>(cache, databaseService, Duration.ofMillis(300), 0.5,
+                Duration.ofSeconds(5), refreshTasks::add);
+    }
+
+    @Test
+    public void testHitCloseToExpiryRefreshesOnceInBackground() throws InterruptedException {
+        InMemoryTTLCache<String, Integer> cache = new InMemoryTTLCache<>(100);
+        RefreshAheadStrategy<String, Integer> strategy = strategy(cache);
+        database.put("key", 1);
+
+        assertEquals(1, strategy.read("key"));
+        assertEquals(1, strategy.read("key"));
+        assertTrue(refreshTasks.isEmpty(), "fresh entries are not refreshed");
+
+        Thread.sleep(180);
+        database.put("key", 2);
+        assertEquals(1, strategy.read("key"), "current value is served while refreshing");
+        assertEquals(1, strategy.read("key"));
+        assertEquals(1, refreshTasks.size(), "a single refresh per key is in flight");
+        assertEquals(1, strategy.refreshesInFlight());
+
+        refreshTasks.get(0).run();
+
+        assertEquals(0, strategy.refreshesInFlight());
+        assertEquals(2, strategy.read("key"));
+        assertEquals(2, loads.get());
+        assertEquals(1, strategy.refreshCount());
+    }
+
+    @Test
+    public void testStaleValueServedWhenRefreshFails() throws InterruptedException {
+        InMemoryTTLCache<String, Integer> cache = new InMemoryTTLCache<>(100);
+        RefreshAheadStrategy<String, Integer> strategy = strategy(cache);
+        database.put("key", 1);
+        assertEquals(1, strategy.read("key"));
+
+        Thread.sleep(180);
+        databaseDown.set(true);
+        assertEquals(1, strategy.read("key"));
+        refreshTasks.remove(0).run();
+        assertEquals(1, strategy.failedRefreshCount());
+
+        Thread.sleep(200);
+        assertTrue(cache.get("key").isEmpty(), "entry expired");
+        assertEquals(1, strategy.read("key"), "last value is served during the grace period");
+        assertEquals(1, strategy.staleReadCount());
+        assertEquals(1, refreshTasks.size(), "reload is retried");
+
+        databaseDown.set(false);
+        database.put("key", 3);
+        refreshTasks.remove(0).run();
+        assertEquals(3, strategy.read("key"));
+    }
+
+    @Test
+    public void testGracePeriodStartsWhenTheEntryExpires() throws InterruptedException {
+        InMemoryTTLCache<String, Integer> cache = new InMemoryTTLCache<>(100);
+        RefreshAheadStrategy<String, Integer> strategy = new RefreshAheadStrategy<>(cache, databaseService,
+                Duration.ofMillis(400), 0.5, Duration.ofMillis(200), refreshTasks::add);
+        database.put("key", 1);
+        assertEquals(1, strategy.read("key"));
+
+        // about 150 ms of TTL left when the reload fails: stale until about 600 ms, not 400 ms later
+        Thread.sleep(250);
+        databaseDown.set(true);
+        assertEquals(1, strategy.read("key"));
+        refreshTasks.remove(0).run();
+        assertEquals(1, strategy.staleValueCount());
+
+        Thread.sleep(470);
+        assertNull(strategy.read("key"), "grace period is over, the failing load is not hidden");
+        assertEquals(0, strategy.staleValueCount());
+        assertEquals(0, strategy.staleReadCount());
+    }
+
+    @Test
+    public void testStaleValuesOfKeysNoLongerReadArePruned() throws InterruptedException {
+        InMemoryTTLCache<String, Integer> cache = new InMemoryTTLCache<>(100);
+        RefreshAheadStrategy<String, Integer> strategy = new RefreshAheadStrategy<>(cache, databaseService,
+                Duration.ofMillis(300), 0.5, Duration.ofMillis(100), refreshTasks::add);
+        database.put("cold", 1);
+        database.put("hot", 2);
+        assertEquals(1, strategy.read("cold"));
+
+        Thread.sleep(180);
+        databaseDown.set(true);
+        assertEquals(1, strategy.read("cold"));
+        refreshTasks.remove(0).run();
+        assertEquals(1, strategy.staleValueCount());
+
+        // "cold" is never read again; a later reload of another key drops it once past its deadline
+        Thread.sleep(300);
+        databaseDown.set(false);
+        assertEquals(2, strategy.read("hot"));
+        Thread.sleep(180);
+        assertEquals(2, strategy.read("hot"));
+        refreshTasks.remove(0).run();
+        assertEquals(0, strategy.staleValueCount());
+    }
+
+    @Test
+    public void testWriteDuringRefreshIsNotOverwrittenByTheReloadedValue() throws InterruptedException {
+        InMemoryTTLCache<String, Integer> cache = new InMemoryTTLCache<>(100);
+        RefreshAheadStrategy<String, Integer> strategy = strategy(cache);
+        database.put("key", 1);
+        assertEquals(1, strategy.read("key"));
+
+        Thread.sleep(180);
+        assertEquals(1, strategy.read("key"));
+        // the reload reads 1, then the key is written before the reload caches it
+        duringNextLoad = () -> strategy.write("key", 2);
+        refreshTasks.remove(0).run();
+
+        assertEquals(2, strategy.read("key"));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void testWriteDuringRefreshOfADeletedKeyIsNotEvicted() throws InterruptedException {
+        InMemoryTTLCache<String, Integer> cache = new InMemoryTTLCache<>(100);
+        RefreshAheadStrategy<String, Integer> strategy = strategy(cache);
+        database.put("key", 1);
+        assertEquals(1, strategy.read("key"));
+
+        Thread.sleep(180);
+        assertEquals(1, strategy.read("key"));
+        database.remove("key");
+        duringNextLoad = () -> strategy.write("key", 5);
+        refreshTasks.remove(0).run();
+
+        assertEquals(5, strategy.read("key"));
+        assertEquals(2, loads.get(), "the written value is served from the cache");
+    }
+}
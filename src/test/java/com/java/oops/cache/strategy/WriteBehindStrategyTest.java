@@ -0,0 +1,200 @@
+package com.java.oops.cache.strategy;
+
+import com.java.oops.cache.database.CacheToDatabaseService;
+import com.java.oops.cache.types.InMemoryCache;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class WriteBehindStrategyTest {
+
+    private final Map<String, Integer> database = new ConcurrentHashMap<>();
+    private final AtomicInteger rowsWritten = new AtomicInteger();
+    private final AtomicInteger bulkSaves = new AtomicInteger();
+
+    private final CacheToDatabaseService<String, Integer> databaseService = new CacheToDatabaseService<>() {
+        @Override
+        public Integer load(String key) {
+            return database.get(key);
+        }
+
+        @Override
+        public void save(String key, Integer val) {
+            fail("Write-behind should only use bulk saves");
+        }
+
+        @Override
+        public void bulkSave(Map<String, Integer> entries) {
+            bulkSaves.incrementAndGet();
+            rowsWritten.addAndGet(entries.size());
+            database.putAll(entries);
+        }
+    };
+
+    @Test
+    public void testHotKeysAreCoalescedAndFlushedOnShutdown() {
+        WriteBehindStrategy<String, Integer> strategy = new WriteBehindStrategy<>(new InMemoryCache<>(100),
+                databaseService, Executors.newSingleThreadExecutor(), 50, 1_000, Duration.ofMinutes(1));
+        for (int i = 0; i < 1_000; i++) {
+            strategy.write("counter-" + (i % 10), i);
+        }
+        strategy.shutdown();
+
+        assertEquals(10, database.size());
+        assertEquals(999, database.get("counter-9"));
+        assertEquals(990, database.get("counter-0"));
+        assertTrue(rowsWritten.get() <= 100, "rows written: " + rowsWritten.get());
+        assertTrue(strategy.coalescingRatio() >= 10.0);
+        assertEquals(0, strategy.pendingWrites());
+    }
+
+    @Test
+    public void testFlushBySize() throws InterruptedException {
+        WriteBehindStrategy<String, Integer> strategy = new WriteBehindStrategy<>(new InMemoryCache<>(100),
+                databaseService, Executors.newSingleThreadExecutor(), 5, 10, Duration.ofMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            strategy.write("key-" + i, i);
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (database.size() < 5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(5, database.size());
+        assertEquals(1, bulkSaves.get());
+        strategy.shutdown();
+    }
+
+    @Test
+    public void testConcurrencyLimitedMode() {
+        database.put("loaded", 7);
+        WriteBehindStrategy<String, Integer> strategy = new WriteBehindStrategy<>(new InMemoryCache<>(100),
+                databaseService, 4, 50, 1_000, Duration.ofMinutes(1));
+        assertEquals(7, strategy.read("loaded"));
+        for (int i = 0; i < 100; i++) {
+            strategy.write("key-" + i, i);
+        }
+        strategy.shutdown();
+
+        assertEquals(101, database.size());
+        assertTrue(strategy.databaseMetrics().isPresent());
+        assertEquals(0, strategy.databaseMetrics().get().getInFlightCalls());
+        // one load plus at least one bulk save; the flusher may merge the writes into fewer batches
+        assertTrue(strategy.databaseMetrics().get().getCompletedCalls() >= 2);
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedWithinPendingBound() throws InterruptedException {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        CacheToDatabaseService<String, Integer> failingOnce = new CacheToDatabaseService<>() {
+            @Override
+            public Integer load(String key) {
+                return null;
+            }
+
+            @Override
+            public void save(String key, Integer val) {
+                fail("Write-behind should only use bulk saves");
+            }
+
+            @Override
+            public void bulkSave(Map<String, Integer> entries) {
+                batchSizes.add(entries.size());
+                if (attempts.incrementAndGet() == 1) {
+                    try {
+                        // give the writer time to fill the buffer while this batch is in flight
+                        Thread.sleep(200);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    throw new IllegalStateException("database unavailable");
+                }
+                database.putAll(entries);
+            }
+        };
+        WriteBehindStrategy<String, Integer> strategy = new WriteBehindStrategy<>(new InMemoryCache<>(100),
+                failingOnce, Executors.newSingleThreadExecutor(), 2, 4, Duration.ofMillis(50));
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 8; i++) {
+                strategy.write("key-" + i, i);
+            }
+        });
+        writer.start();
+        writer.join(5_000);
+        strategy.shutdown();
+
+        assertEquals(8, database.size());
+        assertTrue(attempts.get() >= 2);
+        // the failed batch is merged back without exceeding the 4 unflushed keys
+        batchSizes.forEach(size -> assertTrue(size <= 4, "batch sizes: " + batchSizes));
+    }
+
+    @Test
+    public void testConcurrencyLimitedModeFlushesDisjointBatchesConcurrently() throws InterruptedException {
+        Set<String> keysInFlight = ConcurrentHashMap.newKeySet();
+        List<String> overlappingKeys = new CopyOnWriteArrayList<>();
+        AtomicInteger concurrentSaves = new AtomicInteger();
+        AtomicInteger maxConcurrentSaves = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        CacheToDatabaseService<String, Integer> slowDatabase = new CacheToDatabaseService<>() {
+            @Override
+            public Integer load(String key) {
+                return database.get(key);
+            }
+
+            @Override
+            public void save(String key, Integer val) {
+                fail("Write-behind should only use bulk saves");
+            }
+
+            @Override
+            public void bulkSave(Map<String, Integer> entries) {
+                entries.keySet().stream().filter(key -> !keysInFlight.add(key)).forEach(overlappingKeys::add);
+                maxConcurrentSaves.accumulateAndGet(concurrentSaves.incrementAndGet(), Math::max);
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                database.putAll(entries);
+                concurrentSaves.decrementAndGet();
+                keysInFlight.removeAll(entries.keySet());
+            }
+        };
+        WriteBehindStrategy<String, Integer> strategy = new WriteBehindStrategy<>(new InMemoryCache<>(100),
+                slowDatabase, 4, 10, 1_000, Duration.ofMinutes(1));
+        for (int i = 0; i < 40; i++) {
+            strategy.write("key-" + i, i);
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (concurrentSaves.get() < 4 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(4, concurrentSaves.get());
+        assertEquals(4, strategy.databaseMetrics().get().getInFlightCalls());
+
+        // newer values of keys being flushed wait for their batch
+        for (int i = 0; i < 40; i += 4) {
+            strategy.write("key-" + i, 100 + i);
+        }
+        release.countDown();
+        strategy.shutdown();
+
+        assertEquals(4, maxConcurrentSaves.get());
+        assertTrue(overlappingKeys.isEmpty(), "keys in two batches at once: " + overlappingKeys);
+        assertEquals(40, database.size());
+        for (int i = 0; i < 40; i++) {
+            assertEquals(i % 4 == 0 ? 100 + i : i, database.get("key-" + i));
+        }
+    }
+}
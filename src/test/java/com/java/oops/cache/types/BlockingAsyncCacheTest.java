@@ -0,0 +1,79 @@
+package com.java.oops.cache.types;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class BlockingAsyncCacheTest {
+
+    private ExecutorService executor;
+    private InMemoryCache<String, Integer> delegate;
+    private BlockingAsyncCache<String, Integer> cache;
+
+    @BeforeEach
+    public void setUp() {
+        // a single thread keeps the non thread-safe InMemoryCache safe
+        executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "async-cache-test"));
+        delegate = new InMemoryCache<>(100);
+        cache = new BlockingAsyncCache<>(delegate, executor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPutGetAndEvict() throws Exception {
+        cache.put("key1", 1).get(5, TimeUnit.SECONDS);
+        assertEquals(Optional.of(1), cache.get("key1").get(5, TimeUnit.SECONDS));
+        assertEquals(1, cache.stats().getHitCount());
+
+        cache.evict("key1").get(5, TimeUnit.SECONDS);
+        assertEquals(Optional.empty(), cache.get("key1").get(5, TimeUnit.SECONDS));
+        assertEquals(Optional.empty(), delegate.get("key1"));
+    }
+
+    @Test
+    public void testGetAllCombinesTheLookups() throws Exception {
+        cache.put("key1", 1).get(5, TimeUnit.SECONDS);
+        cache.put("key2", 2).get(5, TimeUnit.SECONDS);
+        Map<String, Optional<Integer>> values = cache.getAll(List.of("key1", "key2", "key3"))
+                .get(5, TimeUnit.SECONDS);
+        assertEquals(3, values.size());
+        assertEquals(Optional.of(2), values.get("key2"));
+        assertEquals(Optional.empty(), values.get("key3"));
+    }
+
+    @Test
+    public void testCallsRunOnTheExecutor() throws Exception {
+        BlockingAsyncCache<String, String> threadCache = new BlockingAsyncCache<>(new InMemoryCache<>(10) {
+            @Override
+            public Optional<String> get(String key) {
+                return Optional.of(Thread.currentThread().getName());
+            }
+        }, executor);
+        assertEquals(Optional.of("async-cache-test"), threadCache.get("key").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testDelegateFailureCompletesTheFutureExceptionally() {
+        BlockingAsyncCache<String, Integer> failing = new BlockingAsyncCache<>(new InMemoryCache<>(10) {
+            @Override
+            public Optional<Integer> get(String key) {
+                throw new IllegalStateException("cache unavailable");
+            }
+        }, executor);
+        CompletableFuture<Optional<Integer>> lookup = failing.get("key");
+        ExecutionException e = assertThrows(ExecutionException.class, () -> lookup.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+}
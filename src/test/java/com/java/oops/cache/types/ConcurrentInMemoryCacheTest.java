@@ -0,0 +1,114 @@
+package com.java.oops.cache.types;
+
+import com.java.oops.cache.eviction.ClockEvictionPolicy;
+import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.types.concurrent.ConcurrentInMemoryCache;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentInMemoryCacheTest {
+
+    private ConcurrentInMemoryCache<String, String> cache;
+
+    @BeforeEach
+    public void setUp() {
+        // maintenance runs on the caller thread to keep the assertions deterministic
+        cache = new ConcurrentInMemoryCache<>(new LRUEvictionPolicy<>(3), 3, Runnable::run);
+    }
+
+    @Test
+    public void testPutAndGet() {
+        cache.put("key1", "value1");
+        assertEquals("value1", cache.get("key1").orElseThrow());
+        assertFalse(cache.get("missing").isPresent());
+    }
+
+    @Test
+    public void testEvictionPolicyEviction() {
+        cache.put("key1", "value1");
+        cache.put("key2", "value2");
+        cache.put("key3", "value3");
+        cache.get("key1");
+        cache.cleanUp();
+        // key1 was read after key2, so key2 is the least recently used entry
+        cache.put("key4", "value4");
+        cache.cleanUp();
+        assertEquals(3, cache.size());
+        assertFalse(cache.get("key2").isPresent());
+        assertTrue(cache.get("key1").isPresent());
+        assertTrue(cache.get("key4").isPresent());
+    }
+
+    @Test
+    public void testManualEvict() {
+        cache.put("key1", "value1");
+        cache.evict("key1");
+        assertFalse(cache.get("key1").isPresent());
+    }
+
+    @Test
+    public void testBulkHitsAreRecordedLockFreeWhenThePolicySupportsIt() {
+        AtomicInteger bufferedAccesses = new AtomicInteger();
+        ConcurrentInMemoryCache<String, String> clockCache = new ConcurrentInMemoryCache<>(
+                new ClockEvictionPolicy<>(3) {
+                    @Override
+                    public void recordAccess(String key) {
+                        bufferedAccesses.incrementAndGet();
+                        super.recordAccess(key);
+                    }
+                }, 3, Runnable::run);
+        clockCache.put("key1", "value1");
+        clockCache.put("key2", "value2");
+        clockCache.cleanUp();
+        int afterWrites = bufferedAccesses.get();
+
+        assertEquals(2, clockCache.getAll(List.of("key1", "key2", "missing")).values().stream()
+                .filter(Optional::isPresent).count());
+        clockCache.get("key1");
+        clockCache.cleanUp();
+        // neither get nor getAll went through the read buffer
+        assertEquals(afterWrites, bufferedAccesses.get());
+    }
+
+    @Test
+    public void testCapacityIsRestoredAfterConcurrentAccess() throws InterruptedException {
+        int capacity = 100;
+        ExecutorService maintenance = Executors.newSingleThreadExecutor();
+        ConcurrentInMemoryCache<Integer, Integer> concurrentCache =
+                new ConcurrentInMemoryCache<>(new LRUEvictionPolicy<>(capacity), capacity, maintenance);
+        int threads = 8;
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            workers.submit(() -> {
+                try {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        int key = random.nextInt(capacity * 4);
+                        if (random.nextInt(10) < 8) {
+                            concurrentCache.get(key);
+                        } else {
+                            concurrentCache.put(key, key);
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        workers.shutdown();
+        maintenance.shutdown();
+        assertTrue(maintenance.awaitTermination(10, TimeUnit.SECONDS));
+        concurrentCache.cleanUp();
+        assertTrue(concurrentCache.size() <= capacity);
+    }
+}
@@ -0,0 +1,74 @@
+package com.java.oops.cache.types;
+
+import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.stats.RemovalCause;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InMemoryCacheTest {
+
+    private InMemoryCache<String, byte[]> cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new InMemoryCache<>(new LRUEvictionPolicy<>(16), 1_000, (key, value) -> value.length);
+    }
+
+    @Test
+    public void testWeightedCapacityBoundsTotalWeight() {
+        for (int i = 0; i < 20; i++) {
+            cache.put("small-" + i, new byte[50]);
+        }
+        assertEquals(1_000, cache.getTotalWeight());
+        assertEquals(20, cache.getCache().size());
+
+        // a 100 byte value needs two 50 byte victims
+        cache.put("large", new byte[100]);
+        assertEquals(1_000, cache.getTotalWeight());
+        assertFalse(cache.get("small-0").isPresent());
+        assertFalse(cache.get("small-1").isPresent());
+        assertTrue(cache.get("small-2").isPresent());
+        assertEquals(2, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void testUpdateReweighsEntry() {
+        cache.put("key", new byte[80]);
+        cache.put("key", new byte[20]);
+        assertEquals(20, cache.getTotalWeight());
+        cache.evict("key");
+        assertEquals(0, cache.getTotalWeight());
+    }
+
+    @Test
+    public void testEntryAboveMaxEntryWeightIsRejected() {
+        cache.put("key", new byte[100]);
+        cache.put("other", new byte[50]);
+
+        // default max entry weight is 10% of the maximum weight
+        cache.put("key", new byte[101]);
+        assertFalse(cache.get("key").isPresent());
+        assertTrue(cache.get("other").isPresent());
+        assertEquals(50, cache.getTotalWeight());
+    }
+
+    @Test
+    public void testRejectedAdmissionIsRecordedAsSizeEviction() {
+        InMemoryCache<String, byte[]> rejecting = new InMemoryCache<>(new LRUEvictionPolicy<>(16) {
+            @Override
+            public boolean admit(String candidate) {
+                return false;
+            }
+        }, 100, (key, value) -> value.length, 1.0);
+        rejecting.put("key1", new byte[60]);
+        rejecting.put("key2", new byte[60]);
+        assertFalse(rejecting.get("key2").isPresent());
+        assertTrue(rejecting.get("key1").isPresent());
+        assertEquals(60, rejecting.getTotalWeight());
+        assertEquals(1, rejecting.stats().evictionCount(RemovalCause.SIZE));
+
+        // resident keys are not asked for admission
+        rejecting.put("key1", new byte[70]);
+        assertEquals(70, rejecting.getTotalWeight());
+    }
+}
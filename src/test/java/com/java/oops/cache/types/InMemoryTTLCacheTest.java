@@ -1,6 +1,7 @@
 package com.java.oops.cache.types;
 
 import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.stats.RemovalCause;
 import com.java.oops.cache.types.ttl.AbstractTTLCache;
 import com.java.oops.cache.types.ttl.InMemoryTTLCache;
 import org.junit.jupiter.api.*;
@@ -79,4 +80,46 @@ public class InMemoryTTLCacheTest {
         cache.evict("key1");
         assertFalse(cache.get("key1").isPresent());
     }
+
+    @Test
+    public void testWeightedCapacityEvictsUntilEntryFits() {
+        try (InMemoryTTLCache<String, String> weighted = new InMemoryTTLCache<>(new LRUEvictionPolicy<>(16), 100,
+                (key, value) -> value.length(), 0.5, Duration.ofSeconds(5))) {
+            weighted.put("a", "x".repeat(30), Duration.ofMinutes(1));
+            weighted.put("b", "x".repeat(30));
+            weighted.put("c", "x".repeat(30));
+            weighted.put("d", "x".repeat(50));
+
+            assertFalse(weighted.get("a").isPresent());
+            assertFalse(weighted.get("b").isPresent());
+            assertTrue(weighted.get("c").isPresent());
+            assertTrue(weighted.get("d").isPresent());
+            assertEquals(80, weighted.getTotalWeight());
+
+            // above half of the maximum weight: rejected, and the previous value of the key removed
+            weighted.put("c", "x".repeat(60));
+            assertFalse(weighted.get("c").isPresent());
+            assertEquals(50, weighted.getTotalWeight());
+
+            weighted.evict("d");
+            assertEquals(0, weighted.getTotalWeight());
+        }
+    }
+
+    @Test
+    public void testWeightedRejectedAdmissionIsRecordedAsSizeEviction() {
+        try (InMemoryTTLCache<String, String> rejecting = new InMemoryTTLCache<>(new LRUEvictionPolicy<>(16) {
+            @Override
+            public boolean admit(String candidate) {
+                return false;
+            }
+        }, 100, (key, value) -> value.length(), 1.0, Duration.ofSeconds(5))) {
+            rejecting.put("a", "x".repeat(60), Duration.ofMinutes(1));
+            rejecting.put("b", "x".repeat(60));
+            assertFalse(rejecting.get("b").isPresent());
+            assertTrue(rejecting.get("a").isPresent());
+            assertEquals(60, rejecting.getTotalWeight());
+            assertEquals(1, rejecting.stats().evictionCount(RemovalCause.SIZE));
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.PrimitiveCodecs;
+import com.java.oops.cache.codec.StringCodec;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchingAsyncCacheTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentLookupsShareBulkReads() throws Exception {
+        CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+        AtomicInteger bulkReads = new AtomicInteger();
+        RedisDistributedCache<String, Integer> redis = new RedisDistributedCache<>(null, StringCodec.INSTANCE,
+                PrimitiveCodecs.INTEGER) {
+            @Override
+            public Map<String, Optional<Integer>> getAll(Collection<String> keys) {
+                if (bulkReads.incrementAndGet() == 1) {
+                    firstBatchStarted.countDown();
+                    try {
+                        releaseFirstBatch.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                Map<String, Optional<Integer>> result = new HashMap<>();
+                keys.forEach(key -> result.put(key, key.startsWith("key") ? Optional.of(key.length()) : Optional.empty()));
+                return result;
+            }
+        };
+        BatchingAsyncCache<String, Integer> cache = new BatchingAsyncCache<>(redis, executor, 1_000);
+
+        CompletableFuture<Optional<Integer>> first = cache.get("key0");
+        assertTrue(firstBatchStarted.await(5, TimeUnit.SECONDS));
+        List<CompletableFuture<Optional<Integer>>> lookups = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            lookups.add(cache.get("key" + i));
+        }
+        lookups.add(cache.get("missing"));
+        releaseFirstBatch.countDown();
+
+        assertEquals(Optional.of(4), first.get(5, TimeUnit.SECONDS));
+        CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        assertEquals(Optional.of(6), lookups.get(100).join());
+        assertEquals(Optional.empty(), lookups.get(500).join());
+        assertEquals(2, bulkReads.get());
+    }
+
+    @Test
+    void failedBulkReadFailsItsLookups() {
+        RedisDistributedCache<String, Integer> redis = new RedisDistributedCache<>(null, StringCodec.INSTANCE,
+                PrimitiveCodecs.INTEGER) {
+            @Override
+            public Map<String, Optional<Integer>> getAll(Collection<String> keys) {
+                throw new IllegalStateException("connection refused");
+            }
+        };
+        BatchingAsyncCache<String, Integer> cache = new BatchingAsyncCache<>(redis, executor, 10);
+
+        CompletableFuture<Optional<Integer>> lookup = cache.get("key");
+        Exception e = assertThrows(Exception.class, () -> lookup.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+    }
+
+    @Test
+    void rejectedBatchFailsItsLookupsAndLaterBatchesStillRun() throws Exception {
+        AtomicInteger bulkReads = new AtomicInteger();
+        RedisDistributedCache<String, Integer> redis = new RedisDistributedCache<>(null, StringCodec.INSTANCE,
+                PrimitiveCodecs.INTEGER) {
+            @Override
+            public Map<String, Optional<Integer>> getAll(Collection<String> keys) {
+                bulkReads.incrementAndGet();
+                Map<String, Optional<Integer>> result = new HashMap<>();
+                keys.forEach(key -> result.put(key, Optional.of(key.length())));
+                return result;
+            }
+        };
+        AtomicInteger rejections = new AtomicInteger(1);
+        BatchingAsyncCache<String, Integer> cache = new BatchingAsyncCache<>(redis, task -> {
+            if (rejections.getAndDecrement() > 0) {
+                throw new RejectedExecutionException("executor shut down");
+            }
+            executor.execute(task);
+        }, 10);
+
+        CompletableFuture<Optional<Integer>> rejected = cache.get("key");
+        Exception e = assertThrows(Exception.class, () -> rejected.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, e.getCause());
+        assertEquals(0, bulkReads.get());
+
+        // the drain flag was reset, so the next lookup schedules a new batch
+        assertEquals(Optional.of(4), cache.get("key2").get(5, TimeUnit.SECONDS));
+        assertEquals(1, bulkReads.get());
+    }
+}
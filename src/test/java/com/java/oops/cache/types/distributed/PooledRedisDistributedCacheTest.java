@@ -0,0 +1,230 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.PrimitiveCodecs;
+import com.java.oops.cache.codec.StringCodec;
+import org.junit.jupiter.api.*;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PooledRedisDistributedCacheTest {
+
+    private StubPool pool;
+    private PooledRedisDistributedCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        pool = new StubPool();
+        cache = new PooledRedisDistributedCache<>(pool, 4, StringCodec.INSTANCE, PrimitiveCodecs.INTEGER);
+        cache.setBulkChunkSize(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void everyOperationReturnsItsConnection() {
+        cache.put("key1", 1);
+        assertEquals(Optional.of(1), cache.get("key1"));
+        cache.evict("key1");
+        assertEquals(Optional.empty(), cache.get("key1"));
+        assertEquals(4, pool.borrowed.get());
+        assertEquals(0, pool.active.get());
+    }
+
+    @Test
+    void connectionIsReturnedWhenTheCommandFails() {
+        assertThrows(JedisConnectionException.class, () -> cache.execute(jedis -> {
+            throw new JedisConnectionException("connection reset");
+        }));
+        assertEquals(1, pool.borrowed.get());
+        assertEquals(0, pool.active.get());
+    }
+
+    @Test
+    void poolMetricsReportBorrowedConnections() {
+        PooledRedisDistributedCache.PoolMetrics inside = cache.execute(jedis -> cache.poolMetrics());
+        assertEquals(1, inside.getActiveConnections());
+        assertEquals(0.25, inside.utilization());
+
+        PooledRedisDistributedCache.PoolMetrics after = cache.poolMetrics();
+        assertEquals(0, after.getActiveConnections());
+        assertEquals(3, after.getIdleConnections());
+        assertEquals(4, after.getMaxTotal());
+        assertEquals(2, after.getMeanBorrowWaitMillis());
+        assertEquals(5, after.getMaxBorrowWaitMillis());
+        assertEquals(0.0, after.utilization());
+    }
+
+    @Test
+    void bulkChunksRunInParallelUpToTheBulkParallelism() {
+        for (int i = 0; i < 100; i++) {
+            cache.put("key" + i, i);
+        }
+        cache.setBulkParallelism(3);
+        pool.commandDelayMillis = 20;
+        List<String> keys = IntStream.range(0, 105).mapToObj(i -> "key" + i).collect(Collectors.toList());
+        Map<String, Optional<Integer>> result = cache.getAll(keys);
+
+        // the sink is synchronized, so every chunk lands in the plain HashMap
+        assertEquals(105, result.size());
+        assertEquals(Optional.of(42), result.get("key42"));
+        assertEquals(Optional.empty(), result.get("key104"));
+        assertEquals(11, pool.mgetCalls.get());
+        assertTrue(pool.maxActive.get() <= 3, "max active: " + pool.maxActive.get());
+        assertTrue(pool.maxActive.get() > 1, "max active: " + pool.maxActive.get());
+        assertEquals(0, pool.active.get());
+    }
+
+    @Test
+    void streamAllHandsChunksToTheConsumerOneAtATime() {
+        cache.setBulkParallelism(4);
+        pool.commandDelayMillis = 5;
+        AtomicInteger inConsumer = new AtomicInteger();
+        AtomicInteger maxInConsumer = new AtomicInteger();
+        List<Integer> chunkSizes = new ArrayList<>();
+        cache.streamAll(IntStream.range(0, 95).mapToObj(i -> "key" + i).collect(Collectors.toList()), chunk -> {
+            maxInConsumer.accumulateAndGet(inConsumer.incrementAndGet(), Math::max);
+            chunkSizes.add(chunk.size());
+            inConsumer.decrementAndGet();
+        });
+        assertEquals(1, maxInConsumer.get());
+        assertEquals(10, chunkSizes.size());
+        assertEquals(95, chunkSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void chunkFailureIsRethrownOnceStartedChunksComplete() {
+        cache.setBulkParallelism(3);
+        pool.failingKey = "key25";
+        List<String> keys = IntStream.range(0, 60).mapToObj(i -> "key" + i).collect(Collectors.toList());
+        JedisException failure = assertThrows(JedisException.class, () -> cache.streamAll(keys, chunk -> { }));
+        assertTrue(failure.getMessage().contains("key25"));
+        assertEquals(0, pool.active.get());
+        // getAll logs the failure and returns what it could read
+        assertTrue(cache.getAll(keys).size() < 60);
+    }
+
+    @Test
+    void bulkOperationsRunSequentiallyAfterClose() {
+        cache.put("key1", 1);
+        cache.setBulkParallelism(3);
+        cache.close();
+        List<String> keys = IntStream.range(0, 25).mapToObj(i -> "key" + i).collect(Collectors.toList());
+        Map<String, Optional<Integer>> result = cache.getAll(keys);
+        assertEquals(25, result.size());
+        assertEquals(Optional.of(1), result.get("key1"));
+        assertEquals(1, pool.maxActive.get());
+    }
+
+    /**
+     * Pool handing out in-memory connections sharing one map; never connects.
+     */
+    private static class StubPool extends JedisPool {
+        private final Map<ByteBuffer, byte[]> data = new ConcurrentHashMap<>();
+        private final AtomicInteger borrowed = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicInteger maxActive = new AtomicInteger();
+        private final AtomicInteger mgetCalls = new AtomicInteger();
+        private volatile long commandDelayMillis;
+        private volatile String failingKey;
+
+        @Override
+        public Jedis getResource() {
+            borrowed.incrementAndGet();
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            return new StubJedis(this);
+        }
+
+        @Override
+        public int getNumActive() {
+            return active.get();
+        }
+
+        @Override
+        public int getNumIdle() {
+            return 3;
+        }
+
+        @Override
+        public int getNumWaiters() {
+            return 0;
+        }
+
+        @Override
+        public long getMeanBorrowWaitTimeMillis() {
+            return 2;
+        }
+
+        @Override
+        public long getMaxBorrowWaitTimeMillis() {
+            return 5;
+        }
+    }
+
+    private static class StubJedis extends Jedis {
+        private final StubPool pool;
+
+        private StubJedis(StubPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public String set(byte[] key, byte[] value) {
+            pool.data.put(ByteBuffer.wrap(key), value);
+            return "OK";
+        }
+
+        @Override
+        public byte[] get(byte[] key) {
+            return pool.data.get(ByteBuffer.wrap(key));
+        }
+
+        @Override
+        public Long del(byte[] key) {
+            return pool.data.remove(ByteBuffer.wrap(key)) == null ? 0L : 1L;
+        }
+
+        @Override
+        public List<byte[]> mget(byte[]... keys) {
+            pool.mgetCalls.incrementAndGet();
+            if (pool.commandDelayMillis > 0) {
+                try {
+                    Thread.sleep(pool.commandDelayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            List<byte[]> values = new ArrayList<>(keys.length);
+            for (byte[] key : keys) {
+                String name = new String(key, StandardCharsets.UTF_8);
+                if (name.equals(pool.failingKey)) {
+                    throw new JedisConnectionException("failed to read " + name);
+                }
+                values.add(pool.data.get(ByteBuffer.wrap(key)));
+            }
+            return values;
+        }
+
+        @Override
+        public void close() {
+            pool.active.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.PrimitiveCodecs;
+import com.java.oops.cache.codec.StringCodec;
+import org.junit.jupiter.api.*;
+import redis.clients.jedis.Jedis;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RedisDistributedCacheTest {
+
+    private MapJedis jedis;
+    private RedisDistributedCache<String, Integer> cache;
+
+    @BeforeEach
+    void setUp() {
+        jedis = new MapJedis();
+        cache = new RedisDistributedCache<>(jedis, StringCodec.INSTANCE, PrimitiveCodecs.INTEGER);
+        cache.setBulkChunkSize(100);
+    }
+
+    @Test
+    void putAllWithoutTtlUsesOneMsetPerChunk() {
+        Map<String, AbstractDistributedCache.CacheEntry<Integer>> entries = new HashMap<>();
+        for (int i = 0; i < 250; i++) {
+            entries.put("key" + i, new AbstractDistributedCache.CacheEntry<>(i));
+        }
+        cache.putAllWithTtl(entries);
+
+        assertEquals(3, jedis.msetCalls.get());
+        assertEquals(250, jedis.data.size());
+        assertEquals(Optional.of(42), cache.get("key42"));
+    }
+
+    @Test
+    void getAllUsesOneMgetPerChunk() {
+        for (int i = 0; i < 250; i++) {
+            cache.put("key" + i, i);
+        }
+        List<String> keys = IntStream.range(0, 260).mapToObj(i -> "key" + i).collect(Collectors.toList());
+        Map<String, Optional<Integer>> result = cache.getAll(keys);
+
+        assertEquals(3, jedis.mgetCalls.get());
+        assertEquals(260, result.size());
+        assertEquals(Optional.of(7), result.get("key7"));
+        assertEquals(Optional.empty(), result.get("key255"));
+        assertEquals(250, cache.stats().getHitCount());
+        assertEquals(10, cache.stats().getMissCount());
+    }
+
+    @Test
+    void streamAllDeliversEveryChunk() {
+        for (int i = 0; i < 250; i++) {
+            cache.put("key" + i, i);
+        }
+        List<Integer> chunkSizes = new ArrayList<>();
+        Map<String, Optional<Integer>> seen = new HashMap<>();
+        cache.streamAll(() -> IntStream.range(0, 250).mapToObj(i -> "key" + i).iterator(), chunk -> {
+            chunkSizes.add(chunk.size());
+            seen.putAll(chunk);
+        });
+
+        assertEquals(List.of(100, 100, 50), chunkSizes);
+        assertEquals(250, seen.size());
+        assertTrue(seen.values().stream().allMatch(Optional::isPresent));
+    }
+
+    @Test
+    void rejectsNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> cache.setBulkChunkSize(0));
+    }
+
+    /**
+     * Jedis stand-in keeping the data in memory; never connects.
+     */
+    private static class MapJedis extends Jedis {
+        private final Map<ByteBuffer, byte[]> data = new ConcurrentHashMap<>();
+        private final AtomicInteger msetCalls = new AtomicInteger();
+        private final AtomicInteger mgetCalls = new AtomicInteger();
+
+        @Override
+        public String set(byte[] key, byte[] value) {
+            data.put(ByteBuffer.wrap(key), value);
+            return "OK";
+        }
+
+        @Override
+        public byte[] get(byte[] key) {
+            return data.get(ByteBuffer.wrap(key));
+        }
+
+        @Override
+        public String mset(byte[]... keysValues) {
+            msetCalls.incrementAndGet();
+            for (int i = 0; i < keysValues.length; i += 2) {
+                data.put(ByteBuffer.wrap(keysValues[i]), keysValues[i + 1]);
+            }
+            return "OK";
+        }
+
+        @Override
+        public List<byte[]> mget(byte[]... keys) {
+            mgetCalls.incrementAndGet();
+            List<byte[]> values = new ArrayList<>(keys.length);
+            for (byte[] key : keys) {
+                values.add(data.get(ByteBuffer.wrap(key)));
+            }
+            return values;
+        }
+    }
+}
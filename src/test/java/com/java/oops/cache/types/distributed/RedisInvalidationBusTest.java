@@ -0,0 +1,162 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.StringCodec;
+import org.junit.jupiter.api.*;
+import redis.clients.jedis.BinaryJedisPubSub;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RedisInvalidationBusTest {
+
+    private StubPool pool;
+    private RedisInvalidationBus<String> bus1;
+    private RedisInvalidationBus<String> bus2;
+    private final BlockingQueue<String> events1 = new LinkedBlockingQueue<>();
+    private final BlockingQueue<String> events2 = new LinkedBlockingQueue<>();
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        pool = new StubPool();
+        bus1 = new RedisInvalidationBus<>(pool, "invalidations", StringCodec.INSTANCE);
+        bus2 = new RedisInvalidationBus<>(pool, "invalidations", StringCodec.INSTANCE);
+        bus1.subscribe(recorder(events1));
+        bus2.subscribe(recorder(events2));
+        awaitSubscribers(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus1.close();
+        bus2.close();
+    }
+
+    @Test
+    void invalidationReachesTheOtherNodesOnly() throws InterruptedException {
+        bus1.publishInvalidation("key1");
+        assertEquals("invalidate:key1", events2.poll(5, TimeUnit.SECONDS));
+
+        // messages are delivered in order, so the own message was skipped once the next one arrives
+        bus2.publishInvalidation("key2");
+        assertEquals("invalidate:key2", events1.poll(5, TimeUnit.SECONDS));
+        assertTrue(events1.isEmpty());
+        assertTrue(events2.isEmpty());
+    }
+
+    @Test
+    void clearReachesTheOtherNodesOnly() throws InterruptedException {
+        bus1.publishClear();
+        assertEquals("clear", events2.poll(5, TimeUnit.SECONDS));
+        bus2.publishInvalidation("key1");
+        assertEquals("invalidate:key1", events1.poll(5, TimeUnit.SECONDS));
+        assertTrue(events1.isEmpty());
+    }
+
+    @Test
+    void lostSubscriptionIsReportedAsAClear() throws InterruptedException {
+        assertNotEquals(bus1.getNodeId(), bus2.getNodeId());
+        pool.dropSubscriptions();
+        // both nodes reconnect after the backoff and may have missed messages meanwhile
+        assertEquals("clear", events1.poll(5, TimeUnit.SECONDS));
+        assertEquals("clear", events2.poll(5, TimeUnit.SECONDS));
+        awaitSubscribers(2);
+
+        bus1.publishInvalidation("key1");
+        assertEquals("invalidate:key1", events2.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void closeStopsTheSubscriber() throws InterruptedException {
+        bus1.close();
+        awaitSubscribers(1);
+        bus2.publishInvalidation("key1");
+        assertNull(events1.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    private void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (pool.subscribers.size() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(count, pool.subscribers.size());
+    }
+
+    private static InvalidationBus.InvalidationListener<String> recorder(BlockingQueue<String> events) {
+        return new InvalidationBus.InvalidationListener<>() {
+            @Override
+            public void onInvalidate(String key) {
+                events.add("invalidate:" + key);
+            }
+
+            @Override
+            public void onClear() {
+                events.add("clear");
+            }
+        };
+    }
+
+    /**
+     * Pool handing out in-memory connections sharing one pub/sub channel; never connects.
+     */
+    private static class StubPool extends JedisPool {
+        private static final byte[] DROP = new byte[0];
+
+        private final List<BlockingQueue<byte[]>> subscribers = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Jedis getResource() {
+            return new StubJedis(this);
+        }
+
+        private void dropSubscriptions() {
+            subscribers.forEach(queue -> queue.add(DROP));
+        }
+    }
+
+    private static class StubJedis extends Jedis {
+        private final StubPool pool;
+
+        private StubJedis(StubPool pool) {
+            this.pool = pool;
+        }
+
+        @Override
+        public Long publish(byte[] channel, byte[] message) {
+            pool.subscribers.forEach(queue -> queue.add(message));
+            return (long) pool.subscribers.size();
+        }
+
+        @Override
+        public void subscribe(BinaryJedisPubSub jedisPubSub, byte[]... channels) {
+            BlockingQueue<byte[]> queue = new LinkedBlockingQueue<>();
+            jedisPubSub.onSubscribe(channels[0], 1);
+            pool.subscribers.add(queue);
+            try {
+                while (true) {
+                    byte[] message = queue.take();
+                    if (message == StubPool.DROP) {
+                        throw new JedisConnectionException("subscription dropped");
+                    }
+                    jedisPubSub.onMessage(channels[0], message);
+                }
+            } catch (InterruptedException e) {
+                throw new JedisConnectionException("subscriber interrupted", e);
+            } finally {
+                pool.subscribers.remove(queue);
+            }
+        }
+
+        @Override
+        public void close() {
+            // nothing to return, the connection is not pooled
+        }
+    }
+}
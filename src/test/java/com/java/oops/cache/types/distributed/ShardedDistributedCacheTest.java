@@ -0,0 +1,169 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.codec.StringCodec;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ShardedDistributedCacheTest {
+
+    private Map<String, MapShard> shards;
+    private ShardedDistributedCache<String, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        shards = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            shards.put("redis-" + i + ":6379", new MapShard());
+        }
+        cache = new ShardedDistributedCache<>(shards, StringCodec.INSTANCE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void routesEveryKeyToASingleShard() {
+        for (int i = 0; i < 1_000; i++) {
+            cache.put("key" + i, "value" + i);
+        }
+        int total = 0;
+        for (MapShard shard : shards.values()) {
+            assertTrue(shard.data.size() > 100, "keys should be spread over every shard");
+            total += shard.data.size();
+        }
+        assertEquals(1_000, total);
+        assertEquals(Optional.of("value42"), cache.get("key42"));
+        assertTrue(cache.shardFor("key42").get("key42").isPresent());
+        cache.evict("key42");
+        assertEquals(Optional.empty(), cache.get("key42"));
+    }
+
+    @Test
+    void bulkOperationsIssueOneCallPerShard() throws Exception {
+        Map<String, AbstractDistributedCache.CacheEntry<String>> entries = new HashMap<>();
+        for (int i = 0; i < 200; i++) {
+            entries.put("key" + i, new AbstractDistributedCache.CacheEntry<>("value" + i, Duration.ofMinutes(1)));
+        }
+        cache.putAllWithTtl(entries);
+        List<String> keys = new ArrayList<>(entries.keySet());
+        keys.add("missing");
+        Map<String, Optional<String>> result = cache.getAll(keys);
+
+        assertEquals(201, result.size());
+        assertEquals(Optional.of("value7"), result.get("key7"));
+        assertEquals(Optional.empty(), result.get("missing"));
+        for (MapShard shard : shards.values()) {
+            assertEquals(1, shard.putAllCalls.get());
+            assertEquals(1, shard.getAllCalls.get());
+        }
+    }
+
+    @Test
+    void addingAShardMovesAboutOneFifthOfTheKeys() {
+        Map<String, AbstractDistributedCache<String, String>> before = new HashMap<>();
+        for (int i = 0; i < 10_000; i++) {
+            before.put("key" + i, cache.shardFor("key" + i));
+        }
+        MapShard added = new MapShard();
+        cache.addShard("redis-4:6379", added);
+
+        int moved = 0;
+        for (Map.Entry<String, AbstractDistributedCache<String, String>> entry : before.entrySet()) {
+            AbstractDistributedCache<String, String> owner = cache.shardFor(entry.getKey());
+            if (owner != entry.getValue()) {
+                assertSame(added, owner, "keys only move to the new shard");
+                moved++;
+            }
+        }
+        double movedRatio = moved / 10_000.0;
+        assertTrue(movedRatio > 0.1 && movedRatio < 0.3, "moved ratio " + movedRatio);
+
+        cache.removeShard("redis-4:6379");
+        before.forEach((key, owner) -> assertSame(owner, cache.shardFor(key)));
+    }
+
+    @Test
+    void clearRunsOnEveryShard() {
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.clear();
+        shards.values().forEach(shard -> assertTrue(shard.data.isEmpty()));
+    }
+
+    /**
+     * Stand-in for a Redis shard.
+     */
+    private static class MapShard implements AbstractDistributedCache<String, String> {
+        private final Map<String, String> data = new ConcurrentHashMap<>();
+        private final AtomicInteger putAllCalls = new AtomicInteger();
+        private final AtomicInteger getAllCalls = new AtomicInteger();
+
+        @Override
+        public void put(String key, String value) {
+            data.put(key, value);
+        }
+
+        @Override
+        public void put(String key, String value, Duration ttl) {
+            data.put(key, value);
+        }
+
+        @Override
+        public Optional<String> get(String key) {
+            return Optional.ofNullable(data.get(key));
+        }
+
+        @Override
+        public void evict(String key) {
+            data.remove(key);
+        }
+
+        @Override
+        public Boolean acquireLock(String key, String value, Duration timeout) {
+            return data.putIfAbsent(getLockKey(key), value) == null;
+        }
+
+        @Override
+        public Boolean releaseLock(String key) {
+            return data.remove(getLockKey(key)) != null;
+        }
+
+        @Override
+        public String fetchLockValue(String key) {
+            return data.get(getLockKey(key));
+        }
+
+        @Override
+        public void clear() {
+            data.clear();
+        }
+
+        @Override
+        public void putAllWithTtl(Map<String, CacheEntry<String>> entries) {
+            putAllCalls.incrementAndGet();
+            entries.forEach((key, entry) -> data.put(key, entry.getValue()));
+        }
+
+        @Override
+        public Map<String, Optional<String>> getAll(Collection<String> keys) {
+            getAllCalls.incrementAndGet();
+            Map<String, Optional<String>> result = new HashMap<>();
+            keys.forEach(key -> result.put(key, get(key)));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.java.oops.cache.types.distributed;
+
+import com.java.oops.cache.types.ttl.InMemoryTTLCache;
+import org.junit.jupiter.api.*;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TieredCacheTest {
+
+    private MapL2 remote;
+    private BusHub hub;
+    private HubBus bus2;
+    private InMemoryTTLCache<String, String> local1;
+    private InMemoryTTLCache<String, String> local2;
+    private TieredCache<String, String> node1;
+    private TieredCache<String, String> node2;
+
+    @BeforeEach
+    void setUp() {
+        remote = new MapL2();
+        hub = new BusHub();
+        local1 = new InMemoryTTLCache<>(100);
+        local2 = new InMemoryTTLCache<>(100);
+        node1 = new TieredCache<>(local1, remote, hub.join(), Duration.ofMinutes(1));
+        bus2 = hub.join();
+        node2 = new TieredCache<>(local2, remote, bus2, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        node1.close();
+        node2.close();
+    }
+
+    @Test
+    void remoteHitIsCopiedIntoTheLocalCache() {
+        remote.data.put("key1", "value1");
+        assertEquals(Optional.of("value1"), node1.get("key1"));
+        assertEquals(Optional.of("value1"), local1.get("key1"));
+        assertEquals(Optional.of("value1"), node1.get("key1"));
+        assertEquals(1, remote.getCalls.get());
+        assertEquals(Optional.empty(), node1.get("missing"));
+        assertEquals(Optional.empty(), local1.get("missing"));
+    }
+
+    @Test
+    void getAllReadsOnlyTheLocalMissesFromTheRemoteCache() {
+        remote.data.put("key1", "value1");
+        remote.data.put("key2", "value2");
+        node1.get("key1");
+        Map<String, Optional<String>> values = node1.getAll(List.of("key1", "key2", "key3"));
+        assertEquals(Optional.of("value1"), values.get("key1"));
+        assertEquals(Optional.of("value2"), values.get("key2"));
+        assertEquals(Optional.empty(), values.get("key3"));
+        assertEquals(List.of("key2", "key3"), remote.lastGetAllKeys);
+        assertEquals(Optional.of("value2"), local1.get("key2"));
+    }
+
+    @Test
+    void writesOnTheSameNodeUpdateBothTiers() {
+        node1.put("key1", "value1");
+        node1.put("key1", "value2");
+        assertEquals(Optional.of("value2"), local1.get("key1"));
+        assertEquals("value2", remote.data.get("key1"));
+        node1.evict("key1");
+        assertEquals(Optional.empty(), local1.get("key1"));
+        assertEquals(Optional.empty(), node1.get("key1"));
+        // the writer never receives its own invalidations
+        assertEquals(3, hub.delivered.size());
+        hub.delivered.forEach(delivery -> assertSame(bus2, delivery));
+    }
+
+    @Test
+    void writeOnAnotherNodeDropsTheLocalCopy() {
+        node1.put("key1", "value1");
+        assertEquals(Optional.of("value1"), node2.get("key1"));
+        assertEquals(Optional.of("value1"), local2.get("key1"));
+
+        node1.put("key1", "value2");
+        assertEquals(Optional.empty(), local2.get("key1"));
+        assertEquals(Optional.of("value2"), node2.get("key1"));
+
+        node1.evictAll(List.of("key1"));
+        assertEquals(Optional.empty(), local2.get("key1"));
+        assertEquals(Optional.empty(), node2.get("key1"));
+    }
+
+    @Test
+    void clearOnAnotherNodeDropsEveryLocalCopy() {
+        node1.put("key1", "value1");
+        node1.put("key2", "value2");
+        node2.getAll(List.of("key1", "key2"));
+        assertEquals(Optional.of("value2"), local2.get("key2"));
+
+        node1.clear();
+        assertEquals(Optional.empty(), local1.get("key1"));
+        assertEquals(Optional.empty(), local2.get("key1"));
+        assertEquals(Optional.empty(), local2.get("key2"));
+        assertTrue(remote.data.isEmpty());
+        assertEquals(Optional.empty(), node2.get("key1"));
+    }
+
+    @Test
+    void slowRemoteReadDoesNotOverwriteANewerLocalWrite() throws InterruptedException {
+        remote.data.put("key1", "old");
+        CountDownLatch readDone = new CountDownLatch(1);
+        remote.pauseNextGet();
+        Thread reader = new Thread(() -> {
+            node1.get("key1");
+            readDone.countDown();
+        });
+        reader.start();
+        assertTrue(remote.getEntered.await(5, TimeUnit.SECONDS));
+
+        // the reader holds "old" while the key is rewritten
+        node1.put("key1", "new");
+        remote.getGate.countDown();
+        assertTrue(readDone.await(5, TimeUnit.SECONDS));
+
+        assertEquals(Optional.of("new"), local1.get("key1"));
+        assertEquals(Optional.of("new"), node1.get("key1"));
+    }
+
+    @Test
+    void slowRemoteReadDoesNotOutliveAnInvalidationFromAnotherNode() throws InterruptedException {
+        remote.data.put("key1", "old");
+        CountDownLatch readDone = new CountDownLatch(1);
+        remote.pauseNextGet();
+        Thread reader = new Thread(() -> {
+            node2.get("key1");
+            readDone.countDown();
+        });
+        reader.start();
+        assertTrue(remote.getEntered.await(5, TimeUnit.SECONDS));
+
+        node1.put("key1", "new");
+        remote.getGate.countDown();
+        assertTrue(readDone.await(5, TimeUnit.SECONDS));
+
+        assertEquals(Optional.empty(), local2.get("key1"));
+        assertEquals(Optional.of("new"), node2.get("key1"));
+    }
+
+    /**
+     * Map-backed L2 shared by the nodes; the next get can be held after reading its value.
+     */
+    private static class MapL2 implements AbstractDistributedCache<String, String> {
+        private final Map<String, String> data = new ConcurrentHashMap<>();
+        private final AtomicInteger getCalls = new AtomicInteger();
+        private volatile List<String> lastGetAllKeys;
+        private volatile CountDownLatch getEntered;
+        private volatile CountDownLatch getGate;
+        private volatile boolean pauseNextGet;
+
+        private void pauseNextGet() {
+            getEntered = new CountDownLatch(1);
+            getGate = new CountDownLatch(1);
+            pauseNextGet = true;
+        }
+
+        @Override
+        public void put(String key, String value) {
+            data.put(key, value);
+        }
+
+        @Override
+        public void put(String key, String value, Duration ttl) {
+            data.put(key, value);
+        }
+
+        @Override
+        public Optional<String> get(String key) {
+            getCalls.incrementAndGet();
+            Optional<String> value = Optional.ofNullable(data.get(key));
+            if (pauseNextGet) {
+                pauseNextGet = false;
+                getEntered.countDown();
+                try {
+                    getGate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return value;
+        }
+
+        @Override
+        public void evict(String key) {
+            data.remove(key);
+        }
+
+        @Override
+        public Boolean acquireLock(String key, String value, Duration timeout) {
+            return data.putIfAbsent(getLockKey(key), value) == null;
+        }
+
+        @Override
+        public Boolean releaseLock(String key) {
+            return data.remove(getLockKey(key)) != null;
+        }
+
+        @Override
+        public String fetchLockValue(String key) {
+            return data.get(getLockKey(key));
+        }
+
+        @Override
+        public void clear() {
+            data.clear();
+        }
+
+        @Override
+        public void putAllWithTtl(Map<String, CacheEntry<String>> entries) {
+            entries.forEach((key, entry) -> data.put(key, entry.getValue()));
+        }
+
+        @Override
+        public Map<String, Optional<String>> getAll(Collection<String> keys) {
+            lastGetAllKeys = List.copyOf(keys);
+            Map<String, Optional<String>> result = new HashMap<>();
+            keys.forEach(key -> result.put(key, Optional.ofNullable(data.get(key))));
+            return result;
+        }
+    }
+
+    /**
+     * In-process stand-in for the pub/sub channel: delivers synchronously to every other node.
+     */
+    private static class BusHub {
+        private final List<HubBus> buses = new CopyOnWriteArrayList<>();
+        private final List<HubBus> delivered = new CopyOnWriteArrayList<>();
+
+        private HubBus join() {
+            HubBus bus = new HubBus(this);
+            buses.add(bus);
+            return bus;
+        }
+    }
+
+    private static class HubBus implements InvalidationBus<String> {
+        private final BusHub hub;
+        private volatile InvalidationListener<String> listener;
+
+        private HubBus(BusHub hub) {
+            this.hub = hub;
+        }
+
+        @Override
+        public void publishInvalidation(String key) {
+            for (HubBus bus : hub.buses) {
+                if (bus != this && bus.listener != null) {
+                    hub.delivered.add(bus);
+                    bus.listener.onInvalidate(key);
+                }
+            }
+        }
+
+        @Override
+        public void publishClear() {
+            for (HubBus bus : hub.buses) {
+                if (bus != this && bus.listener != null) {
+                    hub.delivered.add(bus);
+                    bus.listener.onClear();
+                }
+            }
+        }
+
+        @Override
+        public void subscribe(InvalidationListener<String> listener) {
+            this.listener = listener;
+        }
+
+        @Override
+        public void close() {
+            hub.buses.remove(this);
+        }
+    }
+}
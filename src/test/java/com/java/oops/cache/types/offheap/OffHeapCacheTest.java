@@ -0,0 +1,142 @@
+package com.java.oops.cache.types.offheap;
+
+import com.java.oops.cache.codec.StringCodec;
+import com.java.oops.cache.eviction.LRUEvictionPolicy;
+import com.java.oops.cache.stats.RemovalCause;
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.time.Duration;
+
+public class OffHeapCacheTest {
+
+    private static final int PAGE_SIZE = 1024;
+
+    private OffHeapCache<String, String> cache;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new OffHeapCache<>(new LRUEvictionPolicy<>(100), 100, 2 * PAGE_SIZE, PAGE_SIZE,
+                StringCodec.INSTANCE);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        cache.put("key1", "value1");
+        assertEquals("value1", cache.get("key1").orElseThrow());
+        assertFalse(cache.get("missing").isPresent());
+        assertEquals(1, cache.size());
+        // 12 byte header plus 6 bytes of value fit the smallest chunk
+        assertEquals(64, cache.usedBytes());
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(1, cache.stats().getMissCount());
+    }
+
+    @Test
+    public void testOverwriteWithValueOfAnotherSizeClass() {
+        cache.put("key1", "small");
+        String large = "x".repeat(100);
+        cache.put("key1", large);
+        assertEquals(large, cache.get("key1").orElseThrow());
+        assertEquals(1, cache.size());
+        // the 64 byte chunk was freed, only the 136 byte chunk is used
+        assertEquals(136, cache.usedBytes());
+        cache.put("key1", "small again");
+        assertEquals("small again", cache.get("key1").orElseThrow());
+        assertEquals(64, cache.usedBytes());
+    }
+
+    @Test
+    public void testTtlExpiryAndRemainingTtl() throws InterruptedException {
+        cache.put("key1", "value1", Duration.ofMillis(200));
+        cache.put("key2", "value2");
+        Duration remaining = cache.remainingTtl("key1").orElseThrow();
+        assertTrue(remaining.toMillis() > 0 && remaining.toMillis() <= 200);
+        assertFalse(cache.remainingTtl("key2").isPresent());
+        assertFalse(cache.remainingTtl("missing").isPresent());
+
+        Thread.sleep(300); // Wait for expiry
+        assertFalse(cache.remainingTtl("key1").isPresent());
+        assertFalse(cache.get("key1").isPresent());
+        assertEquals("value2", cache.get("key2").orElseThrow());
+        assertEquals(1, cache.stats().expirationCount());
+        assertEquals(64, cache.usedBytes());
+    }
+
+    @Test
+    public void testCapacityEviction() {
+        try (OffHeapCache<String, String> small = new OffHeapCache<>(new LRUEvictionPolicy<>(2), 2,
+                2 * PAGE_SIZE, PAGE_SIZE, StringCodec.INSTANCE)) {
+            small.put("key1", "value1");
+            small.put("key2", "value2");
+            small.get("key1");
+            small.put("key3", "value3");
+            assertEquals(2, small.size());
+            assertFalse(small.get("key2").isPresent());
+            assertTrue(small.get("key1").isPresent());
+            assertTrue(small.get("key3").isPresent());
+            assertEquals(1, small.stats().evictionCount(RemovalCause.SIZE));
+            assertEquals(128, small.usedBytes());
+        }
+    }
+
+    @Test
+    public void testOutOfMemoryEvictsUntilAPageIsReassigned() {
+        // 32 small values fill both pages with 64 byte chunks
+        for (int i = 0; i < 32; i++) {
+            cache.put("small" + i, "value" + i);
+        }
+        assertEquals(2 * PAGE_SIZE, cache.reservedBytes());
+
+        // a value needing a whole page evicts the least recently used entries until the first page is empty
+        String large = "x".repeat(PAGE_SIZE - 20);
+        cache.put("large", large);
+        assertEquals(large, cache.get("large").orElseThrow());
+        assertEquals(17, cache.size());
+        assertFalse(cache.get("small0").isPresent());
+        assertFalse(cache.get("small15").isPresent());
+        assertEquals("value16", cache.get("small16").orElseThrow());
+        assertEquals(16, cache.stats().evictionCount(RemovalCause.SIZE));
+        assertEquals(2 * PAGE_SIZE, cache.reservedBytes());
+    }
+
+    @Test
+    public void testValueLargerThanPageIsNotCached() {
+        cache.put("key1", "value1");
+        String huge = "x".repeat(PAGE_SIZE);
+        cache.put("key2", huge);
+        assertFalse(cache.get("key2").isPresent());
+        // overwriting with a value too large drops the previous one
+        cache.put("key1", huge);
+        assertFalse(cache.get("key1").isPresent());
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.usedBytes());
+    }
+
+    @Test
+    public void testEvict() {
+        cache.put("key1", "value1");
+        cache.evict("key1");
+        assertFalse(cache.get("key1").isPresent());
+        assertEquals(0, cache.usedBytes());
+        assertEquals(1, cache.stats().evictionCount(RemovalCause.EXPLICIT));
+    }
+
+    @Test
+    public void testCloseReleasesMemory() {
+        cache.put("key1", "value1");
+        cache.put("key2", "value2", Duration.ofMinutes(1));
+        cache.close();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.usedBytes());
+        assertEquals(0, cache.reservedBytes());
+        assertFalse(cache.get("key1").isPresent());
+        // the cache stays usable and reserves pages again
+        cache.put("key3", "value3");
+        assertEquals("value3", cache.get("key3").orElseThrow());
+    }
+}
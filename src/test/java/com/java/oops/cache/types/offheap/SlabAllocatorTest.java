@@ -0,0 +1,102 @@
+package com.java.oops.cache.types.offheap;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SlabAllocatorTest {
+
+    private static final int PAGE_SIZE = 1024;
+
+    private SlabAllocator allocator;
+
+    @BeforeEach
+    public void setUp() {
+        // two pages; size classes are 64, 80, 104, 136, ... up to 1024 bytes
+        allocator = new SlabAllocator(2 * PAGE_SIZE, PAGE_SIZE);
+    }
+
+    @Test
+    public void testAllocatesChunksOfTheSizeClass() {
+        long first = allocator.allocate(10);
+        long second = allocator.allocate(64);
+        long third = allocator.allocate(65);
+        assertEquals(0, SlabAllocator.offset(first));
+        assertEquals(64, SlabAllocator.offset(second));
+        // 65 bytes belong to the 80 byte class, carved from its own page
+        assertEquals(1, (int) (third >>> 32));
+        assertEquals(0, SlabAllocator.offset(third));
+        assertEquals(64 + 64 + 80, allocator.usedBytes());
+        assertEquals(2 * PAGE_SIZE, allocator.reservedBytes());
+        assertEquals(PAGE_SIZE, allocator.maxChunkSize());
+    }
+
+    @Test
+    public void testChunkAddressesPointIntoTheirPage() {
+        long address = allocator.allocate(16);
+        allocator.page(address).putLong(SlabAllocator.offset(address), 42L);
+        long other = allocator.allocate(16);
+        allocator.page(other).putLong(SlabAllocator.offset(other), 7L);
+        assertEquals(42L, allocator.page(address).getLong(SlabAllocator.offset(address)));
+        assertEquals(7L, allocator.page(other).getLong(SlabAllocator.offset(other)));
+    }
+
+    @Test
+    public void testFreedChunksAreReused() {
+        long address = allocator.allocate(50);
+        allocator.allocate(50);
+        allocator.free(address, 50);
+        assertEquals(64, allocator.usedBytes());
+        assertEquals(address, allocator.allocate(60));
+        assertEquals(128, allocator.usedBytes());
+    }
+
+    @Test
+    public void testRunsOutOfMemory() {
+        // 16 chunks of 64 bytes per page
+        for (int i = 0; i < 32; i++) {
+            assertNotEquals(SlabAllocator.NO_MEMORY, allocator.allocate(64));
+        }
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.allocate(64));
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.allocate(PAGE_SIZE));
+        assertEquals(2 * PAGE_SIZE, allocator.reservedBytes());
+    }
+
+    @Test
+    public void testValueLargerThanPageIsRejected() {
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.allocate(PAGE_SIZE + 1));
+        assertEquals(0, allocator.reservedBytes());
+    }
+
+    @Test
+    public void testEmptyPageIsReassignedToAnotherSizeClass() {
+        long[] small = new long[16];
+        for (int i = 0; i < small.length; i++) {
+            small[i] = allocator.allocate(64);
+        }
+        long large = allocator.allocate(PAGE_SIZE);
+        assertEquals(1, (int) (large >>> 32));
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.allocate(PAGE_SIZE));
+
+        for (long address : small) {
+            allocator.free(address, 64);
+        }
+        // the first page has no live chunk left and goes to the 1024 byte class
+        long reassigned = allocator.allocate(PAGE_SIZE);
+        assertEquals(0, (int) (reassigned >>> 32));
+        assertEquals(2 * PAGE_SIZE, allocator.usedBytes());
+        // the free chunks of the reassigned page were dropped from the 64 byte class
+        assertEquals(SlabAllocator.NO_MEMORY, allocator.allocate(64));
+    }
+
+    @Test
+    public void testReleaseDropsEveryPage() {
+        allocator.allocate(64);
+        allocator.allocate(PAGE_SIZE);
+        allocator.release();
+        assertEquals(0, allocator.usedBytes());
+        assertEquals(0, allocator.reservedBytes());
+        long address = allocator.allocate(64);
+        assertEquals(0L, address);
+        assertEquals(PAGE_SIZE, allocator.reservedBytes());
+    }
+}
@@ -0,0 +1,101 @@
+package com.java.oops.cache.types.threadsafe;
+
+import com.java.oops.cache.types.AbstractCache;
+import com.java.oops.cache.types.InMemoryCache;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ThreadSafeCacheBulkOperationsTest {
+
+    @Test
+    public void testWriteHeavyBulkOperationsMakeOneDelegateCallPerStripe() {
+        CountingCache delegate = new CountingCache();
+        WriteHeavyThreadSafeCache<Integer, String> cache = new WriteHeavyThreadSafeCache<>(delegate, 4);
+        Map<Integer, String> entries = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put(i, "value-" + i);
+        }
+        cache.putAll(entries);
+        Map<Integer, Optional<String>> values = cache.getAll(Arrays.asList(1, 2, 3, 500));
+        cache.evictAll(Arrays.asList(1, 2));
+
+        assertEquals(4, delegate.putAllCalls);
+        assertEquals(4, delegate.getAllCalls);
+        assertEquals(2, delegate.evictAllCalls);
+        assertEquals(Optional.of("value-3"), values.get(3));
+        assertEquals(Optional.empty(), values.get(500));
+        assertEquals(Optional.empty(), cache.get(1));
+        assertEquals(Optional.of("value-4"), cache.get(4));
+    }
+
+    @Test
+    public void testReadHeavyBulkOperationsSkipNullValues() {
+        ReadHeavyThreadSafeCache<String, String> cache = new ReadHeavyThreadSafeCache<>(new InMemoryCache<>(10));
+        Map<String, String> entries = new HashMap<>();
+        entries.put("a", "1");
+        entries.put("b", null);
+        cache.putAll(entries);
+
+        Map<String, Optional<String>> values = cache.getAll(List.of("a", "b"));
+        assertEquals(Optional.of("1"), values.get("a"));
+        assertEquals(Optional.empty(), values.get("b"));
+        assertEquals(1, cache.stats().getHitCount());
+        assertEquals(1, cache.stats().getMissCount());
+
+        cache.evictAll(List.of("a"));
+        assertEquals(Optional.empty(), cache.get("a"));
+        assertThrows(NullPointerException.class, () -> cache.evictAll(new ArrayList<>(Arrays.asList("a", null))));
+    }
+
+    /**
+     * In-memory delegate counting the bulk calls it receives.
+     */
+    private static class CountingCache implements AbstractCache<Integer, String> {
+        private final Map<Integer, String> data = new HashMap<>();
+        private int putAllCalls;
+        private int getAllCalls;
+        private int evictAllCalls;
+
+        @Override
+        public void put(Integer key, String value) {
+            data.put(key, value);
+        }
+
+        @Override
+        public Optional<String> get(Integer key) {
+            return Optional.ofNullable(data.get(key));
+        }
+
+        @Override
+        public void evict(Integer key) {
+            data.remove(key);
+        }
+
+        @Override
+        public Map<Integer, Optional<String>> getAll(Collection<Integer> keys) {
+            getAllCalls++;
+            return AbstractCache.super.getAll(keys);
+        }
+
+        @Override
+        public void putAll(Map<Integer, String> entries) {
+            putAllCalls++;
+            AbstractCache.super.putAll(entries);
+        }
+
+        @Override
+        public void evictAll(Collection<Integer> keys) {
+            evictAllCalls++;
+            AbstractCache.super.evictAll(keys);
+        }
+    }
+}
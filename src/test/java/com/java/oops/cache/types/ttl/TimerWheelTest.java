@@ -0,0 +1,119 @@
+package com.java.oops.cache.types.ttl;
+
+import org.junit.jupiter.api.*;
+import static org.junit.jupiter.api.Assertions.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TimerWheelTest {
+
+    private TimerWheel<String> wheel;
+    private List<String> expired;
+
+    @BeforeEach
+    public void setUp() {
+        wheel = new TimerWheel<>(0);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    public void testExpiresWithinFirstLevel() {
+        wheel.schedule("a", 500);
+        wheel.schedule("b", 3_000);
+        assertEquals(2, wheel.size());
+
+        assertEquals(0, wheel.advance(1_000, expired::add));
+        // a level 0 bucket is handled once its one second tick elapsed
+        assertEquals(1, wheel.advance(1_024, expired::add));
+        assertEquals(List.of("a"), expired);
+        assertEquals(1, wheel.size());
+
+        assertEquals(1, wheel.advance(4_096, expired::add));
+        assertEquals(List.of("a", "b"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testCascadesFromSecondLevel() {
+        // beyond the ~65 seconds covered by level 0
+        wheel.schedule("a", 100_000);
+        // the level 1 bucket is handled at 65536 ms and only moves the entry down to level 0
+        assertEquals(0, wheel.advance(65_536, expired::add));
+        assertEquals(0, wheel.advance(99_000, expired::add));
+        assertEquals(1, wheel.size());
+        assertEquals(1, wheel.advance(101_000, expired::add));
+        assertEquals(List.of("a"), expired);
+    }
+
+    @Test
+    public void testEveryLevelExpiresOnTime() {
+        Map<String, Long> expiries = Map.of(
+                "level0", 40_000L,
+                "level1", 3_000_000L,
+                "level2", 100_000_000L,
+                "level3", 400_000_000L,
+                "overflow", 700_000_000L);
+        expiries.forEach(wheel::schedule);
+        long step = 10_000;
+        Map<String, Long> expiredAt = new HashMap<>();
+        for (long now = step; now <= 800_000_000L; now += step) {
+            long time = now;
+            wheel.advance(now, key -> expiredAt.put(key, time));
+        }
+        assertEquals(0, wheel.size());
+        expiries.forEach((key, expiry) -> {
+            long at = expiredAt.get(key);
+            assertTrue(at >= expiry, key + " expired early at " + at);
+            // at most one level 0 tick late, plus the advance granularity
+            assertTrue(at < expiry + 1_024 + step, key + " expired late at " + at);
+        });
+    }
+
+    @Test
+    public void testLargeAdvanceExpiresEverything() {
+        wheel.schedule("a", 500);
+        wheel.schedule("b", 100_000);
+        wheel.schedule("c", 10_000_000);
+        assertEquals(3, wheel.advance(20_000_000, expired::add));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testRescheduleMovesTheKey() {
+        wheel.schedule("later", 5_000);
+        wheel.schedule("later", 100_000);
+        wheel.schedule("sooner", 100_000);
+        wheel.schedule("sooner", 2_000);
+        assertEquals(2, wheel.size());
+
+        assertEquals(1, wheel.advance(10_000, expired::add));
+        assertEquals(List.of("sooner"), expired);
+        assertEquals(1, wheel.advance(101_376, expired::add));
+        assertEquals(List.of("sooner", "later"), expired);
+    }
+
+    @Test
+    public void testDeschedule() {
+        wheel.schedule("a", 500);
+        wheel.schedule("b", 100_000);
+        wheel.deschedule("a");
+        // after the cascade "b" sits in a level 0 bucket
+        wheel.advance(65_536, expired::add);
+        wheel.deschedule("b");
+        wheel.deschedule("missing");
+        assertEquals(0, wheel.size());
+        assertEquals(0, wheel.advance(1_000_000, expired::add));
+        assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    public void testAdvanceBackwardsIsIgnored() {
+        wheel.advance(10_000, expired::add);
+        wheel.schedule("a", 11_000);
+        assertEquals(0, wheel.advance(5_000, expired::add));
+        assertEquals(1, wheel.size());
+        assertEquals(1, wheel.advance(13_000, expired::add));
+    }
+}